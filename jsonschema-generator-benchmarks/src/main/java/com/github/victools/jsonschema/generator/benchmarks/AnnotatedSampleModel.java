@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import java.util.Map;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+/**
+ * Sample model carrying the Jackson, javax.validation and Swagger annotations supported by the respective modules, mirroring the types in their
+ * integration tests. The same model is being used with and without the modules, so that their overhead can be compared directly.
+ */
+public final class AnnotatedSampleModel {
+
+    /**
+     * Hidden constructor.
+     */
+    private AnnotatedSampleModel() {
+        // no instances needed
+    }
+
+    /**
+     * Main type of the annotated sample model.
+     */
+    @JsonClassDescription("an order")
+    @ApiModel(value = "Order", description = "an order being placed by a customer")
+    public static class SampleOrder {
+
+        @NotNull
+        @Pattern(regexp = "\\d{10}")
+        @JsonPropertyDescription("unique order number")
+        @ApiModelProperty(value = "unique order number")
+        public String orderNumber;
+
+        @Size(min = 5, max = 12)
+        @JsonProperty("customerReference")
+        @ApiModelProperty(name = "customerReference")
+        public String originalCustomerId;
+
+        @NotNull
+        @Email(regexp = ".+@.+\\..+")
+        public String contactEmail;
+
+        @NotEmpty
+        @Size(min = 1, max = 100)
+        public List<SampleLine> lines;
+
+        public SampleStatus status;
+
+        @Min(1)
+        @Max(5)
+        @ApiModelProperty(allowableValues = "range[1, 5]")
+        public int priority;
+
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax(value = "1", inclusive = false)
+        public double discount;
+
+        @ApiModelProperty(value = "current state", allowableValues = "A, B,    C, D")
+        public String state;
+
+        @Null
+        @JsonIgnore
+        @ApiModelProperty(hidden = true)
+        public Object internalState;
+
+        public SamplePayment payment;
+
+        public Map<String, SampleLine> linesBySku;
+    }
+
+    /**
+     * Sample type being referenced as container item.
+     */
+    @ApiModel(description = "a single line of an order")
+    public static class SampleLine {
+
+        @NotBlank
+        @JsonPropertyDescription("stock keeping unit")
+        public String sku;
+
+        @Min(1)
+        @ApiModelProperty(allowableValues = "range(0, 1000)")
+        public int quantity;
+
+        @DecimalMin("0")
+        public double price;
+
+        @NotNull
+        public SampleStatus status;
+    }
+
+    /**
+     * Sample enum with a custom JSON representation.
+     */
+    public enum SampleStatus {
+        OPEN, PAID, SHIPPED, DELIVERED, CANCELLED;
+
+        /**
+         * Getter for the JSON representation of this constant.
+         *
+         * @return lower-case name
+         */
+        @JsonValue
+        public String getJsonValue() {
+            return this.name().toLowerCase();
+        }
+    }
+
+    /**
+     * Abstract sample type, whose subtypes are declared via Jackson annotations.
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "kind")
+    @JsonSubTypes({@JsonSubTypes.Type(value = SampleCardPayment.class, name = "card"),
+            @JsonSubTypes.Type(value = SampleInvoicePayment.class, name = "invoice")})
+    public abstract static class SamplePayment {
+
+        @DecimalMin("0")
+        public double amount;
+    }
+
+    /**
+     * First payment subtype.
+     */
+    public static class SampleCardPayment extends SamplePayment {
+
+        @NotBlank
+        @Size(min = 12, max = 19)
+        public String cardNumber;
+    }
+
+    /**
+     * Second payment subtype.
+     */
+    public static class SampleInvoicePayment extends SamplePayment {
+
+        @NotNull
+        @Email
+        public String invoiceEmail;
+
+        @Min(0)
+        @Max(90)
+        public int paymentTermDays;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.ConfigFunction;
+import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Comparing the dispatching of the configured resolvers/checks for each encountered field: via the immutable array-based tables compiled in
+ * {@link SchemaGeneratorConfigBuilder#build()}, via the builder's mutable {@link SchemaGeneratorConfigPart} (i.e. as it was performed before the
+ * resolvers were being frozen) and via the stream-based look-up as it was performed originally.
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar ConfigResolverBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigResolverBenchmark {
+
+    /**
+     * Number of resolvers registered per kind. The last one of them is returning a value, all others return null (as is the case for most modules).
+     */
+    @Param({"0", "1", "4", "16"})
+    public int resolverCount;
+
+    private SchemaGeneratorConfig config;
+    private SchemaGeneratorConfigPart<FieldScope> fieldConfigPart;
+    private List<ConfigFunction<FieldScope, String>> resolvers;
+    private List<ConfigFunction<FieldScope, Boolean>> nullableChecks;
+    private List<FieldScope> fields;
+
+    /**
+     * Build the configuration and collect the fields to apply it to.
+     */
+    @Setup
+    public void setUp() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON);
+        this.fieldConfigPart = configBuilder.forFields();
+        this.resolvers = new ArrayList<>();
+        this.nullableChecks = new ArrayList<>();
+        for (int index = 1; index <= this.resolverCount; index++) {
+            boolean isLast = index == this.resolverCount;
+            ConfigFunction<FieldScope, String> resolver = field -> isLast ? field.getName() : null;
+            ConfigFunction<FieldScope, Boolean> nullableCheck = field -> isLast ? Boolean.FALSE : null;
+            this.resolvers.add(resolver);
+            this.nullableChecks.add(nullableCheck);
+            this.fieldConfigPart.withTitleResolver(resolver)
+                    .withDescriptionResolver(resolver)
+                    .withStringFormatResolver(resolver)
+                    .withStringPatternResolver(resolver)
+                    .withPropertyNameOverrideResolver(resolver)
+                    .withNullableCheck(nullableCheck)
+                    .withIgnoreCheck(field -> isLast && field.isTransient())
+                    .withRequiredCheck(field -> isLast && field.isFinal());
+        }
+        this.config = configBuilder.build();
+
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        ResolvedTypeWithMembers typeWithMembers = typeContext.resolveWithMembers(typeContext.resolve(SampleType.class));
+        this.fields = new ArrayList<>();
+        for (ResolvedField field : typeWithMembers.getMemberFields()) {
+            this.fields.add(typeContext.createFieldScope(field, typeWithMembers));
+        }
+    }
+
+    /**
+     * Apply the registered field resolvers and checks through the built configuration (i.e. via its frozen array-based tables).
+     *
+     * @param blackhole consumer of the resolved values
+     */
+    @Benchmark
+    public void frozenDispatch(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.config.resolveTitle(field));
+            blackhole.consume(this.config.resolveDescription(field));
+            blackhole.consume(this.config.resolveStringFormat(field));
+            blackhole.consume(this.config.resolveStringPattern(field));
+            blackhole.consume(this.config.resolvePropertyNameOverride(field));
+            blackhole.consume(this.config.isNullable(field));
+            blackhole.consume(this.config.shouldIgnore(field));
+            blackhole.consume(this.config.isRequired(field));
+        }
+    }
+
+    /**
+     * Apply the registered field resolvers and checks through the builder's mutable config part (i.e. via its lists).
+     *
+     * @param blackhole consumer of the resolved values
+     */
+    @Benchmark
+    public void mutableDispatch(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.fieldConfigPart.resolveTitle(field));
+            blackhole.consume(this.fieldConfigPart.resolveDescription(field));
+            blackhole.consume(this.fieldConfigPart.resolveStringFormat(field));
+            blackhole.consume(this.fieldConfigPart.resolveStringPattern(field));
+            blackhole.consume(this.fieldConfigPart.resolvePropertyNameOverride(field));
+            blackhole.consume(this.fieldConfigPart.isNullable(field));
+            blackhole.consume(this.fieldConfigPart.shouldIgnore(field));
+            blackhole.consume(this.fieldConfigPart.isRequired(field));
+        }
+    }
+
+    /**
+     * Apply a single kind of resolver and the nullable checks via indexed loops over plain lists.
+     *
+     * @param blackhole consumer of the resolved values
+     */
+    @Benchmark
+    public void loopDispatch(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(getFirstDefinedValueLoop(this.resolvers, field));
+            blackhole.consume(isNullableLoop(this.nullableChecks, field));
+        }
+    }
+
+    /**
+     * Apply a single kind of resolver and the nullable checks via streams (as in the original implementation).
+     *
+     * @param blackhole consumer of the resolved values
+     */
+    @Benchmark
+    public void streamDispatch(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(getFirstDefinedValueStream(this.resolvers, field));
+            blackhole.consume(isNullableStream(this.nullableChecks, field));
+        }
+    }
+
+    /**
+     * Indexed loop look-up of the first non-null value.
+     *
+     * @param resolvers resolvers to apply
+     * @param scope targeted field
+     * @return first non-null value (or null)
+     */
+    private static String getFirstDefinedValueLoop(List<ConfigFunction<FieldScope, String>> resolvers, FieldScope scope) {
+        for (int index = 0, size = resolvers.size(); index < size; index++) {
+            String result = resolvers.get(index).apply(scope);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indexed loop evaluation of the nullable checks.
+     *
+     * @param checks nullable checks to apply
+     * @param scope targeted field
+     * @return whether any check returned true (or null if all returned null)
+     */
+    private static Boolean isNullableLoop(List<ConfigFunction<FieldScope, Boolean>> checks, FieldScope scope) {
+        Boolean result = null;
+        for (int index = 0, size = checks.size(); index < size; index++) {
+            Boolean checkResult = checks.get(index).apply(scope);
+            if (Boolean.TRUE.equals(checkResult)) {
+                return Boolean.TRUE;
+            }
+            if (checkResult != null) {
+                result = checkResult;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stream-based look-up of the first non-null value.
+     *
+     * @param resolvers resolvers to apply
+     * @param scope targeted field
+     * @return first non-null value (or null)
+     */
+    private static String getFirstDefinedValueStream(List<ConfigFunction<FieldScope, String>> resolvers, FieldScope scope) {
+        return resolvers.stream()
+                .map(resolver -> resolver.apply(scope))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Stream-based evaluation of the nullable checks.
+     *
+     * @param checks nullable checks to apply
+     * @param scope targeted field
+     * @return whether any check returned true (or null if all returned null)
+     */
+    private static Boolean isNullableStream(List<ConfigFunction<FieldScope, Boolean>> checks, FieldScope scope) {
+        Set<Boolean> result = checks.stream()
+                .map(check -> check.apply(scope))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return result.isEmpty() ? null : result.stream().anyMatch(value -> value);
+    }
+
+    /**
+     * Type whose fields are being targeted in each benchmark iteration.
+     */
+    private static class SampleType {
+
+        private String name;
+        private transient String cachedDisplayName;
+        private final int version = 1;
+        private List<String> tags;
+        private Double weight;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import com.github.victools.jsonschema.generator.impl.DefinitionKey;
+import com.github.victools.jsonschema.generator.impl.SchemaGenerationContextImpl;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measuring the look-up of already collected definitions in the {@link SchemaGenerationContextImpl}, which is being performed for every encountered
+ * type, as well as a whole schema generation for comparison. Both are meant to be run with JMH's allocation profiler, in order to compare the
+ * allocated bytes per operation ({@code gc.alloc.rate.norm}): the definition look-up itself should not allocate anything.
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar DefinitionLookupBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionLookupBenchmark {
+
+    private SchemaGenerator generator;
+    private SchemaGenerationContextImpl generationContext;
+    private ResolvedType[] definedTypes;
+
+    /**
+     * Populate a generation context with the sample model and collect the types for which definitions were created.
+     */
+    @Setup
+    public void setUp() {
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS)
+                .build();
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        this.generator = new SchemaGenerator(config, typeContext);
+        this.generationContext = new SchemaGenerationContextImpl(config, typeContext);
+        this.generationContext.parseType(typeContext.resolve(SampleOrder.class));
+        this.definedTypes = this.generationContext.getDefinedTypes().stream()
+                .map(DefinitionKey::getType)
+                .toArray(ResolvedType[]::new);
+    }
+
+    /**
+     * Look-up whether the generation context contains a definition for each of the collected types.
+     *
+     * @param blackhole consumer of the look-up results
+     */
+    @Benchmark
+    public void containsDefinition(Blackhole blackhole) {
+        for (ResolvedType type : this.definedTypes) {
+            blackhole.consume(this.generationContext.containsDefinition(type, null));
+        }
+    }
+
+    /**
+     * Generate the whole schema for the sample model.
+     *
+     * @param blackhole consumer of the generated schema
+     */
+    @Benchmark
+    public void generateSchema(Blackhole blackhole) {
+        blackhole.consume(this.generator.generateSchema(SampleOrder.class));
+    }
+
+    /**
+     * Main type of the sample model.
+     */
+    private static class SampleOrder {
+
+        public String orderNumber;
+        public SampleCustomer customer;
+        public SampleAddress shippingAddress;
+        public List<SampleLine> lines;
+        public Map<String, SamplePage<SampleLine>> lineGroups;
+        public SamplePage<SampleCustomer> relatedCustomers;
+    }
+
+    /**
+     * Sample type being referenced directly and via a generic type.
+     */
+    private static class SampleCustomer {
+
+        public String name;
+        public SampleAddress billingAddress;
+        public List<SampleAddress> alternativeAddresses;
+    }
+
+    /**
+     * Sample type being referenced multiple times.
+     */
+    private static class SampleAddress {
+
+        public String street;
+        public String city;
+        public SampleCountry country;
+    }
+
+    /**
+     * Sample type being referenced from different nesting levels.
+     */
+    private static class SampleCountry {
+
+        public String isoCode;
+        public String name;
+    }
+
+    /**
+     * Sample type being referenced as container item.
+     */
+    private static class SampleLine {
+
+        public SampleProduct product;
+        public int quantity;
+        public double price;
+    }
+
+    /**
+     * Sample type being referenced only once.
+     */
+    private static class SampleProduct {
+
+        public String sku;
+        public String description;
+        public SampleCountry origin;
+    }
+
+    /**
+     * Generic sample type with multiple parameterizations.
+     *
+     * @param <T> type of the contained items
+     */
+    private static class SamplePage<T> {
+
+        public List<T> items;
+        public int totalCount;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measuring a whole {@link SchemaGenerator#generateSchema(java.lang.reflect.Type, java.lang.reflect.Type...) SchemaGenerator.generateSchema()}
+ * for each of the representative {@link ModelShape}s, under each of the standard {@link OptionPreset}s and {@link SchemaVersion}s.
+ * <br>
+ * A new generator is being used for each combination, but it is being re-used across the invocations. I.e. the caches in its {@code TypeContext}
+ * are populated after the first invocation, as they would be in a long-running application.
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar GenerateSchemaBenchmark -prof gc} or via this class' main method (including the allocation
+ * profiler), optionally selecting a subset of the parameters, e.g. {@code -p shape=DEEP_NESTING -p preset=PLAIN_JSON}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerateSchemaBenchmark {
+
+    @Param
+    private ModelShape shape;
+
+    @Param({"FULL_DOCUMENTATION", "PLAIN_JSON", "JAVA_OBJECT"})
+    private String preset;
+
+    @Param
+    private SchemaVersion schemaVersion;
+
+    private SchemaGenerator generator;
+
+    /**
+     * Run this benchmark with the allocation profiler being enabled.
+     *
+     * @param args ignored
+     * @throws RunnerException if the benchmark could not be run
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GenerateSchemaBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /**
+     * Look-up the standard option preset with the given name.
+     *
+     * @param presetName name of the constant in {@link OptionPreset}
+     * @return option preset
+     */
+    static OptionPreset getOptionPreset(String presetName) {
+        switch (presetName) {
+        case "FULL_DOCUMENTATION":
+            return OptionPreset.FULL_DOCUMENTATION;
+        case "PLAIN_JSON":
+            return OptionPreset.PLAIN_JSON;
+        case "JAVA_OBJECT":
+            return OptionPreset.JAVA_OBJECT;
+        default:
+            throw new IllegalArgumentException("unsupported option preset: " + presetName);
+        }
+    }
+
+    /**
+     * Create the generator for the current combination of parameters.
+     */
+    @Setup
+    public void setUp() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), this.schemaVersion,
+                getOptionPreset(this.preset));
+        this.shape.applyTo(configBuilder);
+        this.generator = new SchemaGenerator(configBuilder.build());
+    }
+
+    /**
+     * Generate the schema for the current model shape.
+     *
+     * @return generated schema
+     */
+    @Benchmark
+    public JsonNode generateSchema() {
+        return this.generator.generateSchema(this.shape.getMainType());
+    }
+}
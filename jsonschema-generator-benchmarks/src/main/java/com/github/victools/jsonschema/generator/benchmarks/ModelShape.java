@@ -0,0 +1,462 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Representative shapes of models for which schemas are being generated in the benchmarks, each with its main type and the configuration it
+ * requires (if any).
+ */
+public enum ModelShape {
+    /**
+     * Single type with many fields of (mostly) simple types.
+     */
+    WIDE_FLAT(SampleWideDto.class),
+    /**
+     * Chain of types, each nesting the next one.
+     */
+    DEEP_NESTING(SampleLevelA.class),
+    /**
+     * Type with various parameterizations of generic wrapper types (including nested and recursive ones).
+     */
+    GENERIC_WRAPPERS(SampleGenericHolder.class),
+    /**
+     * Type referencing an abstract base type, whose subtypes are being listed via a {@link com.github.victools.jsonschema.generator.SubtypeResolver}.
+     */
+    POLYMORPHIC(SamplePolymorphicHolder.class) {
+        @Override
+        public void applyTo(SchemaGeneratorConfigBuilder configBuilder) {
+            configBuilder.forTypesInGeneral()
+                    .withSubtypeResolver((declaredType, context) -> declaredType.getErasedType() == SampleShape.class
+                    ? Arrays.asList(context.getTypeContext().resolveSubtype(declaredType, SampleCircle.class),
+                            context.getTypeContext().resolveSubtype(declaredType, SampleRectangle.class),
+                            context.getTypeContext().resolveSubtype(declaredType, SampleTriangle.class),
+                            context.getTypeContext().resolveSubtype(declaredType, SampleShapeGroup.class))
+                    : null);
+        }
+    },
+    /**
+     * Type referencing enums with many constants.
+     */
+    LARGE_ENUM(SampleEnumHolder.class);
+
+    private final Class<?> mainType;
+
+    /**
+     * Constructor.
+     *
+     * @param mainType type to generate the schema for
+     */
+    ModelShape(Class<?> mainType) {
+        this.mainType = mainType;
+    }
+
+    /**
+     * Getter for the type to generate the schema for.
+     *
+     * @return main type
+     */
+    public Class<?> getMainType() {
+        return this.mainType;
+    }
+
+    /**
+     * Add the configuration required by this model shape, if any.
+     *
+     * @param configBuilder configuration builder to modify
+     */
+    public void applyTo(SchemaGeneratorConfigBuilder configBuilder) {
+        // no special configuration required by default
+    }
+
+    /**
+     * Wide sample type.
+     */
+    public static class SampleWideDto {
+
+        public String field01;
+        public int field02;
+        public long field03;
+        public double field04;
+        public boolean field05;
+        public Integer field06;
+        public Long field07;
+        public Double field08;
+        public Boolean field09;
+        public Double field10;
+        public Character field11;
+        public Short field12;
+        public Float field13;
+        public char field14;
+        public short field15;
+        public float field16;
+        public String field17;
+        public int field18;
+        public long field19;
+        public double field20;
+        public boolean field21;
+        public Integer field22;
+        public Long field23;
+        public Double field24;
+        public Boolean field25;
+        public Double field26;
+        public Character field27;
+        public Short field28;
+        public Float field29;
+        public char field30;
+        public short field31;
+        public float field32;
+        public String field33;
+        public int field34;
+        public long field35;
+        public double field36;
+        public boolean field37;
+        public Integer field38;
+        public Long field39;
+        public Double field40;
+        public Boolean field41;
+        public Double field42;
+        public Character field43;
+        public Short field44;
+        public Float field45;
+        public char field46;
+        public short field47;
+        public float field48;
+        public List<String> tags;
+        public Map<String, String> attributes;
+    }
+
+    /**
+     * Nesting level 1 of the sample type chain.
+     */
+    public static class SampleLevelA {
+
+        public String name01;
+        public int index01;
+        public SampleLevelB child;
+    }
+
+    /**
+     * Nesting level 2 of the sample type chain.
+     */
+    public static class SampleLevelB {
+
+        public String name02;
+        public int index02;
+        public SampleLevelC child;
+    }
+
+    /**
+     * Nesting level 3 of the sample type chain.
+     */
+    public static class SampleLevelC {
+
+        public String name03;
+        public int index03;
+        public SampleLevelD child;
+    }
+
+    /**
+     * Nesting level 4 of the sample type chain.
+     */
+    public static class SampleLevelD {
+
+        public String name04;
+        public int index04;
+        public SampleLevelE child;
+    }
+
+    /**
+     * Nesting level 5 of the sample type chain.
+     */
+    public static class SampleLevelE {
+
+        public String name05;
+        public int index05;
+        public SampleLevelF child;
+    }
+
+    /**
+     * Nesting level 6 of the sample type chain.
+     */
+    public static class SampleLevelF {
+
+        public String name06;
+        public int index06;
+        public SampleLevelG child;
+    }
+
+    /**
+     * Nesting level 7 of the sample type chain.
+     */
+    public static class SampleLevelG {
+
+        public String name07;
+        public int index07;
+        public SampleLevelH child;
+    }
+
+    /**
+     * Nesting level 8 of the sample type chain.
+     */
+    public static class SampleLevelH {
+
+        public String name08;
+        public int index08;
+        public SampleLevelI child;
+    }
+
+    /**
+     * Nesting level 9 of the sample type chain.
+     */
+    public static class SampleLevelI {
+
+        public String name09;
+        public int index09;
+        public SampleLevelJ child;
+    }
+
+    /**
+     * Nesting level 10 of the sample type chain.
+     */
+    public static class SampleLevelJ {
+
+        public String name10;
+        public int index10;
+        public SampleLevelK child;
+    }
+
+    /**
+     * Nesting level 11 of the sample type chain.
+     */
+    public static class SampleLevelK {
+
+        public String name11;
+        public int index11;
+        public SampleLevelL child;
+    }
+
+    /**
+     * Nesting level 12 of the sample type chain.
+     */
+    public static class SampleLevelL {
+
+        public String name12;
+        public int index12;
+    }
+
+    /**
+     * Sample type holding different parameterizations of the generic wrapper types.
+     */
+    public static class SampleGenericHolder {
+
+        public SamplePage<SampleItem> itemPage;
+        public SamplePage<SamplePair<String, SampleItem>> pairPage;
+        public SampleResult<SamplePage<SampleItem>, String> pageResult;
+        public SampleResult<List<SampleItem>, Integer> listResult;
+        public Map<String, SamplePair<Long, Optional<SampleItem>>> pairsByKey;
+        public SampleTree<SampleItem> itemTree;
+        public SampleTree<String> textTree;
+    }
+
+    /**
+     * Generic page of items.
+     *
+     * @param <T> type of the contained items
+     */
+    public static class SamplePage<T> {
+
+        public List<T> items;
+        public int totalCount;
+        public String cursor;
+    }
+
+    /**
+     * Generic pair of values.
+     *
+     * @param <K> type of the first value
+     * @param <V> type of the second value
+     */
+    public static class SamplePair<K, V> {
+
+        public K key;
+        public V value;
+    }
+
+    /**
+     * Generic result wrapper.
+     *
+     * @param <R> type of the successful result
+     * @param <E> type of the error details
+     */
+    public static class SampleResult<R, E> {
+
+        public R result;
+        public List<E> errors;
+        public boolean success;
+    }
+
+    /**
+     * Generic recursive type.
+     *
+     * @param <T> type of the node values
+     */
+    public static class SampleTree<T> {
+
+        public T value;
+        public List<SampleTree<T>> children;
+    }
+
+    /**
+     * Simple sample type being wrapped in the generic types.
+     */
+    public static class SampleItem {
+
+        public String name;
+        public double price;
+    }
+
+    /**
+     * Sample type referencing the abstract base type in different ways.
+     */
+    public static class SamplePolymorphicHolder {
+
+        public SampleShape mainShape;
+        public List<SampleShape> shapes;
+        public Map<String, SampleShape> shapesByName;
+    }
+
+    /**
+     * Abstract base type of the polymorphic hierarchy.
+     */
+    public abstract static class SampleShape {
+
+        public String name;
+        public String color;
+    }
+
+    /**
+     * First subtype.
+     */
+    public static class SampleCircle extends SampleShape {
+
+        public double radius;
+    }
+
+    /**
+     * Second subtype.
+     */
+    public static class SampleRectangle extends SampleShape {
+
+        public double width;
+        public double height;
+    }
+
+    /**
+     * Third subtype.
+     */
+    public static class SampleTriangle extends SampleShape {
+
+        public double sideA;
+        public double sideB;
+        public double sideC;
+    }
+
+    /**
+     * Fourth subtype, referencing the base type again.
+     */
+    public static class SampleShapeGroup extends SampleShape {
+
+        public List<SampleShape> members;
+    }
+
+    /**
+     * Sample type referencing the large enums in different ways.
+     */
+    public static class SampleEnumHolder {
+
+        public SampleLargeEnum single;
+        public SampleLargeEnum[] array;
+        public Set<SampleLargeEnum> set;
+        public Map<String, SampleLargeEnum> byName;
+        public SampleOtherLargeEnum other;
+    }
+
+    /**
+     * Enum with many constants.
+     */
+    public enum SampleLargeEnum {
+        CONSTANT_001, CONSTANT_002, CONSTANT_003, CONSTANT_004, CONSTANT_005, CONSTANT_006, CONSTANT_007, CONSTANT_008, CONSTANT_009,
+        CONSTANT_010, CONSTANT_011, CONSTANT_012, CONSTANT_013, CONSTANT_014, CONSTANT_015, CONSTANT_016, CONSTANT_017, CONSTANT_018,
+        CONSTANT_019, CONSTANT_020, CONSTANT_021, CONSTANT_022, CONSTANT_023, CONSTANT_024, CONSTANT_025, CONSTANT_026, CONSTANT_027,
+        CONSTANT_028, CONSTANT_029, CONSTANT_030, CONSTANT_031, CONSTANT_032, CONSTANT_033, CONSTANT_034, CONSTANT_035, CONSTANT_036,
+        CONSTANT_037, CONSTANT_038, CONSTANT_039, CONSTANT_040, CONSTANT_041, CONSTANT_042, CONSTANT_043, CONSTANT_044, CONSTANT_045,
+        CONSTANT_046, CONSTANT_047, CONSTANT_048, CONSTANT_049, CONSTANT_050, CONSTANT_051, CONSTANT_052, CONSTANT_053, CONSTANT_054,
+        CONSTANT_055, CONSTANT_056, CONSTANT_057, CONSTANT_058, CONSTANT_059, CONSTANT_060, CONSTANT_061, CONSTANT_062, CONSTANT_063,
+        CONSTANT_064, CONSTANT_065, CONSTANT_066, CONSTANT_067, CONSTANT_068, CONSTANT_069, CONSTANT_070, CONSTANT_071, CONSTANT_072,
+        CONSTANT_073, CONSTANT_074, CONSTANT_075, CONSTANT_076, CONSTANT_077, CONSTANT_078, CONSTANT_079, CONSTANT_080, CONSTANT_081,
+        CONSTANT_082, CONSTANT_083, CONSTANT_084, CONSTANT_085, CONSTANT_086, CONSTANT_087, CONSTANT_088, CONSTANT_089, CONSTANT_090,
+        CONSTANT_091, CONSTANT_092, CONSTANT_093, CONSTANT_094, CONSTANT_095, CONSTANT_096, CONSTANT_097, CONSTANT_098, CONSTANT_099,
+        CONSTANT_100, CONSTANT_101, CONSTANT_102, CONSTANT_103, CONSTANT_104, CONSTANT_105, CONSTANT_106, CONSTANT_107, CONSTANT_108,
+        CONSTANT_109, CONSTANT_110, CONSTANT_111, CONSTANT_112, CONSTANT_113, CONSTANT_114, CONSTANT_115, CONSTANT_116, CONSTANT_117,
+        CONSTANT_118, CONSTANT_119, CONSTANT_120, CONSTANT_121, CONSTANT_122, CONSTANT_123, CONSTANT_124, CONSTANT_125, CONSTANT_126,
+        CONSTANT_127, CONSTANT_128, CONSTANT_129, CONSTANT_130, CONSTANT_131, CONSTANT_132, CONSTANT_133, CONSTANT_134, CONSTANT_135,
+        CONSTANT_136, CONSTANT_137, CONSTANT_138, CONSTANT_139, CONSTANT_140, CONSTANT_141, CONSTANT_142, CONSTANT_143, CONSTANT_144,
+        CONSTANT_145, CONSTANT_146, CONSTANT_147, CONSTANT_148, CONSTANT_149, CONSTANT_150, CONSTANT_151, CONSTANT_152, CONSTANT_153,
+        CONSTANT_154, CONSTANT_155, CONSTANT_156, CONSTANT_157, CONSTANT_158, CONSTANT_159, CONSTANT_160, CONSTANT_161, CONSTANT_162,
+        CONSTANT_163, CONSTANT_164, CONSTANT_165, CONSTANT_166, CONSTANT_167, CONSTANT_168, CONSTANT_169, CONSTANT_170, CONSTANT_171,
+        CONSTANT_172, CONSTANT_173, CONSTANT_174, CONSTANT_175, CONSTANT_176, CONSTANT_177, CONSTANT_178, CONSTANT_179, CONSTANT_180,
+        CONSTANT_181, CONSTANT_182, CONSTANT_183, CONSTANT_184, CONSTANT_185, CONSTANT_186, CONSTANT_187, CONSTANT_188, CONSTANT_189,
+        CONSTANT_190, CONSTANT_191, CONSTANT_192, CONSTANT_193, CONSTANT_194, CONSTANT_195, CONSTANT_196, CONSTANT_197, CONSTANT_198,
+        CONSTANT_199, CONSTANT_200;
+    }
+
+    /**
+     * Another enum with many constants.
+     */
+    public enum SampleOtherLargeEnum {
+        CONSTANT_001, CONSTANT_002, CONSTANT_003, CONSTANT_004, CONSTANT_005, CONSTANT_006, CONSTANT_007, CONSTANT_008, CONSTANT_009,
+        CONSTANT_010, CONSTANT_011, CONSTANT_012, CONSTANT_013, CONSTANT_014, CONSTANT_015, CONSTANT_016, CONSTANT_017, CONSTANT_018,
+        CONSTANT_019, CONSTANT_020, CONSTANT_021, CONSTANT_022, CONSTANT_023, CONSTANT_024, CONSTANT_025, CONSTANT_026, CONSTANT_027,
+        CONSTANT_028, CONSTANT_029, CONSTANT_030, CONSTANT_031, CONSTANT_032, CONSTANT_033, CONSTANT_034, CONSTANT_035, CONSTANT_036,
+        CONSTANT_037, CONSTANT_038, CONSTANT_039, CONSTANT_040, CONSTANT_041, CONSTANT_042, CONSTANT_043, CONSTANT_044, CONSTANT_045,
+        CONSTANT_046, CONSTANT_047, CONSTANT_048, CONSTANT_049, CONSTANT_050, CONSTANT_051, CONSTANT_052, CONSTANT_053, CONSTANT_054,
+        CONSTANT_055, CONSTANT_056, CONSTANT_057, CONSTANT_058, CONSTANT_059, CONSTANT_060, CONSTANT_061, CONSTANT_062, CONSTANT_063,
+        CONSTANT_064, CONSTANT_065, CONSTANT_066, CONSTANT_067, CONSTANT_068, CONSTANT_069, CONSTANT_070, CONSTANT_071, CONSTANT_072,
+        CONSTANT_073, CONSTANT_074, CONSTANT_075, CONSTANT_076, CONSTANT_077, CONSTANT_078, CONSTANT_079, CONSTANT_080, CONSTANT_081,
+        CONSTANT_082, CONSTANT_083, CONSTANT_084, CONSTANT_085, CONSTANT_086, CONSTANT_087, CONSTANT_088, CONSTANT_089, CONSTANT_090,
+        CONSTANT_091, CONSTANT_092, CONSTANT_093, CONSTANT_094, CONSTANT_095, CONSTANT_096, CONSTANT_097, CONSTANT_098, CONSTANT_099,
+        CONSTANT_100, CONSTANT_101, CONSTANT_102, CONSTANT_103, CONSTANT_104, CONSTANT_105, CONSTANT_106, CONSTANT_107, CONSTANT_108,
+        CONSTANT_109, CONSTANT_110, CONSTANT_111, CONSTANT_112, CONSTANT_113, CONSTANT_114, CONSTANT_115, CONSTANT_116, CONSTANT_117,
+        CONSTANT_118, CONSTANT_119, CONSTANT_120, CONSTANT_121, CONSTANT_122, CONSTANT_123, CONSTANT_124, CONSTANT_125, CONSTANT_126,
+        CONSTANT_127, CONSTANT_128, CONSTANT_129, CONSTANT_130, CONSTANT_131, CONSTANT_132, CONSTANT_133, CONSTANT_134, CONSTANT_135,
+        CONSTANT_136, CONSTANT_137, CONSTANT_138, CONSTANT_139, CONSTANT_140, CONSTANT_141, CONSTANT_142, CONSTANT_143, CONSTANT_144,
+        CONSTANT_145, CONSTANT_146, CONSTANT_147, CONSTANT_148, CONSTANT_149, CONSTANT_150, CONSTANT_151, CONSTANT_152, CONSTANT_153,
+        CONSTANT_154, CONSTANT_155, CONSTANT_156, CONSTANT_157, CONSTANT_158, CONSTANT_159, CONSTANT_160, CONSTANT_161, CONSTANT_162,
+        CONSTANT_163, CONSTANT_164, CONSTANT_165, CONSTANT_166, CONSTANT_167, CONSTANT_168, CONSTANT_169, CONSTANT_170, CONSTANT_171,
+        CONSTANT_172, CONSTANT_173, CONSTANT_174, CONSTANT_175, CONSTANT_176, CONSTANT_177, CONSTANT_178, CONSTANT_179, CONSTANT_180,
+        CONSTANT_181, CONSTANT_182, CONSTANT_183, CONSTANT_184, CONSTANT_185, CONSTANT_186, CONSTANT_187, CONSTANT_188, CONSTANT_189,
+        CONSTANT_190, CONSTANT_191, CONSTANT_192, CONSTANT_193, CONSTANT_194, CONSTANT_195, CONSTANT_196, CONSTANT_197, CONSTANT_198,
+        CONSTANT_199, CONSTANT_200;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.module.jackson.JacksonModule;
+import com.github.victools.jsonschema.module.jackson.JacksonOption;
+import com.github.victools.jsonschema.module.javax.validation.JavaxValidationModule;
+import com.github.victools.jsonschema.module.javax.validation.JavaxValidationOption;
+import com.github.victools.jsonschema.module.swagger15.SwaggerModule;
+import com.github.victools.jsonschema.module.swagger15.SwaggerOption;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measuring the overhead of the {@link JacksonModule}, {@link JavaxValidationModule} and {@link SwaggerModule}: generating the schema for the same
+ * annotated sample model without any module, with each module alone (the Jackson one also with {@link JacksonOption#FLATTENED_ENUMS_FROM_JSONVALUE}
+ * and {@link JacksonOption#SKIP_SUBTYPE_LOOKUP}) and with all of them together.
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar ModuleOverheadBenchmark -prof gc} or via this class' main method (including the allocation
+ * profiler), optionally selecting a subset of the module setups, e.g. {@code -p modules=NONE,ALL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModuleOverheadBenchmark {
+
+    @Param
+    private ModuleSetup modules;
+
+    @Param({"PLAIN_JSON", "FULL_DOCUMENTATION"})
+    private String preset;
+
+    private SchemaGenerator generator;
+
+    /**
+     * Run this benchmark with the allocation profiler being enabled.
+     *
+     * @param args ignored
+     * @throws RunnerException if the benchmark could not be run
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ModuleOverheadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /**
+     * Create the generator for the current combination of parameters.
+     */
+    @Setup
+    public void setUp() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                GenerateSchemaBenchmark.getOptionPreset(this.preset));
+        this.modules.applyTo(configBuilder);
+        this.generator = new SchemaGenerator(configBuilder.build());
+    }
+
+    /**
+     * Generate the schema for the annotated sample model.
+     *
+     * @return generated schema
+     */
+    @Benchmark
+    public JsonNode generateSchema() {
+        return this.generator.generateSchema(AnnotatedSampleModel.SampleOrder.class);
+    }
+
+    /**
+     * Combinations of modules to compare.
+     */
+    public enum ModuleSetup {
+        /**
+         * No module at all, as baseline.
+         */
+        NONE,
+        /**
+         * Only the {@link JacksonModule} without any options.
+         */
+        JACKSON,
+        /**
+         * Only the {@link JacksonModule} with {@link JacksonOption#FLATTENED_ENUMS_FROM_JSONVALUE}.
+         */
+        JACKSON_FLATTENED_ENUMS_FROM_JSONVALUE(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE),
+        /**
+         * Only the {@link JacksonModule} with {@link JacksonOption#SKIP_SUBTYPE_LOOKUP}.
+         */
+        JACKSON_SKIP_SUBTYPE_LOOKUP(JacksonOption.SKIP_SUBTYPE_LOOKUP),
+        /**
+         * Only the {@link JavaxValidationModule} with all options that are also being enabled in its integration test.
+         */
+        JAVAX_VALIDATION,
+        /**
+         * Only the {@link SwaggerModule} with all options that are also being enabled in its integration test.
+         */
+        SWAGGER,
+        /**
+         * All three modules together (the {@link JacksonModule} with {@link JacksonOption#FLATTENED_ENUMS_FROM_JSONVALUE}).
+         */
+        ALL(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE);
+
+        private final JacksonOption[] jacksonOptions;
+
+        /**
+         * Constructor.
+         *
+         * @param jacksonOptions options to apply to the {@link JacksonModule} (if it is included)
+         */
+        ModuleSetup(JacksonOption... jacksonOptions) {
+            this.jacksonOptions = jacksonOptions;
+        }
+
+        /**
+         * Register the respective modules.
+         *
+         * @param configBuilder configuration builder to modify
+         */
+        void applyTo(SchemaGeneratorConfigBuilder configBuilder) {
+            if (this == NONE) {
+                return;
+            }
+            if (this == ALL || this.name().startsWith("JACKSON")) {
+                configBuilder.with(new JacksonModule(this.jacksonOptions));
+            }
+            if (this == ALL || this == JAVAX_VALIDATION) {
+                configBuilder.with(new JavaxValidationModule(JavaxValidationOption.NOT_NULLABLE_FIELD_IS_REQUIRED,
+                        JavaxValidationOption.NOT_NULLABLE_METHOD_IS_REQUIRED, JavaxValidationOption.INCLUDE_PATTERN_EXPRESSIONS));
+            }
+            if (this == ALL || this == SWAGGER) {
+                configBuilder.with(new SwaggerModule(SwaggerOption.ENABLE_PROPERTY_NAME_OVERRIDES, SwaggerOption.IGNORING_HIDDEN_PROPERTIES));
+            }
+        }
+    }
+}
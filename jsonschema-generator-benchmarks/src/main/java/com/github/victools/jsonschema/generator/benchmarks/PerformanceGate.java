@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Performance regression gate: running the (small and fast) subset of benchmarks listed in a checked-in baseline file and comparing their results
+ * against the baseline values. Intended to be invoked via the {@code perf-gate} Maven profile of this module.
+ * <br>
+ * The baseline file contains one entry per benchmark method and parameter combination, e.g.:
+ * <pre>
+ * {"benchmarks": [{
+ *     "benchmark": "com.github.victools.jsonschema.generator.benchmarks.GenerateSchemaBenchmark.generateSchema",
+ *     "params": {"shape": "WIDE_FLAT", "preset": "PLAIN_JSON", "schemaVersion": "DRAFT_2019_09"},
+ *     "mode": "avgt", "score": 120.5, "scoreUnit": "us/op", "allocation": 123456.0
+ * }]}
+ * </pre>
+ * The gate fails if the throughput dropped (i.e. the average time rose, for {@code avgt} entries) by more than the throughput tolerance or if the
+ * allocated bytes per operation ({@code gc.alloc.rate.norm}) rose by more than the allocation tolerance (plus a few bytes, to cater for
+ * measurement noise around allocation-free benchmarks). It also fails if a score is being reported in another unit than in the baseline, e.g. after
+ * changing a benchmark's output time unit, which requires the baseline to be re-recorded. The outcome of each comparison is being written to a JSON
+ * report.
+ * <br>
+ * Arguments: {@code <baseline file> <report file> <throughput tolerance> <allocation tolerance> [update]}, with the tolerances as fractions (e.g.
+ * {@code 0.25} for 25%). If the optional fifth argument is {@code true}, the baseline file is being overwritten with the measured results instead.
+ */
+public final class PerformanceGate {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    /**
+     * Absolute increase of the allocated bytes per operation that is always being tolerated, e.g. for benchmarks that are (almost) allocation-free.
+     */
+    private static final double ALLOCATION_NOISE_BYTES = 16;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final double throughputTolerance;
+    private final double allocationTolerance;
+
+    /**
+     * Constructor.
+     *
+     * @param throughputTolerance acceptable fraction by which the throughput may drop
+     * @param allocationTolerance acceptable fraction by which the allocated bytes per operation may rise
+     */
+    PerformanceGate(double throughputTolerance, double allocationTolerance) {
+        this.throughputTolerance = throughputTolerance;
+        this.allocationTolerance = allocationTolerance;
+    }
+
+    /**
+     * Run the performance gate.
+     *
+     * @param args baseline file, report file, throughput tolerance, allocation tolerance and optional flag for updating the baseline
+     * @throws IOException if the baseline could not be read or the report could not be written
+     * @throws RunnerException if a benchmark could not be run
+     */
+    public static void main(String[] args) throws IOException, RunnerException {
+        if (args.length < 4) {
+            throw new IllegalArgumentException(
+                    "expected arguments: <baseline file> <report file> <throughput tolerance> <allocation tolerance> [update]");
+        }
+        File baselineFile = new File(args[0]);
+        File reportFile = new File(args[1]);
+        PerformanceGate gate = new PerformanceGate(Double.parseDouble(args[2]), Double.parseDouble(args[3]));
+        boolean updateBaseline = args.length > 4 && Boolean.parseBoolean(args[4]);
+        ObjectNode baseline = (ObjectNode) gate.objectMapper.readTree(baselineFile);
+        ObjectNode report = gate.run((ArrayNode) baseline.get("benchmarks"), updateBaseline);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        gate.objectMapper.writeValue(reportFile, report);
+        if (updateBaseline) {
+            gate.objectMapper.writeValue(baselineFile, baseline);
+            System.out.println("Performance baseline updated: " + baselineFile);
+        } else if (!report.get("passed").asBoolean()) {
+            System.err.println("Performance gate failed, see: " + reportFile);
+            System.exit(1);
+        } else {
+            System.out.println("Performance gate passed, see: " + reportFile);
+        }
+    }
+
+    /**
+     * Run each of the given baseline entries' benchmarks and compare the results.
+     *
+     * @param baselineEntries entries from the baseline file (being updated with the measured values if requested)
+     * @param updateBaseline whether to replace the baseline values with the measured ones
+     * @return report over all comparisons
+     * @throws RunnerException if a benchmark could not be run
+     */
+    ObjectNode run(ArrayNode baselineEntries, boolean updateBaseline) throws RunnerException {
+        ObjectNode report = this.objectMapper.createObjectNode()
+                .put("throughputTolerance", this.throughputTolerance)
+                .put("allocationTolerance", this.allocationTolerance);
+        ArrayNode results = report.putArray("results");
+        boolean passed = true;
+        for (JsonNode baselineEntry : baselineEntries) {
+            RunResult runResult = this.runBenchmark(baselineEntry);
+            ObjectNode resultEntry = results.addObject();
+            resultEntry.put("benchmark", baselineEntry.get("benchmark").asText());
+            resultEntry.set("params", baselineEntry.get("params"));
+            Result<?> primaryResult = runResult.getPrimaryResult();
+            passed &= this.compareScore(baselineEntry, primaryResult, resultEntry.putObject("throughput"));
+            Result<?> allocationResult = findAllocationResult(runResult);
+            passed &= this.compareAllocation(baselineEntry, allocationResult, resultEntry.putObject("allocation"));
+            if (updateBaseline) {
+                ((ObjectNode) baselineEntry)
+                        .put("mode", runResult.getParams().getMode().shortLabel())
+                        .put("score", primaryResult.getScore())
+                        .put("scoreUnit", primaryResult.getScoreUnit())
+                        .put("allocation", allocationResult == null ? 0 : allocationResult.getScore());
+            }
+        }
+        return report.put("passed", passed);
+    }
+
+    /**
+     * Look-up the allocated bytes per operation reported by the {@link GCProfiler}, whose label may have a (profiler specific) prefix.
+     *
+     * @param runResult benchmark result
+     * @return allocation result (or null if not reported)
+     */
+    private static Result<?> findAllocationResult(RunResult runResult) {
+        for (Map.Entry<String, Result> secondaryResult : runResult.getSecondaryResults().entrySet()) {
+            if (secondaryResult.getKey().endsWith(ALLOCATION_METRIC)) {
+                return secondaryResult.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Run a single benchmark with the parameters from the given baseline entry, with a short warm-up and measurement.
+     *
+     * @param baselineEntry entry from the baseline file
+     * @return benchmark result
+     * @throws RunnerException if the benchmark could not be run
+     */
+    private RunResult runBenchmark(JsonNode baselineEntry) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include('^' + Pattern.quote(baselineEntry.get("benchmark").asText()) + '$')
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(1));
+        JsonNode params = baselineEntry.get("params");
+        if (params != null) {
+            Iterator<Map.Entry<String, JsonNode>> paramIterator = params.fields();
+            while (paramIterator.hasNext()) {
+                Map.Entry<String, JsonNode> param = paramIterator.next();
+                options.param(param.getKey(), param.getValue().asText());
+            }
+        }
+        Collection<RunResult> runResults = new Runner(options.build()).run();
+        if (runResults.size() != 1) {
+            throw new IllegalStateException("expected exactly one result for baseline entry, but got " + runResults.size() + ": " + baselineEntry);
+        }
+        return runResults.iterator().next();
+    }
+
+    /**
+     * Compare the measured primary score against the baseline, considering whether a higher score is better (throughput) or worse (e.g. average
+     * time).
+     *
+     * @param baselineEntry entry from the baseline file
+     * @param primaryResult measured primary result
+     * @param comparison report node to populate
+     * @return whether the throughput did not drop by more than the tolerance (always false if the score unit differs from the baseline)
+     */
+    boolean compareScore(JsonNode baselineEntry, Result<?> primaryResult, ObjectNode comparison) {
+        double baselineScore = baselineEntry.path("score").asDouble();
+        double actualScore = primaryResult.getScore();
+        String mode = baselineEntry.path("mode").asText("thrpt");
+        comparison.put("mode", mode)
+                .put("unit", primaryResult.getScoreUnit())
+                .put("baseline", baselineScore)
+                .put("actual", actualScore);
+        String baselineUnit = baselineEntry.path("scoreUnit").asText(primaryResult.getScoreUnit());
+        if (!primaryResult.getScoreUnit().equals(baselineUnit)) {
+            // e.g. the benchmark's output time unit was changed without re-recording the baseline
+            comparison.put("baselineUnit", baselineUnit).put("passed", false);
+            return false;
+        }
+        if (baselineScore <= 0) {
+            // no comparable baseline value
+            comparison.put("passed", true);
+            return true;
+        }
+        // express the change in terms of throughput: positive means faster, negative means slower
+        double throughputChange = "thrpt".equals(mode) ? actualScore / baselineScore - 1 : baselineScore / actualScore - 1;
+        boolean passed = throughputChange >= -this.throughputTolerance;
+        comparison.put("change", throughputChange).put("passed", passed);
+        return passed;
+    }
+
+    /**
+     * Compare the measured allocated bytes per operation against the baseline.
+     *
+     * @param baselineEntry entry from the baseline file
+     * @param allocationResult measured allocation result (may be null if the profiler did not report it)
+     * @param comparison report node to populate
+     * @return whether the allocated bytes per operation did not rise by more than the tolerance
+     */
+    boolean compareAllocation(JsonNode baselineEntry, Result<?> allocationResult, ObjectNode comparison) {
+        comparison.put("unit", "B/op");
+        if (allocationResult == null || !baselineEntry.hasNonNull("allocation")) {
+            // no comparable values
+            comparison.put("passed", true);
+            return true;
+        }
+        double baselineAllocation = baselineEntry.get("allocation").asDouble();
+        double actualAllocation = allocationResult.getScore();
+        boolean passed = actualAllocation <= baselineAllocation * (1 + this.allocationTolerance) + ALLOCATION_NOISE_BYTES;
+        comparison.put("baseline", baselineAllocation).put("actual", actualAllocation);
+        if (baselineAllocation > 0) {
+            comparison.put("change", actualAllocation / baselineAllocation - 1);
+        }
+        comparison.put("passed", passed);
+        return passed;
+    }
+}
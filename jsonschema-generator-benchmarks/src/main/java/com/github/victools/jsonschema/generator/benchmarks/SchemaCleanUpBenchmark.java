@@ -0,0 +1,270 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.impl.SchemaCleanUpUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Comparing the final clean-up of a large synthetic schema: the single traversal performed by the {@link SchemaCleanUpUtils} against the previous
+ * approach of walking the whole schema once per clean-up step (with each step recursing into nested {@code allOf}/{@code anyOf} on its own).
+ * <br>
+ * As the clean-up modifies the schema, each invocation works on a fresh copy of the synthetic schema (created outside of the measurement).
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar SchemaCleanUpBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaCleanUpBenchmark {
+
+    /**
+     * Number of entries in the synthetic schema's definitions, each with eight properties containing {@code allOf} and {@code anyOf} wrappers.
+     */
+    @Param({"10", "100", "1000"})
+    public int definitionCount;
+
+    private SchemaGeneratorConfig config;
+    private SchemaCleanUpUtils cleanUpUtils;
+    private ObjectNode template;
+    private ObjectNode schema;
+
+    /**
+     * Build the configuration and the synthetic schema.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.ALLOF_CLEANUP_AT_THE_END)
+                .build();
+        this.cleanUpUtils = new SchemaCleanUpUtils(this.config);
+        this.template = this.createSyntheticSchema();
+    }
+
+    /**
+     * Provide a fresh copy of the synthetic schema for the next invocation.
+     */
+    @Setup(Level.Invocation)
+    public void copySchema() {
+        this.schema = this.template.deepCopy();
+    }
+
+    /**
+     * Clean-up the synthetic schema in a single traversal.
+     *
+     * @return cleaned-up schema
+     */
+    @Benchmark
+    public ObjectNode singleTraversal() {
+        this.cleanUpUtils.finaliseSchemaParts(this.schema);
+        return this.schema;
+    }
+
+    /**
+     * Clean-up the synthetic schema by walking it once per clean-up step (as in the previous implementation).
+     *
+     * @return cleaned-up schema
+     */
+    @Benchmark
+    public ObjectNode traversalPerStep() {
+        String allOfTagName = this.config.getKeyword(SchemaKeyword.TAG_ALLOF);
+        this.finaliseSchemaParts(this.schema, nodeToCheck -> this.mergeAllOfPartsIfPossible(nodeToCheck, allOfTagName));
+        String anyOfTagName = this.config.getKeyword(SchemaKeyword.TAG_ANYOF);
+        this.finaliseSchemaParts(this.schema, nodeToCheck -> this.reduceAnyOfWrappersIfPossible(nodeToCheck, anyOfTagName));
+        return this.schema;
+    }
+
+    /**
+     * Create a schema with the configured number of definitions, each consisting of various properties with clean-up potential.
+     *
+     * @return synthetic schema
+     */
+    private ObjectNode createSyntheticSchema() {
+        ObjectNode syntheticSchema = this.config.createObjectNode();
+        ObjectNode definitions = syntheticSchema.putObject(this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS));
+        for (int definitionIndex = 0; definitionIndex < this.definitionCount; definitionIndex++) {
+            ObjectNode definition = definitions.putObject("Type" + definitionIndex);
+            definition.put("type", "object");
+            ObjectNode properties = definition.putObject("properties");
+            for (int propertyIndex = 0; propertyIndex < 8; propertyIndex++) {
+                ObjectNode property = properties.putObject("property" + propertyIndex);
+                ArrayNode allOf = property.putArray("allOf");
+                allOf.addObject().put("$ref", "#/$defs/Type" + ((definitionIndex + propertyIndex) % this.definitionCount));
+                allOf.addObject().put("description", "property " + propertyIndex);
+                ObjectNode items = property.putObject("items");
+                ArrayNode anyOf = items.putArray("anyOf");
+                anyOf.addObject().putArray("anyOf").add(this.config.createObjectNode().put("type", "null"))
+                        .addObject().putArray("allOf").addObject().put("type", "string");
+                anyOf.addObject().put("type", "integer");
+            }
+        }
+        syntheticSchema.put("$ref", "#/$defs/Type0");
+        return syntheticSchema;
+    }
+
+    /**
+     * Previous implementation: iterate through the whole schema, applying the given clean-up step to each (sub) schema.
+     *
+     * @param schemaNode generated schema to clean-up
+     * @param performCleanUpOnSingleSchemaNode clean up task to execute before looking for deeper nested sub-schemas for which to apply the same
+     */
+    private void finaliseSchemaParts(ObjectNode schemaNode, Consumer<ObjectNode> performCleanUpOnSingleSchemaNode) {
+        List<ObjectNode> nextNodesToCheck = new ArrayList<>();
+        Consumer<JsonNode> addNodeToCheck = node -> {
+            if (node instanceof ObjectNode) {
+                nextNodesToCheck.add((ObjectNode) node);
+            }
+        };
+        nextNodesToCheck.add(schemaNode);
+        Optional.ofNullable(schemaNode.get(this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS)))
+                .filter(definitions -> definitions instanceof ObjectNode)
+                .ifPresent(definitions -> ((ObjectNode) definitions).forEach(addNodeToCheck));
+
+        Set<String> tagsWithSchemas = this.getTagNames(SchemaKeyword.TAG_ADDITIONAL_PROPERTIES, SchemaKeyword.TAG_ITEMS);
+        Set<String> tagsWithSchemaArrays = this.getTagNames(SchemaKeyword.TAG_ALLOF, SchemaKeyword.TAG_ANYOF, SchemaKeyword.TAG_ONEOF);
+        Set<String> tagsWithSchemaObjects = this.getTagNames(SchemaKeyword.TAG_PATTERN_PROPERTIES, SchemaKeyword.TAG_PROPERTIES);
+        do {
+            List<ObjectNode> currentNodesToCheck = new ArrayList<>(nextNodesToCheck);
+            nextNodesToCheck.clear();
+            for (ObjectNode nodeToCheck : currentNodesToCheck) {
+                performCleanUpOnSingleSchemaNode.accept(nodeToCheck);
+                tagsWithSchemas.stream().map(nodeToCheck::get).forEach(addNodeToCheck);
+                tagsWithSchemaArrays.stream()
+                        .map(nodeToCheck::get)
+                        .filter(possibleArrayNode -> possibleArrayNode instanceof ArrayNode)
+                        .forEach(arrayNode -> arrayNode.forEach(addNodeToCheck));
+                tagsWithSchemaObjects.stream()
+                        .map(nodeToCheck::get)
+                        .filter(possibleObjectNode -> possibleObjectNode instanceof ObjectNode)
+                        .forEach(objectNode -> objectNode.forEach(addNodeToCheck));
+            }
+        } while (!nextNodesToCheck.isEmpty());
+    }
+
+    /**
+     * Previous implementation: collect the names of the given keywords (once per traversal).
+     *
+     * @param keywords keywords to look-up the names for
+     * @return names of the given keywords as per the designated JSON Schema version
+     */
+    private Set<String> getTagNames(SchemaKeyword... keywords) {
+        return Stream.of(keywords)
+                .map(this.config::getKeyword)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Previous implementation: merge {@code allOf} parts into the given schema node (after recursively doing the same for its parts).
+     *
+     * @param schemaNode single node representing a sub-schema to consolidate contained {@code allOf} for (if present)
+     * @param allOfTagName name of the {@code allOf} keyword
+     */
+    private void mergeAllOfPartsIfPossible(JsonNode schemaNode, String allOfTagName) {
+        if (!(schemaNode instanceof ObjectNode)) {
+            return;
+        }
+        JsonNode allOfTag = schemaNode.get(allOfTagName);
+        if (!(allOfTag instanceof ArrayNode)) {
+            return;
+        }
+        allOfTag.forEach(part -> this.mergeAllOfPartsIfPossible(part, allOfTagName));
+
+        List<JsonNode> allOfElements = new ArrayList<>();
+        allOfTag.forEach(allOfElements::add);
+        if (allOfElements.stream().anyMatch(part -> !(part instanceof ObjectNode) && !part.asBoolean())) {
+            return;
+        }
+        List<ObjectNode> parts = allOfElements.stream()
+                .filter(part -> part instanceof ObjectNode)
+                .map(part -> (ObjectNode) part)
+                .collect(Collectors.toList());
+        final ObjectNode schemaObjectNode = (ObjectNode) schemaNode;
+        Map<String, Integer> fieldCount = Stream.concat(Stream.of(schemaObjectNode), parts.stream())
+                .flatMap(part -> StreamSupport.stream(((Iterable<String>) () -> part.fieldNames()).spliterator(), false))
+                .collect(Collectors.toMap(fieldName -> fieldName, _value -> 1, (currentCount, nextCount) -> currentCount + nextCount));
+        if (fieldCount.values().stream().allMatch(count -> count == 1)) {
+            schemaObjectNode.remove(allOfTagName);
+            parts.forEach(schemaObjectNode::setAll);
+        }
+    }
+
+    /**
+     * Previous implementation: move nested {@code anyOf} entries up (after recursively doing the same for its entries).
+     *
+     * @param schemaNode single node representing a sub-schema to consolidate contained {@code anyOf} for (if present)
+     * @param anyOfTagName name of the {@code anyOf} keyword
+     */
+    private void reduceAnyOfWrappersIfPossible(JsonNode schemaNode, String anyOfTagName) {
+        if (!(schemaNode instanceof ObjectNode)) {
+            return;
+        }
+        JsonNode anyOfTag = schemaNode.get(anyOfTagName);
+        if (!(anyOfTag instanceof ArrayNode)) {
+            return;
+        }
+        anyOfTag.forEach(part -> this.reduceAnyOfWrappersIfPossible(part, anyOfTagName));
+
+        for (int index = anyOfTag.size() - 1; index > -1; index--) {
+            JsonNode arrayEntry = anyOfTag.get(index);
+            if (!(arrayEntry instanceof ObjectNode) || arrayEntry.size() != 1) {
+                continue;
+            }
+            JsonNode nestedAnyOf = arrayEntry.get(anyOfTagName);
+            if (!(nestedAnyOf instanceof ArrayNode)) {
+                continue;
+            }
+            ((ArrayNode) anyOfTag).remove(index);
+            for (int nestedEntryIndex = nestedAnyOf.size() - 1; nestedEntryIndex > -1; nestedEntryIndex--) {
+                ((ArrayNode) anyOfTag).insert(index, nestedAnyOf.get(nestedEntryIndex));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.SyntheticModel;
+import com.github.victools.jsonschema.generator.SyntheticModelGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measuring the schema generation for synthetic class graphs of increasing size (compiled in-process via the {@link SyntheticModelGenerator} from
+ * the {@code jsonschema-generator} test utilities), in order to plot the generation time and allocated memory against the number of types.
+ * <br>
+ * Run via: {@code java -jar target/benchmarks.jar SyntheticModelScalingBenchmark -prof gc -rf csv -rff scaling.csv}, the resulting CSV file
+ * contains the average time and allocated bytes ({@code gc.alloc.rate.norm}) per type count. This requires a JDK (not just a JRE).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyntheticModelScalingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int typeCount;
+
+    @Param({"2"})
+    private int fanOut;
+
+    @Param({"5"})
+    private int depth;
+
+    @Param({"2"})
+    private int genericArity;
+
+    @Param({"1"})
+    private int subtypeCount;
+
+    @Param({"true"})
+    private boolean cycles;
+
+    private SyntheticModel model;
+    private SchemaGenerator generator;
+
+    /**
+     * Compile the synthetic model for the current combination of parameters and create the generator for it.
+     */
+    @Setup
+    public void setUp() {
+        this.model = new SyntheticModelGenerator()
+                .withTypeCount(this.typeCount)
+                .withFanOut(this.fanOut)
+                .withDepth(this.depth)
+                .withGenericArity(this.genericArity)
+                .withSubtypeCount(this.subtypeCount)
+                .withCycles(this.cycles)
+                .generate();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.ITERATIVE_TYPE_TRAVERSAL);
+        configBuilder.forTypesInGeneral().withSubtypeResolver(this.model.getSubtypeResolver());
+        this.generator = new SchemaGenerator(configBuilder.build());
+    }
+
+    /**
+     * Generate the schema for the synthetic model.
+     *
+     * @return generated schema
+     */
+    @Benchmark
+    public JsonNode generateSchema() {
+        return this.generator.generateSchema(this.model.getMainType());
+    }
+}
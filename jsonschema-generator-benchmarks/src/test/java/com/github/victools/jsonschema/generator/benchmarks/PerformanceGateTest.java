@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import junitparams.naming.TestCaseName;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Test for the {@link PerformanceGate} class.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class PerformanceGateTest {
+
+    private ObjectMapper objectMapper;
+    private PerformanceGate gate;
+
+    @Before
+    public void setUp() {
+        this.objectMapper = new ObjectMapper();
+        this.gate = new PerformanceGate(0.25, 0.10);
+    }
+
+    private ObjectNode createBaselineEntry(String mode, double score, String scoreUnit) {
+        ObjectNode baselineEntry = this.objectMapper.createObjectNode()
+                .put("benchmark", "com.github.victools.jsonschema.generator.benchmarks.GenerateSchemaBenchmark.generateSchema")
+                .put("mode", mode)
+                .put("score", score);
+        if (scoreUnit != null) {
+            baselineEntry.put("scoreUnit", scoreUnit);
+        }
+        return baselineEntry;
+    }
+
+    Object parametersForTestCompareScore() {
+        return new Object[][]{
+            {"thrpt", 100.0, "ops/s", 100.0, true},
+            {"thrpt", 100.0, "ops/s", 150.0, true},
+            {"thrpt", 100.0, "ops/s", 76.0, true},
+            {"thrpt", 100.0, "ops/s", 74.0, false},
+            {"thrpt", 100.0, "ops/s", 10.0, false},
+            {"avgt", 100.0, "us/op", 100.0, true},
+            {"avgt", 100.0, "us/op", 50.0, true},
+            // 25% less throughput means an average time that is a third higher
+            {"avgt", 100.0, "us/op", 133.0, true},
+            {"avgt", 100.0, "us/op", 134.0, false},
+            {"avgt", 100.0, "us/op", 1000.0, false},
+            {"avgt", 0.0, "us/op", 1000.0, true}
+        };
+    }
+
+    @Test
+    @Parameters
+    @TestCaseName("{method}({0}: {1} -> {3}) [{index}]")
+    public void testCompareScore(String mode, double baselineScore, String unit, double actualScore, boolean expectedToPass) {
+        ObjectNode comparison = this.objectMapper.createObjectNode();
+        boolean passed = this.gate.compareScore(this.createBaselineEntry(mode, baselineScore, unit),
+                new ScalarResult("score", actualScore, unit, AggregationPolicy.AVG), comparison);
+
+        Assert.assertEquals(expectedToPass, passed);
+        Assert.assertEquals(expectedToPass, comparison.get("passed").asBoolean());
+        Assert.assertEquals(actualScore, comparison.get("actual").asDouble(), 0);
+    }
+
+    @Test
+    public void testCompareScore_differentUnit() {
+        ObjectNode comparison = this.objectMapper.createObjectNode();
+        // the actual score is a lot better, but cannot be compared to the baseline
+        boolean passed = this.gate.compareScore(this.createBaselineEntry("avgt", 100, "ms/op"),
+                new ScalarResult("score", 10, "us/op", AggregationPolicy.AVG), comparison);
+
+        Assert.assertFalse(passed);
+        Assert.assertFalse(comparison.get("passed").asBoolean());
+        Assert.assertEquals("ms/op", comparison.get("baselineUnit").asText());
+        Assert.assertFalse(comparison.has("change"));
+    }
+
+    @Test
+    public void testCompareScore_baselineWithoutUnit() {
+        ObjectNode comparison = this.objectMapper.createObjectNode();
+        boolean passed = this.gate.compareScore(this.createBaselineEntry("avgt", 100, null),
+                new ScalarResult("score", 200, "us/op", AggregationPolicy.AVG), comparison);
+
+        Assert.assertFalse(passed);
+        Assert.assertEquals(-0.5, comparison.get("change").asDouble(), 0.0001);
+    }
+
+    Object parametersForTestCompareAllocation() {
+        return new Object[][]{
+            {1000.0, 1000.0, true},
+            {1000.0, 500.0, true},
+            // 10% tolerance plus 16 bytes
+            {1000.0, 1116.0, true},
+            {1000.0, 1117.0, false},
+            {100000.0, 110016.0, true},
+            {100000.0, 110100.0, false},
+            // allocation-free benchmarks are only tolerating the fixed 16 bytes
+            {0.0, 16.0, true},
+            {0.0, 17.0, false}
+        };
+    }
+
+    @Test
+    @Parameters
+    @TestCaseName("{method}({0} -> {1}) [{index}]")
+    public void testCompareAllocation(double baselineAllocation, double actualAllocation, boolean expectedToPass) {
+        ObjectNode baselineEntry = this.createBaselineEntry("avgt", 100, "us/op").put("allocation", baselineAllocation);
+        ObjectNode comparison = this.objectMapper.createObjectNode();
+        boolean passed = this.gate.compareAllocation(baselineEntry,
+                new ScalarResult("gc.alloc.rate.norm", actualAllocation, "B/op", AggregationPolicy.AVG), comparison);
+
+        Assert.assertEquals(expectedToPass, passed);
+        Assert.assertEquals(expectedToPass, comparison.get("passed").asBoolean());
+        Assert.assertEquals(baselineAllocation > 0, comparison.has("change"));
+    }
+
+    @Test
+    public void testCompareAllocation_notComparable() {
+        ObjectNode baselineWithoutAllocation = this.createBaselineEntry("avgt", 100, "us/op");
+        Assert.assertTrue(this.gate.compareAllocation(baselineWithoutAllocation,
+                new ScalarResult("gc.alloc.rate.norm", 1000, "B/op", AggregationPolicy.AVG), this.objectMapper.createObjectNode()));
+
+        ObjectNode baselineWithAllocation = this.createBaselineEntry("avgt", 100, "us/op").put("allocation", 1000);
+        Assert.assertTrue(this.gate.compareAllocation(baselineWithAllocation, null, this.objectMapper.createObjectNode()));
+    }
+}
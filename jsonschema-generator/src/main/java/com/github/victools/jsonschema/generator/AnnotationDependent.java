@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Optional extension of a field/method resolver, check or custom definition provider, declaring that it only ever contributes anything if the
+ * targeted member (or its associated getter/field) carries at least one annotation of the given types. The configured resolvers, checks and
+ * custom definition providers implementing this interface are being skipped for all other members, i.e. they are not invoked at all.
+ * <br>
+ * Resolvers for types in general are always being invoked, regardless of whether they implement this interface.
+ *
+ * @see MemberScope#hasAnyAnnotationConsideringFieldAndGetter(java.util.Collection)
+ */
+public interface AnnotationDependent {
+
+    /**
+     * Getter for the types of annotations this is depending on. If none of them is present on a member or its associated getter/field, this is
+     * not being invoked for that member.
+     *
+     * @return relevant annotation types (should not be empty, as that would result in this never being invoked)
+     */
+    Set<Class<? extends Annotation>> getRelevantAnnotationTypes();
+
+    /**
+     * Check whether this should be invoked for the given member, i.e. whether the member or its associated getter/field carries at least one of
+     * the relevant annotations.
+     *
+     * @param member targeted field/method
+     * @return whether this is applicable to the given member
+     */
+    default boolean isApplicableTo(MemberScope<?, ?> member) {
+        return member.hasAnyAnnotationConsideringFieldAndGetter(this.getRelevantAnnotationTypes());
+    }
+
+    /**
+     * Wrap the given field/method resolver, so that it is only being invoked for members carrying at least one of the given annotations.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param <R> type of resolved value
+     * @param resolver resolver to wrap (returning null for members without any of the given annotations)
+     * @param annotationTypes relevant annotation types (at least one)
+     * @return wrapped resolver
+     */
+    @SafeVarargs
+    static <M extends MemberScope<?, ?>, R> ConfigFunction<M, R> resolver(ConfigFunction<M, R> resolver,
+            Class<? extends Annotation>... annotationTypes) {
+        return new AnnotationDependentDelegate.Resolver<>(resolver, annotationTypes);
+    }
+
+    /**
+     * Wrap the given field/method check, so that it is only being invoked for members carrying at least one of the given annotations.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param check check to wrap (returning false for members without any of the given annotations)
+     * @param annotationTypes relevant annotation types (at least one)
+     * @return wrapped check
+     */
+    @SafeVarargs
+    static <M extends MemberScope<?, ?>> Predicate<M> check(Predicate<M> check, Class<? extends Annotation>... annotationTypes) {
+        return new AnnotationDependentDelegate.Check<>(check, annotationTypes);
+    }
+
+    /**
+     * Wrap the given custom property definition provider, so that it is only being invoked for members carrying at least one of the given
+     * annotations.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param provider custom definition provider to wrap (returning null for members without any of the given annotations)
+     * @param annotationTypes relevant annotation types (at least one)
+     * @return wrapped custom definition provider
+     */
+    @SafeVarargs
+    static <M extends MemberScope<?, ?>> CustomPropertyDefinitionProvider<M> customDefinitionProvider(CustomPropertyDefinitionProvider<M> provider,
+            Class<? extends Annotation>... annotationTypes) {
+        return new AnnotationDependentDelegate.Provider<>(provider, annotationTypes);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Common base for wrapping a resolver, check or custom definition provider as {@link AnnotationDependent}.
+ *
+ * @param <D> type of the wrapped delegate
+ * @see AnnotationDependent#resolver(ConfigFunction, Class...)
+ * @see AnnotationDependent#check(Predicate, Class...)
+ * @see AnnotationDependent#customDefinitionProvider(CustomPropertyDefinitionProvider, Class...)
+ */
+abstract class AnnotationDependentDelegate<D> implements AnnotationDependent {
+
+    private final D delegate;
+    private final Set<Class<? extends Annotation>> relevantAnnotationTypes;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate wrapped resolver, check or custom definition provider
+     * @param annotationTypes relevant annotation types (at least one)
+     */
+    AnnotationDependentDelegate(D delegate, Class<? extends Annotation>[] annotationTypes) {
+        if (annotationTypes == null || annotationTypes.length == 0) {
+            throw new IllegalArgumentException("at least one relevant annotation type must be specified");
+        }
+        this.delegate = delegate;
+        this.relevantAnnotationTypes = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(annotationTypes)));
+    }
+
+    /**
+     * Getter for the wrapped resolver, check or custom definition provider.
+     *
+     * @return wrapped delegate
+     */
+    D getDelegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public Set<Class<? extends Annotation>> getRelevantAnnotationTypes() {
+        return this.relevantAnnotationTypes;
+    }
+
+    /**
+     * Annotation dependent field/method resolver.
+     *
+     * @param <M> type of targeted member
+     * @param <R> type of resolved value
+     */
+    static class Resolver<M extends MemberScope<?, ?>, R> extends AnnotationDependentDelegate<ConfigFunction<M, R>>
+            implements ConfigFunction<M, R> {
+
+        /**
+         * Constructor.
+         *
+         * @param delegate wrapped resolver
+         * @param annotationTypes relevant annotation types (at least one)
+         */
+        Resolver(ConfigFunction<M, R> delegate, Class<? extends Annotation>[] annotationTypes) {
+            super(delegate, annotationTypes);
+        }
+
+        @Override
+        public R apply(M target) {
+            return this.getDelegate().apply(target);
+        }
+    }
+
+    /**
+     * Annotation dependent field/method check.
+     *
+     * @param <M> type of targeted member
+     */
+    static class Check<M extends MemberScope<?, ?>> extends AnnotationDependentDelegate<Predicate<M>> implements Predicate<M> {
+
+        /**
+         * Constructor.
+         *
+         * @param delegate wrapped check
+         * @param annotationTypes relevant annotation types (at least one)
+         */
+        Check(Predicate<M> delegate, Class<? extends Annotation>[] annotationTypes) {
+            super(delegate, annotationTypes);
+        }
+
+        @Override
+        public boolean test(M target) {
+            return this.getDelegate().test(target);
+        }
+    }
+
+    /**
+     * Annotation dependent custom property definition provider.
+     *
+     * @param <M> type of targeted member
+     */
+    static class Provider<M extends MemberScope<?, ?>> extends AnnotationDependentDelegate<CustomPropertyDefinitionProvider<M>>
+            implements CustomPropertyDefinitionProvider<M> {
+
+        /**
+         * Constructor.
+         *
+         * @param delegate wrapped custom definition provider
+         * @param annotationTypes relevant annotation types (at least one)
+         */
+        Provider(CustomPropertyDefinitionProvider<M> delegate, Class<? extends Annotation>[] annotationTypes) {
+            super(delegate, annotationTypes);
+        }
+
+        @Override
+        public CustomPropertyDefinition provideCustomSchemaDefinition(M scope, SchemaGenerationContext context) {
+            return this.getDelegate().provideCustomSchemaDefinition(scope, context);
+        }
+    }
+}
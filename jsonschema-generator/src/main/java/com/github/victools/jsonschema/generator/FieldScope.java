@@ -22,7 +22,6 @@ import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.classmate.members.ResolvedMethod;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.stream.Stream;
 
 /**
  * Representation of a single introspected field.
@@ -58,13 +57,15 @@ public class FieldScope extends MemberScope<ResolvedField, Field> {
     @Override
     public FieldScope withOverriddenType(ResolvedType overriddenType) {
         return new FieldScope(this.getMember(), overriddenType, this.getOverriddenName(), this.getDeclaringTypeMembers(),
-                this.isFakeContainerItemScope(), this.getContext());
+                this.isFakeContainerItemScope(), this.getContext())
+                .withAnnotationsOf(this);
     }
 
     @Override
     public FieldScope withOverriddenName(String overriddenName) {
         return new FieldScope(this.getMember(), this.getOverriddenType(), overriddenName, this.getDeclaringTypeMembers(),
-                this.isFakeContainerItemScope(), this.getContext());
+                this.isFakeContainerItemScope(), this.getContext())
+                .withAnnotationsOf(this);
     }
 
     /**
@@ -89,22 +90,14 @@ public class FieldScope extends MemberScope<ResolvedField, Field> {
 
     /**
      * Return the conventional getter method (if one exists). E.g. for a field named "foo", look-up either "getFoo()" or "isFoo()".
+     * <br>
+     * This is based on the field's declared name, i.e. ignoring any overridden name.
      *
      * @return public getter from within the field's declaring class
      */
     public MethodScope findGetter() {
-        String capitalisedFieldName = this.getName().substring(0, 1).toUpperCase() + this.getName().substring(1);
-        String getterName1 = "get" + capitalisedFieldName;
-        String getterName2 = "is" + capitalisedFieldName;
-        ResolvedMethod[] methods = this.getDeclaringTypeMembers().getMemberMethods();
-        MethodScope getter = Stream.of(methods)
-                .filter(method -> method.getRawMember().getParameterCount() == 0)
-                .filter(ResolvedMethod::isPublic)
-                .filter(method -> method.getName().equals(getterName1) || method.getName().equals(getterName2))
-                .findFirst()
-                .map(method -> this.getContext().createMethodScope(method, this.getDeclaringTypeMembers()))
-                .orElse(null);
-        return getter;
+        ResolvedMethod getter = this.getContext().getGetterFieldIndex(this.getDeclaringTypeMembers()).findGetter(this.getDeclaredName());
+        return getter == null ? null : this.getContext().createMethodScope(getter, this.getDeclaringTypeMembers());
     }
 
     /**
@@ -114,16 +107,11 @@ public class FieldScope extends MemberScope<ResolvedField, Field> {
      * @see #findGetter()
      */
     public boolean hasGetter() {
-        return this.findGetter() != null;
+        return this.getContext().getGetterFieldIndex(this.getDeclaringTypeMembers()).findGetter(this.getDeclaredName()) != null;
     }
 
     @Override
     public <A extends Annotation> A getAnnotationConsideringFieldAndGetter(Class<A> annotationClass) {
-        A annotation = this.getAnnotation(annotationClass);
-        if (annotation == null) {
-            MemberScope<?, ?> associatedGetter = this.findGetter();
-            annotation = associatedGetter == null ? null : associatedGetter.getAnnotation(annotationClass);
-        }
-        return annotation;
+        return this.getAnnotationConsideringAssociatedMember(annotationClass, this::findGetter);
     }
 }
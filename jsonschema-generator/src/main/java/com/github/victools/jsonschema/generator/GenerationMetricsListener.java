@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+/**
+ * Callback for collecting timings and counts of the individual {@link GenerationPhase}s of each schema generation, e.g. to find out where the
+ * generation time goes in a production environment without attaching a profiler.
+ * <br>
+ * Listeners are being registered via {@link SchemaGeneratorGeneralConfigPart#withGenerationMetricsListener(GenerationMetricsListener)}. Without any
+ * registered listener, the {@link #NO_OP} instance is being used, for which not even the timings are being measured.
+ * <br>
+ * A listener may be called from multiple threads at the same time, if the same generator is used concurrently.
+ *
+ * @see com.github.victools.jsonschema.generator.impl.InMemoryGenerationMetrics
+ */
+@FunctionalInterface
+public interface GenerationMetricsListener {
+
+    /**
+     * Default listener, ignoring all notifications.
+     */
+    GenerationMetricsListener NO_OP = (phase, durationNanos, count) -> {
+        // nothing to do
+    };
+
+    /**
+     * Notification that a single occurrence of the given phase has been completed.
+     *
+     * @param phase completed phase
+     * @param durationNanos duration of the phase in nanoseconds (as measured via {@link System#nanoTime()})
+     * @param count phase specific number of handled items (see the respective {@link GenerationPhase})
+     */
+    void onPhaseCompleted(GenerationPhase phase, long durationNanos, int count);
+}
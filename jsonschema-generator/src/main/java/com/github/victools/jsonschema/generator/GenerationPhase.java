@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+/**
+ * Distinct phases of a schema generation, for which timings and counts are being reported to a {@link GenerationMetricsListener}.
+ * <br>
+ * Beware: since definitions are being generated recursively, the duration reported for one phase may include nested phases (e.g. a custom
+ * definition provider creating the standard definition of another type).
+ */
+public enum GenerationPhase {
+    /**
+     * Resolving the main type for which a schema is being generated. The count is always 1.
+     */
+    TYPE_RESOLUTION,
+    /**
+     * Collecting the fields and methods of a type (via {@link TypeContext#resolveWithMembers(com.fasterxml.classmate.ResolvedType)}). The count is
+     * the number of collected fields and methods.
+     */
+    MEMBER_COLLECTION,
+    /**
+     * Collecting the attributes of a type, field or method via the configured resolvers. The count is the number of collected attributes.
+     */
+    ATTRIBUTE_COLLECTION,
+    /**
+     * Looking-up a custom definition for a type, field or method via the configured providers. The count is 1 if a custom definition was found,
+     * otherwise 0.
+     */
+    CUSTOM_DEFINITION_LOOKUP,
+    /**
+     * Collecting the "definitions"/"$defs" and resolving all references to them, once all definitions have been generated. The count is the number
+     * of handled definitions.
+     */
+    REFERENCE_RESOLUTION,
+    /**
+     * Finalisation pass: traversing the whole schema once, while applying the clean-up steps being reported separately as {@link #ALLOF_CLEANUP}
+     * and {@link #ANYOF_CLEANUP} to each (sub) schema. The count is the number of visited (sub) schemas.
+     */
+    SCHEMA_PART_FINALISATION,
+    /**
+     * Clean-up step within the {@link #SCHEMA_PART_FINALISATION}: merging {@code allOf} parts (only with {@link Option#ALLOF_CLEANUP_AT_THE_END}).
+     * The duration is the sum across all visited (sub) schemas. The count is the number of (sub) schemas in which {@code allOf} parts were merged.
+     */
+    ALLOF_CLEANUP,
+    /**
+     * Clean-up step within the {@link #SCHEMA_PART_FINALISATION}: reducing nested {@code anyOf} wrappers. The duration is the sum across all visited
+     * (sub) schemas. The count is the number of (sub) schemas in which {@code anyOf} wrappers were reduced.
+     */
+    ANYOF_CLEANUP,
+    /**
+     * Finalisation pass: collapsing structurally identical definitions (only with {@link Option#DEFINITION_DEDUPLICATION_AT_THE_END}). The count is
+     * the number of entries in the resulting "definitions"/"$defs".
+     */
+    DEFINITION_DEDUPLICATION;
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedField;
+import com.fasterxml.classmate.members.ResolvedMethod;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Look-up of the conventional getter methods and their associated fields within a single declaring type. This is being populated once per
+ * {@link ResolvedTypeWithMembers} in order to avoid scanning through all fields/methods for each look-up.
+ *
+ * @see TypeContext#getGetterFieldIndex(ResolvedTypeWithMembers)
+ */
+final class GetterFieldIndex {
+
+    private final Map<String, ResolvedField> fieldsByName;
+    private final Map<String, ResolvedMethod> publicNoArgMethodsByName;
+    private final Map<String, Integer> methodPositions;
+    private final Map<String, ResolvedMethod> gettersByFieldName;
+    private final Map<String, ResolvedField> fieldsByGetterName;
+
+    /**
+     * Constructor.
+     *
+     * @param declaringTypeMembers collection of the declaring type's fields and methods
+     */
+    GetterFieldIndex(ResolvedTypeWithMembers declaringTypeMembers) {
+        ResolvedField[] fields = declaringTypeMembers.getMemberFields();
+        this.fieldsByName = new HashMap<>();
+        for (ResolvedField field : fields) {
+            this.fieldsByName.putIfAbsent(field.getName(), field);
+        }
+        ResolvedMethod[] methods = declaringTypeMembers.getMemberMethods();
+        this.publicNoArgMethodsByName = new HashMap<>();
+        this.methodPositions = new HashMap<>();
+        for (int index = 0; index < methods.length; index++) {
+            ResolvedMethod method = methods[index];
+            if (method.getRawMember().getParameterCount() == 0 && method.isPublic()
+                    && this.publicNoArgMethodsByName.putIfAbsent(method.getName(), method) == null) {
+                this.methodPositions.put(method.getName(), index);
+            }
+        }
+        this.gettersByFieldName = new HashMap<>();
+        for (String fieldName : this.fieldsByName.keySet()) {
+            this.gettersByFieldName.put(fieldName, this.lookUpGetter(fieldName));
+        }
+        this.fieldsByGetterName = new HashMap<>();
+        for (String methodName : this.publicNoArgMethodsByName.keySet()) {
+            this.fieldsByGetterName.put(methodName, this.lookUpGetterField(methodName));
+        }
+    }
+
+    /**
+     * Look-up the conventional getter method for a field with the given name. E.g. for a field named "foo", look-up either "getFoo()" or "isFoo()".
+     *
+     * @param fieldName name of the field to look-up the getter for
+     * @return public getter method without arguments (or null if none exists)
+     */
+    ResolvedMethod findGetter(String fieldName) {
+        if (this.gettersByFieldName.containsKey(fieldName)) {
+            return this.gettersByFieldName.get(fieldName);
+        }
+        return this.lookUpGetter(fieldName);
+    }
+
+    /**
+     * Look-up the field associated with a getter method with the given name. E.g. for a method named "getFoo" or "isFoo", look-up the field "foo".
+     *
+     * @param methodName name of the (getter) method to look-up the associated field for
+     * @return associated field (or null if none exists or the given method name does not match the getter naming conventions)
+     */
+    ResolvedField findGetterField(String methodName) {
+        if (this.fieldsByGetterName.containsKey(methodName)) {
+            return this.fieldsByGetterName.get(methodName);
+        }
+        return this.lookUpGetterField(methodName);
+    }
+
+    /**
+     * Determine the conventional getter method for a field with the given name.
+     *
+     * @param fieldName name of the field to look-up the getter for
+     * @return public getter method without arguments (or null if none exists)
+     */
+    private ResolvedMethod lookUpGetter(String fieldName) {
+        String capitalisedFieldName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        String getterName1 = "get" + capitalisedFieldName;
+        String getterName2 = "is" + capitalisedFieldName;
+        ResolvedMethod getter1 = this.publicNoArgMethodsByName.get(getterName1);
+        ResolvedMethod getter2 = this.publicNoArgMethodsByName.get(getterName2);
+        if (getter1 == null || getter2 == null) {
+            return getter1 == null ? getter2 : getter1;
+        }
+        // both exist: prefer the one that is listed first among the declaring type's methods
+        return this.methodPositions.get(getterName1) < this.methodPositions.get(getterName2) ? getter1 : getter2;
+    }
+
+    /**
+     * Determine the field associated with a getter method with the given name.
+     *
+     * @param methodName name of the (getter) method to look-up the associated field for
+     * @return associated field (or null if none exists or the given method name does not match the getter naming conventions)
+     */
+    private ResolvedField lookUpGetterField(String methodName) {
+        String fieldName;
+        if (methodName.startsWith("get") && methodName.length() > 3 && Character.isUpperCase(methodName.charAt(3))) {
+            // ensure that the variable starts with a lower-case letter
+            fieldName = methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
+        } else if (methodName.startsWith("is") && methodName.length() > 2 && Character.isUpperCase(methodName.charAt(2))) {
+            // ensure that the variable starts with a lower-case letter
+            fieldName = methodName.substring(2, 3).toLowerCase() + methodName.substring(3);
+        } else {
+            // method name does not fall into getter conventions
+            return null;
+        }
+        return this.fieldsByName.get(fieldName);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.impl.DefinitionKey;
+import com.github.victools.jsonschema.generator.impl.SchemaCleanUpUtils;
+import com.github.victools.jsonschema.generator.impl.SchemaGenerationContextImpl;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * View on a JSON Schema, in which each definition is only generated when it is accessed for the first time. The effort for retrieving the main
+ * schema is therefore independent of the size of the whole type graph being reachable from it.
+ * <br>
+ * In contrast to the schema returned by {@link SchemaGenerator#generateSchema(java.lang.reflect.Type, java.lang.reflect.Type...)}:
+ * <ul>
+ * <li>every definition is being referenced via "$ref" (as if {@link Option#DEFINITIONS_FOR_ALL_OBJECTS} was enabled), since it is unknown how
+ * often a definition is being referenced before the whole type graph has been traversed,</li>
+ * <li>nullable references are wrapped in an "anyOf" together with a "null" schema, instead of having separate "-nullable" definitions,</li>
+ * <li>definition names are being assigned in the order in which they are encountered, i.e. if different types result in the same name, the
+ * first one keeps it and the others receive a numeric suffix starting with "-2",</li>
+ * <li>the {@link Option#DEFINITION_DEDUPLICATION_AT_THE_END} is being ignored.</li>
+ * </ul>
+ * This view is thread-safe, but each access is being synchronized.
+ *
+ * @see SchemaGenerator#generateSchemaLazily(java.lang.reflect.Type, java.lang.reflect.Type...)
+ */
+public class LazySchema {
+
+    private final SchemaGeneratorConfig config;
+    private final SchemaGenerationContextImpl generationContext;
+    private final SchemaCleanUpUtils cleanUpUtils;
+    private final Function<DefinitionKey, String> baseDefinitionNameLookup;
+    private final DefinitionKey mainKey;
+    private final Map<DefinitionKey, String> definitionNames = new HashMap<>();
+    private final Map<String, DefinitionKey> definitionKeys = new LinkedHashMap<>();
+    private final Map<String, ObjectNode> materialisedDefinitions = new HashMap<>();
+    private final Set<ObjectNode> resolvedReferenceNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ObjectNode rootSchema;
+
+    /**
+     * Constructor.
+     *
+     * @param config applicable configuration
+     * @param generationContext generation context that has been prepared via {@link SchemaGenerationContextImpl#parseTypeLazily}
+     * @param mainKey definition key identifying the schema's main type
+     * @param cleanUpUtils clean-up steps to apply to the root schema and each definition before handing them out
+     * @param baseDefinitionNameLookup look-up of a definition's name (without any suffix to differentiate between different types)
+     */
+    LazySchema(SchemaGeneratorConfig config, SchemaGenerationContextImpl generationContext, DefinitionKey mainKey, SchemaCleanUpUtils cleanUpUtils,
+            Function<DefinitionKey, String> baseDefinitionNameLookup) {
+        this.config = config;
+        this.generationContext = generationContext;
+        this.mainKey = mainKey;
+        this.cleanUpUtils = cleanUpUtils;
+        this.baseDefinitionNameLookup = baseDefinitionNameLookup;
+    }
+
+    /**
+     * Getter for the main schema, without any definitions. All references to other definitions are included as "$ref", which can be resolved via
+     * {@link #resolveReference(String)}.
+     *
+     * @return main schema
+     */
+    public synchronized ObjectNode getRootSchema() {
+        if (this.rootSchema == null) {
+            this.resolveReferences(this.mainKey);
+            ObjectNode root = this.config.createObjectNode();
+            if (this.config.shouldIncludeSchemaVersionIndicator()) {
+                root.put(this.config.getKeyword(SchemaKeyword.TAG_SCHEMA), this.config.getKeyword(SchemaKeyword.TAG_SCHEMA_VALUE));
+            }
+            root.setAll(this.generationContext.getDefinition(this.mainKey));
+            this.cleanUpUtils.finaliseSchemaParts(root);
+            this.rootSchema = root;
+        }
+        return this.rootSchema;
+    }
+
+    /**
+     * Look-up the schema being referenced via the given "$ref" value, as it is contained in the main schema or any of the definitions returned
+     * before. If it was not accessed before, the referenced definition is being generated now.
+     *
+     * @param reference "$ref" value, i.e. either "#" for the main schema or "#/definitions/..." or "#/$defs/..." depending on the schema version
+     * @return referenced schema (or null if the reference is unknown)
+     */
+    public ObjectNode resolveReference(String reference) {
+        if (this.config.getKeyword(SchemaKeyword.TAG_REF_MAIN).equals(reference)) {
+            return this.getRootSchema();
+        }
+        String referencePrefix = this.config.getKeyword(SchemaKeyword.TAG_REF_PREFIX);
+        if (reference == null || !reference.startsWith(referencePrefix)) {
+            return null;
+        }
+        return this.getDefinition(reference.substring(referencePrefix.length()));
+    }
+
+    /**
+     * Look-up the definition with the given name, as it is being referenced from the main schema or any of the definitions returned before. If it
+     * was not accessed before, the definition is being generated now.
+     *
+     * @param definitionName name of the definition
+     * @return definition (or null if no definition with the given name has been referenced yet)
+     */
+    public synchronized ObjectNode getDefinition(String definitionName) {
+        ObjectNode definition = this.materialisedDefinitions.get(definitionName);
+        if (definition == null) {
+            DefinitionKey key = this.definitionKeys.get(definitionName);
+            if (key == null) {
+                return null;
+            }
+            this.generationContext.resumeTraversal(key);
+            this.resolveReferences(key);
+            definition = this.generationContext.getDefinition(key);
+            this.cleanUpUtils.finaliseSchemaParts(definition);
+            this.materialisedDefinitions.put(definitionName, definition);
+        }
+        return definition;
+    }
+
+    /**
+     * Getter for the names of all definitions being referenced from the main schema and the definitions returned so far – including those that have
+     * not been generated yet.
+     *
+     * @return names of known definitions (in the order in which they were encountered)
+     */
+    public synchronized Set<String> getKnownDefinitionNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(this.definitionKeys.keySet()));
+    }
+
+    /**
+     * Getter for the number of definitions that have been generated so far (not including the main schema).
+     *
+     * @return number of accessed definitions
+     */
+    public synchronized int getMaterialisedDefinitionCount() {
+        return this.materialisedDefinitions.size();
+    }
+
+    /**
+     * Populate all nodes that are meant to reference one of the definitions being referenced from within the given definition.
+     *
+     * @param key (populated) definition containing references to other definitions
+     */
+    private void resolveReferences(DefinitionKey key) {
+        String referenceTagName = this.config.getKeyword(SchemaKeyword.TAG_REF);
+        for (DefinitionKey referencedKey : this.generationContext.getReferencedDefinitions(key)) {
+            String reference;
+            if (this.mainKey.equals(referencedKey)) {
+                reference = this.config.getKeyword(SchemaKeyword.TAG_REF_MAIN);
+            } else {
+                reference = this.config.getKeyword(SchemaKeyword.TAG_REF_PREFIX) + this.getDefinitionName(referencedKey);
+            }
+            for (ObjectNode referenceNode : this.generationContext.getReferences(referencedKey)) {
+                if (this.resolvedReferenceNodes.add(referenceNode)) {
+                    referenceNode.put(referenceTagName, reference);
+                }
+            }
+            for (ObjectNode referenceNode : this.generationContext.getNullableReferences(referencedKey)) {
+                if (this.resolvedReferenceNodes.add(referenceNode)) {
+                    referenceNode.put(referenceTagName, reference);
+                    this.generationContext.makeNullable(referenceNode);
+                }
+            }
+        }
+    }
+
+    /**
+     * Look-up or assign the name of the given definition.
+     *
+     * @param key definition to look-up the name for
+     * @return definition name
+     */
+    private String getDefinitionName(DefinitionKey key) {
+        String name = this.definitionNames.get(key);
+        if (name == null) {
+            String baseName = this.baseDefinitionNameLookup.apply(key);
+            name = baseName;
+            for (int suffix = 2; this.definitionKeys.containsKey(name); suffix++) {
+                name = baseName + "-" + suffix;
+            }
+            this.definitionNames.put(key, name);
+            this.definitionKeys.put(name, key);
+        }
+        return name;
+    }
+}
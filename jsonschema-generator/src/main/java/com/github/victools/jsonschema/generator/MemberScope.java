@@ -23,7 +23,12 @@ import com.fasterxml.classmate.members.ResolvedMember;
 import com.fasterxml.classmate.members.ResolvedMethod;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Representation of a single introspected field or method.
@@ -39,6 +44,10 @@ public abstract class MemberScope<M extends ResolvedMember<T>, T extends Member>
     private final ResolvedTypeWithMembers declaringTypeMembers;
     private boolean fakeContainerItemScope;
     private final TypeContext context;
+    /**
+     * Annotations on this member and its associated field/getter (collected once and shared with all copies of this scope).
+     */
+    private AtomicReference<Map<Class<? extends Annotation>, Annotation>> annotationLookup = new AtomicReference<>();
 
     /**
      * Constructor.
@@ -61,6 +70,20 @@ public abstract class MemberScope<M extends ResolvedMember<T>, T extends Member>
         this.context = context;
     }
 
+    /**
+     * Share the (lazily collected) annotations of the given scope with this copy of it.
+     *
+     * @param <S> specific type of this scope
+     * @param original scope representing the same field/method
+     * @return this instance (for chaining)
+     */
+    final <S extends MemberScope<M, T>> S withAnnotationsOf(MemberScope<M, T> original) {
+        this.annotationLookup = original.annotationLookup;
+        @SuppressWarnings("unchecked")
+        S copy = (S) this;
+        return copy;
+    }
+
     /**
      * Set the {@code fakeContainerItemScope} flag to {@code true}.
      *
@@ -272,6 +295,49 @@ public abstract class MemberScope<M extends ResolvedMember<T>, T extends Member>
      */
     public abstract <A extends Annotation> A getAnnotationConsideringFieldAndGetter(Class<A> annotationClass);
 
+    /**
+     * Check whether an annotation of at least one of the given types is present on either the field or its getter.
+     *
+     * @param annotationClasses types of annotations to look for
+     * @return whether any of the given annotations is present
+     * @see #getAnnotationConsideringFieldAndGetter(Class)
+     */
+    public boolean hasAnyAnnotationConsideringFieldAndGetter(Collection<Class<? extends Annotation>> annotationClasses) {
+        for (Class<? extends Annotation> annotationClass : annotationClasses) {
+            if (this.getAnnotationConsideringFieldAndGetter(annotationClass) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the annotation of the given type on the member, if such an annotation is present on either the member itself or its associated member
+     * (i.e. getter or field). The annotations of both are only collected once, on the first invocation for this member.
+     *
+     * @param <A> type of annotation
+     * @param annotationClass type of annotation
+     * @param associatedMemberLookup look-up of the associated getter/field (only invoked once)
+     * @return annotation instance (or {@code null} if no annotation of the given type is present)
+     */
+    <A extends Annotation> A getAnnotationConsideringAssociatedMember(Class<A> annotationClass,
+            Supplier<? extends MemberScope<?, ?>> associatedMemberLookup) {
+        Map<Class<? extends Annotation>, Annotation> annotations = this.annotationLookup.get();
+        if (annotations == null) {
+            Map<Class<? extends Annotation>, Annotation> collectedAnnotations = new HashMap<>();
+            MemberScope<?, ?> associatedMember = associatedMemberLookup.get();
+            if (associatedMember != null) {
+                associatedMember.getMember().getAnnotations()
+                        .forEach(annotation -> collectedAnnotations.put(annotation.annotationType(), annotation));
+            }
+            // annotations on the member itself take precedence over those on its associated member
+            this.member.getAnnotations().forEach(annotation -> collectedAnnotations.put(annotation.annotationType(), annotation));
+            this.annotationLookup.compareAndSet(null, collectedAnnotations);
+            annotations = this.annotationLookup.get();
+        }
+        return annotationClass.cast(annotations.get(annotationClass));
+    }
+
     /**
      * Returns the name to be used to reference this member in its parent's "properties".
      *
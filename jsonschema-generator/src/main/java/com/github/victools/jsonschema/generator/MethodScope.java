@@ -18,13 +18,13 @@ package com.github.victools.jsonschema.generator;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.classmate.members.ResolvedMethod;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Representation of a single introspected method.
@@ -60,13 +60,15 @@ public class MethodScope extends MemberScope<ResolvedMethod, Method> {
     @Override
     public MethodScope withOverriddenType(ResolvedType overriddenType) {
         return new MethodScope(this.getMember(), overriddenType, this.getOverriddenName(), this.getDeclaringTypeMembers(),
-                this.isFakeContainerItemScope(), this.getContext());
+                this.isFakeContainerItemScope(), this.getContext())
+                .withAnnotationsOf(this);
     }
 
     @Override
     public MethodScope withOverriddenName(String overriddenName) {
         return new MethodScope(this.getMember(), this.getOverriddenType(), overriddenName, this.getDeclaringTypeMembers(),
-                this.isFakeContainerItemScope(), this.getContext());
+                this.isFakeContainerItemScope(), this.getContext())
+                .withAnnotationsOf(this);
     }
 
     /**
@@ -100,36 +102,18 @@ public class MethodScope extends MemberScope<ResolvedMethod, Method> {
 
     /**
      * Look-up the field associated with this method if it is deemed to be a getter by convention.
+     * <br>
+     * This is based on the method's declared name and return type, i.e. ignoring any overridden name or type.
      *
      * @return associated field
      */
     public FieldScope findGetterField() {
-        if (this.getType() == null || !this.isPublic() || this.getArgumentCount() > 0) {
+        if (this.getDeclaredType() == null || !this.isPublic() || this.getArgumentCount() > 0) {
             // void and non-public methods or those with arguments are not deemed to be getters
             return null;
         }
-        String methodName = this.getName();
-        String fieldName;
-        if (methodName.startsWith("get") && methodName.length() > 3 && Character.isUpperCase(methodName.charAt(3))) {
-            // ensure that the variable starts with a lower-case letter
-            fieldName = methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
-        } else if (methodName.startsWith("is") && methodName.length() > 2 && Character.isUpperCase(methodName.charAt(2))) {
-            // ensure that the variable starts with a lower-case letter
-            fieldName = methodName.substring(2, 3).toLowerCase() + methodName.substring(3);
-        } else {
-            // method name does not fall into getter conventions
-            fieldName = null;
-        }
-        if (fieldName == null) {
-            return null;
-        }
-        // method name matched getter conventions
-        // check whether a matching field exists
-        return Stream.of(this.getDeclaringTypeMembers().getMemberFields())
-                .filter(memberField -> memberField.getName().equals(fieldName))
-                .findFirst()
-                .map(field -> this.getContext().createFieldScope(field, this.getDeclaringTypeMembers()))
-                .orElse(null);
+        ResolvedField getterField = this.getContext().getGetterFieldIndex(this.getDeclaringTypeMembers()).findGetterField(this.getDeclaredName());
+        return getterField == null ? null : this.getContext().createFieldScope(getterField, this.getDeclaringTypeMembers());
     }
 
     /**
@@ -139,17 +123,15 @@ public class MethodScope extends MemberScope<ResolvedMethod, Method> {
      * @see #findGetterField()
      */
     public boolean isGetter() {
-        return this.findGetterField() != null;
+        if (this.getDeclaredType() == null || !this.isPublic() || this.getArgumentCount() > 0) {
+            return false;
+        }
+        return this.getContext().getGetterFieldIndex(this.getDeclaringTypeMembers()).findGetterField(this.getDeclaredName()) != null;
     }
 
     @Override
     public <A extends Annotation> A getAnnotationConsideringFieldAndGetter(Class<A> annotationClass) {
-        A annotation = this.getAnnotation(annotationClass);
-        if (annotation == null) {
-            MemberScope<?, ?> associatedField = this.findGetterField();
-            annotation = associatedField == null ? null : associatedField.getAnnotation(annotationClass);
-        }
-        return annotation;
+        return this.getAnnotationConsideringAssociatedMember(annotationClass, this::findGetterField);
     }
 
     /**
@@ -213,7 +213,42 @@ public enum Option {
      * <br>
      * Default: false (disabled)
      */
-    ALLOF_CLEANUP_AT_THE_END(null, null);
+    ALLOF_CLEANUP_AT_THE_END(null, null),
+    /**
+     * Whether as the last step of the schema generation, structurally identical entries in the "definitions"/"$defs" should be collapsed into a
+     * single one, with all references to the removed entries pointing to the remaining one instead. This also applies to definitions of different
+     * types that happen to result in the same sub-schema, e.g. wrappers with the same properties or generic types resulting in the same schema.
+     * <br>
+     * Default: false (disabled)
+     */
+    DEFINITION_DEDUPLICATION_AT_THE_END(null, null),
+    /**
+     * Whether the definitions of all encountered types should be populated one after another from an explicit work queue, instead of recursively
+     * while populating the definition referencing them. This avoids a {@link StackOverflowError} for very deep type graphs (e.g. generated models
+     * with hundreds of nesting levels), while producing the same schema as the recursive traversal.
+     * <br>
+     * Only the population of separate definitions is being queued. Sub-schemas that are always generated in-line within their parent are still
+     * populated recursively, e.g. the "items" of nested arrays/collections like {@code List<List<String>>} or in-line custom definitions that in
+     * turn create further in-line definitions via {@link SchemaGenerationContext#createStandardDefinition}. Their nesting depth is thereby limited
+     * by a single declaration rather than by the depth of the whole type graph.
+     * <br>
+     * Default: false (disabled)
+     */
+    ITERATIVE_TYPE_TRAVERSAL(null, null),
+    /**
+     * Whether the general attributes of a type (e.g. "title", "description", "enum", "minimum") should only be collected once per type and set of
+     * allowed schema types, instead of running all configured type resolvers again each time. The collected attributes are being shared across
+     * all schema generations of the same {@link SchemaGenerator} instance. They never need to be invalidated, since a built configuration cannot be
+     * changed anymore: a different configuration requires a new {@link SchemaGenerator} and thereby a new cache.
+     * <br>
+     * Only the attributes collected for a plain type are being cached, e.g. for the main type, subtypes or standard definitions created by custom
+     * definition providers. Attributes collected for a type in the context of a field/method (e.g. an in-line custom definition of a property's
+     * type) are always collected anew, as the configured resolvers may consider that field/method. Attributes that refer to other definitions (e.g.
+     * "additionalProperties" with a specific type) are not being cached either.
+     * <br>
+     * Default: false (disabled)
+     */
+    CACHED_TYPE_ATTRIBUTES(null, null);
 
     /**
      * Optional: the module realising the setting/option if it is enabled.
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, array-based snapshot of the resolvers/checks registered for a single aspect in a config part. These are being compiled in
+ * {@link SchemaGeneratorConfigBuilder#build()}, so that the built configuration is no longer affected by subsequent changes to its builder and the
+ * dispatching of each resolver invocation neither has to go through a mutable list nor to check each entry for being {@link AnnotationDependent}
+ * if none of them is.
+ *
+ * @param <E> type of the contained resolvers/checks
+ */
+final class ResolverTable<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final ResolverTable<Object> EMPTY = new ResolverTable<>(new Object[0]);
+
+    private final Object[] entries;
+    private final boolean containingAnnotationDependent;
+
+    /**
+     * Constructor.
+     *
+     * @param entries resolvers/checks to hold (must not be modified afterwards)
+     */
+    private ResolverTable(Object[] entries) {
+        this.entries = entries;
+        boolean annotationDependent = false;
+        for (Object entry : entries) {
+            annotationDependent = annotationDependent || entry instanceof AnnotationDependent;
+        }
+        this.containingAnnotationDependent = annotationDependent;
+    }
+
+    /**
+     * Create an immutable snapshot of the given resolvers/checks. All empty lists share the same instance.
+     *
+     * @param <E> type of the contained resolvers/checks
+     * @param entries resolvers/checks to include
+     * @return immutable snapshot
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ResolverTable<E> of(List<? extends E> entries) {
+        if (entries instanceof ResolverTable) {
+            return (ResolverTable<E>) entries;
+        }
+        if (entries.isEmpty()) {
+            return (ResolverTable<E>) EMPTY;
+        }
+        return new ResolverTable<>(entries.toArray());
+    }
+
+    /**
+     * Check whether any of the given resolvers/checks may need to be skipped for a member without the relevant annotations.
+     *
+     * @param entries resolvers/checks to look-up
+     * @return whether the given entries are either not being compiled into a {@link ResolverTable} or it contains {@link AnnotationDependent} ones
+     */
+    static boolean mayContainAnnotationDependent(List<?> entries) {
+        return !(entries instanceof ResolverTable) || ((ResolverTable<?>) entries).containingAnnotationDependent;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) this.entries[index];
+    }
+
+    @Override
+    public int size() {
+        return this.entries.length;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits to be honoured by a single schema generation, e.g. when generating schemas for types from an untrusted source that may result in huge type
+ * graphs (through generics, subtypes or large enums).
+ * <br>
+ * The limits are being checked whenever a new definition is about to be added and before populating each definition. When a limit is exceeded, the
+ * configured {@link ExceedingStrategy} applies. A cancellation always results in a {@link CancellationException}.
+ *
+ * @see SchemaGenerator#generateSchema(SchemaGenerationBudget, java.lang.reflect.Type, java.lang.reflect.Type...)
+ */
+public class SchemaGenerationBudget {
+
+    /**
+     * How to react when one of the budget's limits is exceeded.
+     */
+    public enum ExceedingStrategy {
+        /**
+         * Abort the schema generation by throwing a {@link SchemaGenerationBudgetExceededException}.
+         */
+        FAIL,
+        /**
+         * Complete the schema generation without adding any further definitions, i.e. each type that is encountered afterwards is represented by an
+         * empty schema ("{}") and definitions that had been added but not yet populated are left empty.
+         */
+        DEGRADE;
+    }
+
+    /**
+     * The individual limits of a budget.
+     */
+    public enum Limit {
+        /**
+         * The maximum number of definitions.
+         *
+         * @see SchemaGenerationBudget#withMaximumDefinitionCount(int)
+         */
+        DEFINITION_COUNT,
+        /**
+         * The maximum number of (sub) schema nodes.
+         *
+         * @see SchemaGenerationBudget#withMaximumNodeCount(int)
+         */
+        NODE_COUNT,
+        /**
+         * The maximum nesting depth of definitions.
+         *
+         * @see SchemaGenerationBudget#withMaximumDepth(int)
+         */
+        DEPTH,
+        /**
+         * The maximum duration.
+         *
+         * @see SchemaGenerationBudget#withTimeout(long, TimeUnit)
+         */
+        TIME;
+    }
+
+    private int maximumDefinitionCount = Integer.MAX_VALUE;
+    private int maximumNodeCount = Integer.MAX_VALUE;
+    private int maximumDepth = Integer.MAX_VALUE;
+    private long timeoutNanos = Long.MAX_VALUE;
+    private BooleanSupplier cancellationCheck = null;
+    private ExceedingStrategy exceedingStrategy = ExceedingStrategy.FAIL;
+
+    /**
+     * Setter for the maximum number of definitions to be collected (including the main schema and the ones being inlined at the end).
+     *
+     * @param maximumDefinitionCount maximum number of definitions (must be greater than zero)
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withMaximumDefinitionCount(int maximumDefinitionCount) {
+        this.maximumDefinitionCount = SchemaGenerationBudget.requirePositive(maximumDefinitionCount, "maximum definition count");
+        return this;
+    }
+
+    /**
+     * Setter for the maximum number of (sub) schema nodes to be created by the generator itself, i.e. definitions, properties, array items and
+     * their wrappers – excluding the nodes created by custom definitions or attribute look-ups.
+     *
+     * @param maximumNodeCount maximum number of (sub) schema nodes (must be greater than zero)
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withMaximumNodeCount(int maximumNodeCount) {
+        this.maximumNodeCount = SchemaGenerationBudget.requirePositive(maximumNodeCount, "maximum node count");
+        return this;
+    }
+
+    /**
+     * Setter for the maximum nesting depth of definitions, where the main schema is on the first level, the definitions referenced from it on the
+     * second level and so on.
+     *
+     * @param maximumDepth maximum nesting depth (must be greater than zero)
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withMaximumDepth(int maximumDepth) {
+        this.maximumDepth = SchemaGenerationBudget.requirePositive(maximumDepth, "maximum depth");
+        return this;
+    }
+
+    /**
+     * Setter for the maximum duration of the collection of definitions (not including the final clean-up steps).
+     *
+     * @param timeout maximum duration (must not be negative)
+     * @param unit unit of the given duration
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative, but was: " + timeout);
+        }
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Setter for the check whether the schema generation should be cancelled, e.g. {@code () -> Thread.currentThread().isInterrupted()} or
+     * {@code future::isCancelled}. This is being checked regularly throughout the schema generation.
+     *
+     * @param cancellationCheck check returning true once the schema generation should be cancelled
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withCancellationCheck(BooleanSupplier cancellationCheck) {
+        this.cancellationCheck = cancellationCheck;
+        return this;
+    }
+
+    /**
+     * Setter for how to react when one of this budget's limits is exceeded. Default: {@link ExceedingStrategy#FAIL}.
+     *
+     * @param exceedingStrategy reaction to an exceeded limit
+     * @return this budget (for chaining)
+     */
+    public SchemaGenerationBudget withExceedingStrategy(ExceedingStrategy exceedingStrategy) {
+        this.exceedingStrategy = exceedingStrategy;
+        return this;
+    }
+
+    /**
+     * Getter for the maximum number of definitions.
+     *
+     * @return maximum number of definitions (is {@link Integer#MAX_VALUE} if not set)
+     */
+    public int getMaximumDefinitionCount() {
+        return this.maximumDefinitionCount;
+    }
+
+    /**
+     * Getter for the maximum number of (sub) schema nodes.
+     *
+     * @return maximum number of (sub) schema nodes (is {@link Integer#MAX_VALUE} if not set)
+     */
+    public int getMaximumNodeCount() {
+        return this.maximumNodeCount;
+    }
+
+    /**
+     * Getter for the maximum nesting depth of definitions.
+     *
+     * @return maximum nesting depth (is {@link Integer#MAX_VALUE} if not set)
+     */
+    public int getMaximumDepth() {
+        return this.maximumDepth;
+    }
+
+    /**
+     * Getter for the maximum duration.
+     *
+     * @return maximum duration in nanoseconds (is {@link Long#MAX_VALUE} if not set)
+     */
+    public long getTimeoutNanos() {
+        return this.timeoutNanos;
+    }
+
+    /**
+     * Getter for the check whether the schema generation should be cancelled.
+     *
+     * @return cancellation check (may be null)
+     */
+    public BooleanSupplier getCancellationCheck() {
+        return this.cancellationCheck;
+    }
+
+    /**
+     * Getter for how to react when one of this budget's limits is exceeded.
+     *
+     * @return reaction to an exceeded limit
+     */
+    public ExceedingStrategy getExceedingStrategy() {
+        return this.exceedingStrategy;
+    }
+
+    /**
+     * Ensure the given limit is greater than zero.
+     *
+     * @param limit value to check
+     * @param limitName name of the limit to mention in the exception message
+     * @return given value
+     */
+    private static int requirePositive(int limit, String limitName) {
+        if (limit < 1) {
+            throw new IllegalArgumentException(limitName + " must be greater than zero, but was: " + limit);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+
+/**
+ * Exception indicating that a schema generation was aborted, because it exceeded one of the limits of its {@link SchemaGenerationBudget}.
+ */
+public class SchemaGenerationBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SchemaGenerationBudget.Limit exceededLimit;
+    private final transient ResolvedType type;
+
+    /**
+     * Constructor.
+     *
+     * @param exceededLimit the limit that was exceeded
+     * @param type type that was being processed when the limit was exceeded
+     * @param message diagnostic message including the state of the schema generation at the time the limit was exceeded
+     */
+    public SchemaGenerationBudgetExceededException(SchemaGenerationBudget.Limit exceededLimit, ResolvedType type, String message) {
+        super(message);
+        this.exceededLimit = exceededLimit;
+        this.type = type;
+    }
+
+    /**
+     * Getter for the limit that was exceeded.
+     *
+     * @return exceeded limit
+     */
+    public SchemaGenerationBudget.Limit getExceededLimit() {
+        return this.exceededLimit;
+    }
+
+    /**
+     * Getter for the type that was being processed when the limit was exceeded.
+     *
+     * @return type being processed
+     */
+    public ResolvedType getType() {
+        return this.type;
+    }
+}
@@ -18,32 +18,43 @@ package com.github.victools.jsonschema.generator;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.impl.DefinitionCache;
 import com.github.victools.jsonschema.generator.impl.DefinitionKey;
+import com.github.victools.jsonschema.generator.impl.DefinitionNamingService;
+import com.github.victools.jsonschema.generator.impl.GenerationMetricsRecorder;
+import com.github.victools.jsonschema.generator.impl.RequestCoalescer;
+import com.github.victools.jsonschema.generator.impl.SchemaCleanUpUtils;
 import com.github.victools.jsonschema.generator.impl.SchemaGenerationContextImpl;
+import com.github.victools.jsonschema.generator.impl.TypeAttributeCache;
 import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Generator for JSON Schema definitions via reflection based analysis of a given class.
+ * <br>
+ * A single instance may be used to generate multiple schemas concurrently, i.e. {@link #generateSchema(Type, Type...)} may be called from multiple
+ * threads at the same time. That requires the configuration (including all registered modules, resolvers and custom definition providers) to no
+ * longer be modified and to be thread-safe itself.
  */
 public class SchemaGenerator {
 
     private final SchemaGeneratorConfig config;
     private final TypeContext typeContext;
+    private final DefinitionCache definitionCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TypeAttributeCache typeAttributeCache;
+    private final DefinitionNamingService namingService;
+    private final SchemaCleanUpUtils cleanUpUtils;
+    private final GenerationMetricsRecorder metrics;
 
     /**
      * Constructor.
@@ -61,8 +72,75 @@ public class SchemaGenerator {
      * @param context type resolution/introspection context to be used during schema generations (across multiple schema generations)
      */
     public SchemaGenerator(SchemaGeneratorConfig config, TypeContext context) {
+        this(config, context, null, null);
+    }
+
+    /**
+     * Constructor enabling the re-use of generated definitions across multiple schema generations.
+     * <br>
+     * Beware: this assumes that the configured custom definitions and attribute look-ups return the same results for the same type each time.
+     *
+     * @param config configuration to be applied
+     * @param context type resolution/introspection context to be used during schema generations (across multiple schema generations)
+     * @param definitionCacheSize maximum number of generated definitions to remember (across multiple schema generations)
+     * @see #getDefinitionCache()
+     */
+    public SchemaGenerator(SchemaGeneratorConfig config, TypeContext context, int definitionCacheSize) {
+        this(config, context, new DefinitionCache(definitionCacheSize), null);
+    }
+
+    /**
+     * Constructor enabling the re-use of generated definitions across multiple schema generations and/or the coalescing of concurrent schema
+     * generations for the same type.
+     * <br>
+     * Beware: the definition cache assumes that the configured custom definitions and attribute look-ups return the same results for the same type
+     * each time.
+     *
+     * @param config configuration to be applied
+     * @param context type resolution/introspection context to be used during schema generations (across multiple schema generations)
+     * @param definitionCache cache of generated definitions to re-use across multiple schema generations (may be null)
+     * @param requestCoalescer coalescing of concurrent schema generations for the same type (may be null)
+     * @see #getDefinitionCache()
+     * @see #getRequestCoalescer()
+     */
+    public SchemaGenerator(SchemaGeneratorConfig config, TypeContext context, DefinitionCache definitionCache, RequestCoalescer requestCoalescer) {
         this.config = config;
         this.typeContext = context;
+        this.definitionCache = definitionCache;
+        this.requestCoalescer = requestCoalescer;
+        this.typeAttributeCache = config.shouldCacheTypeAttributes() ? new TypeAttributeCache() : null;
+        this.namingService = new DefinitionNamingService(context);
+        this.cleanUpUtils = new SchemaCleanUpUtils(config);
+        this.metrics = new GenerationMetricsRecorder(config.getGenerationMetricsListener());
+    }
+
+    /**
+     * Getter for the cache of definitions being re-used across multiple schema generations, e.g. in order to check its hit and miss counts.
+     *
+     * @return definition cache (or null if it was not enabled via the respective constructor)
+     * @see #SchemaGenerator(SchemaGeneratorConfig, TypeContext, int)
+     */
+    public DefinitionCache getDefinitionCache() {
+        return this.definitionCache;
+    }
+
+    /**
+     * Getter for the general type attributes being re-used across multiple schema generations, e.g. in order to check its hit and miss counts.
+     *
+     * @return type attribute cache (or null if {@link Option#CACHED_TYPE_ATTRIBUTES} is not enabled)
+     */
+    public TypeAttributeCache getTypeAttributeCache() {
+        return this.typeAttributeCache;
+    }
+
+    /**
+     * Getter for the coalescing of concurrent schema generations for the same type, e.g. in order to check its statistics.
+     *
+     * @return request coalescer (or null if it was not enabled via the respective constructor)
+     * @see #SchemaGenerator(SchemaGeneratorConfig, TypeContext, DefinitionCache, RequestCoalescer)
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return this.requestCoalescer;
     }
 
     /**
@@ -73,8 +151,75 @@ public class SchemaGenerator {
      * @return generated JSON Schema
      */
     public JsonNode generateSchema(Type mainTargetType, Type... typeParameters) {
-        SchemaGenerationContextImpl generationContext = new SchemaGenerationContextImpl(this.config, this.typeContext);
+        ResolvedType mainType = this.resolveMainType(mainTargetType, typeParameters);
+        if (this.requestCoalescer == null) {
+            return this.createSchema(mainType, null);
+        }
+        return this.requestCoalescer.generate(mainType, () -> this.createSchema(mainType, null));
+    }
+
+    /**
+     * Generate a {@link JsonNode} containing the JSON Schema representation of the given type, while honouring the limits of the given budget.
+     * <br>
+     * Such a schema generation is never being coalesced with concurrent schema generations for the same type (as they may have different limits).
+     * If the budget is configured to degrade the result when one of its limits is exceeded, none of the generated definitions are being added to the
+     * definition cache either.
+     *
+     * @param budget limits to honour during the schema generation
+     * @param mainTargetType type for which to generate the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return generated JSON Schema
+     * @throws SchemaGenerationBudgetExceededException if one of the budget's limits is exceeded and it is configured to fail in that case
+     * @throws java.util.concurrent.CancellationException if the budget's cancellation check indicated that the schema generation should stop
+     */
+    public JsonNode generateSchema(SchemaGenerationBudget budget, Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.resolveMainType(mainTargetType, typeParameters);
+        return this.createSchema(mainType, budget);
+    }
+
+    /**
+     * Generate a view on the JSON Schema representation of the given type, in which only the main schema is being generated right away. Each
+     * definition being referenced from it is only generated when it is accessed for the first time.
+     * <br>
+     * Such a schema generation is never being coalesced with concurrent schema generations for the same type and its definitions are not being added
+     * to the definition cache.
+     *
+     * @param mainTargetType type for which to generate the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return lazily generated JSON Schema
+     */
+    public LazySchema generateSchemaLazily(Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.resolveMainType(mainTargetType, typeParameters);
+        SchemaGenerationContextImpl generationContext = new SchemaGenerationContextImpl(this.config, this.typeContext, this.definitionCache, null,
+                this.typeAttributeCache, this.metrics);
+        DefinitionKey mainKey = generationContext.parseTypeLazily(mainType);
+        return new LazySchema(this.config, generationContext, mainKey, this.cleanUpUtils, key -> this.namingService.getBaseName(key.getType()));
+    }
+
+    /**
+     * Resolve the given main target type, for which a schema should be generated.
+     *
+     * @param mainTargetType type for which to generate the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return resolved main type
+     */
+    private ResolvedType resolveMainType(Type mainTargetType, Type... typeParameters) {
+        long resolutionStart = this.metrics.start();
         ResolvedType mainType = this.typeContext.resolve(mainTargetType, typeParameters);
+        this.metrics.complete(GenerationPhase.TYPE_RESOLUTION, resolutionStart, 1);
+        return mainType;
+    }
+
+    /**
+     * Generate a {@link JsonNode} containing the JSON Schema representation of the given (resolved) type.
+     *
+     * @param mainType type for which to generate the JSON Schema
+     * @param budget limits to honour during the schema generation (may be null)
+     * @return generated JSON Schema
+     */
+    private JsonNode createSchema(ResolvedType mainType, SchemaGenerationBudget budget) {
+        SchemaGenerationContextImpl generationContext = new SchemaGenerationContextImpl(this.config, this.typeContext, this.definitionCache,
+                budget, this.typeAttributeCache, this.metrics);
         DefinitionKey mainKey = generationContext.parseType(mainType);
 
         ObjectNode jsonSchemaResult = this.config.createObjectNode();
@@ -82,22 +227,74 @@ public class SchemaGenerator {
             jsonSchemaResult.put(this.config.getKeyword(SchemaKeyword.TAG_SCHEMA),
                     this.config.getKeyword(SchemaKeyword.TAG_SCHEMA_VALUE));
         }
+        long resolutionStart = this.metrics.start();
         ObjectNode definitionsNode = this.buildDefinitionsAndResolveReferences(mainKey, generationContext);
+        this.metrics.complete(GenerationPhase.REFERENCE_RESOLUTION, resolutionStart, generationContext.getDefinedTypes().size());
         if (definitionsNode.size() > 0) {
             jsonSchemaResult.set(this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS), definitionsNode);
         }
         ObjectNode mainSchemaNode = generationContext.getDefinition(mainKey);
         jsonSchemaResult.setAll(mainSchemaNode);
-        if (this.config.shouldCleanupUnnecessaryAllOfElements()) {
-            String allOfTagName = this.config.getKeyword(SchemaKeyword.TAG_ALLOF);
-            this.finaliseSchemaParts(jsonSchemaResult, nodeToCheck -> this.mergeAllOfPartsIfPossible(nodeToCheck, allOfTagName));
+        this.cleanUpUtils.finaliseSchemaParts(jsonSchemaResult, this.metrics);
+        if (this.config.shouldDeduplicateDefinitions()) {
+            long deduplicationStart = this.metrics.start();
+            this.cleanUpUtils.deduplicateDefinitions(jsonSchemaResult);
+            this.metrics.complete(GenerationPhase.DEFINITION_DEDUPLICATION, deduplicationStart, definitionsNode.size());
         }
-        String anyOfTagName = this.config.getKeyword(SchemaKeyword.TAG_ANYOF);
-        this.finaliseSchemaParts(jsonSchemaResult, nodeToCheck -> this.reduceAnyOfWrappersIfPossible(nodeToCheck, anyOfTagName));
 
         return jsonSchemaResult;
     }
 
+    /**
+     * Generate the JSON Schema representations of all the given types in parallel, using the common {@link ForkJoinPool}.
+     * <br>
+     * All generations share this generator's {@link TypeContext}, i.e. the type resolution and collected fields/methods per type. If this generator
+     * was created with a definition cache, the definitions generated for one of the given types are also re-used for the others.
+     *
+     * @param targetTypes types for which to generate the JSON Schemas
+     * @return generated JSON Schemas (in the same order as the given types)
+     * @see #generateSchemas(Collection, Executor)
+     */
+    public List<JsonNode> generateSchemas(Collection<? extends Type> targetTypes) {
+        return this.generateSchemas(targetTypes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generate the JSON Schema representations of all the given types in parallel, using the given executor.
+     * <br>
+     * All generations share this generator's {@link TypeContext}, i.e. the type resolution and collected fields/methods per type. If this generator
+     * was created with a definition cache, the definitions generated for one of the given types are also re-used for the others.
+     *
+     * @param targetTypes types for which to generate the JSON Schemas
+     * @param executor executor to run the individual schema generations on
+     * @return generated JSON Schemas (in the same order as the given types)
+     * @see #generateSchema(Type, Type...)
+     */
+    public List<JsonNode> generateSchemas(Collection<? extends Type> targetTypes, Executor executor) {
+        List<CompletableFuture<JsonNode>> pendingResults = new ArrayList<>(targetTypes.size());
+        for (Type targetType : targetTypes) {
+            pendingResults.add(CompletableFuture.supplyAsync(() -> this.generateSchema(targetType), executor));
+        }
+        List<JsonNode> results = new ArrayList<>(pendingResults.size());
+        try {
+            for (CompletableFuture<JsonNode> pendingResult : pendingResults) {
+                results.add(pendingResult.join());
+            }
+        } catch (CompletionException ex) {
+            // no need to generate the remaining schemas, if the overall result cannot be provided anyway
+            pendingResults.forEach(pendingResult -> pendingResult.cancel(false));
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
     /**
      * Finalisation Step: collect the entries for the generated schema's "definitions" and ensure that all references are either pointing to the
      * appropriate definition or contain the respective (sub) schema directly inline.
@@ -109,7 +306,8 @@ public class SchemaGenerator {
     private ObjectNode buildDefinitionsAndResolveReferences(DefinitionKey mainSchemaKey, SchemaGenerationContextImpl generationContext) {
         ObjectNode definitionsNode = this.config.createObjectNode();
         boolean createDefinitionsForAll = this.config.shouldCreateDefinitionsForAllObjects();
-        for (Map.Entry<DefinitionKey, String> entry : this.getReferenceKeys(mainSchemaKey, generationContext).entrySet()) {
+        Map<DefinitionKey, String> definitionNames = this.namingService.getDefinitionNames(mainSchemaKey, generationContext.getDefinedTypes());
+        for (Map.Entry<DefinitionKey, String> entry : definitionNames.entrySet()) {
             String definitionName = entry.getValue();
             DefinitionKey definitionKey = entry.getKey();
             List<ObjectNode> references = generationContext.getReferences(definitionKey);
@@ -152,217 +350,4 @@ public class SchemaGenerator {
         }
         return definitionsNode;
     }
-
-    /**
-     * Derive the applicable keys for the collected entries for the {@link SchemaKeyword#TAG_DEFINITIONS} in the given context.
-     *
-     * @param mainSchemaKey special definition key for the main schema
-     * @param generationContext generation context in which all traversed types and their definitions have been collected
-     * @return encountered types with their corresponding reference keys
-     */
-    private Map<DefinitionKey, String> getReferenceKeys(DefinitionKey mainSchemaKey, SchemaGenerationContextImpl generationContext) {
-        Map<String, List<DefinitionKey>> aliases = generationContext.getDefinedTypes().stream()
-                .collect(Collectors.groupingBy(this::getSchemaBaseDefinitionName, TreeMap::new, Collectors.toList()));
-        Map<DefinitionKey, String> referenceKeys = new LinkedHashMap<>();
-        for (Map.Entry<String, List<DefinitionKey>> group : aliases.entrySet()) {
-            List<DefinitionKey> definitionKeys = group.getValue();
-            if (definitionKeys.size() == 1 || (definitionKeys.size() == 2 && definitionKeys.contains(mainSchemaKey))) {
-                definitionKeys.forEach(key -> referenceKeys.put(key, group.getKey()));
-            } else {
-                AtomicInteger counter = new AtomicInteger(0);
-                definitionKeys.forEach(key -> referenceKeys.put(key, group.getKey() + "-" + counter.incrementAndGet()));
-            }
-        }
-        return referenceKeys;
-    }
-
-    /**
-     * Returns the name to be associated with an entry in the generated schema's list of {@link SchemaKeyword#TAG_DEFINITIONS}.
-     * <br>
-     * Beware: if multiple types have the same name, the actual key in {@link SchemaKeyword#TAG_DEFINITIONS} may have a numeric counter appended to it
-     *
-     * @param key the definition key to be represented in the generated schema's {@link SchemaKeyword#TAG_DEFINITIONS}
-     * @return name in {@link SchemaKeyword#TAG_DEFINITIONS}
-     */
-    private String getSchemaBaseDefinitionName(DefinitionKey key) {
-        String schemaDefinitionName = this.typeContext.getSchemaDefinitionName(key.getType());
-        // ensure that the type description is converted into an URI-compatible format
-        String uriCompatibleName = schemaDefinitionName
-                // removing white-spaces
-                .replaceAll("[ ]+", "")
-                // marking arrays with an asterisk instead of square brackets
-                .replaceAll("\\[\\]", "*")
-                // indicating generics in parentheses instead of angled brackets
-                .replaceAll("<", "(")
-                .replaceAll(">", ")");
-        return uriCompatibleName;
-    }
-
-    /**
-     * Collect names of schema tags that may contain sub-schemas, i.e. {@link SchemaKeyword#TAG_ADDITIONAL_PROPERTIES} and
-     * {@link SchemaKeyword#TAG_ITEMS}.
-     *
-     * @return names of eligible tags as per the designated JSON Schema version
-     * @see #discardUnnecessaryAllOfWrappers(ObjectNode)
-     */
-    private Set<String> getTagNamesContainingSchema() {
-        SchemaVersion schemaVersion = this.config.getSchemaVersion();
-        return Stream.of(SchemaKeyword.TAG_ADDITIONAL_PROPERTIES, SchemaKeyword.TAG_ITEMS)
-                .map(keyword -> keyword.forVersion(schemaVersion))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Collect names of schema tags that may contain arrays of sub-schemas, i.e. {@link SchemaKeyword#TAG_ALLOF}, {@link SchemaKeyword#TAG_ANYOF} and
-     * {@link SchemaKeyword#TAG_ONEOF}.
-     *
-     * @return names of eligible tags as per the designated JSON Schema version
-     * @see #discardUnnecessaryAllOfWrappers(ObjectNode)
-     */
-    private Set<String> getTagNamesContainingSchemaArray() {
-        SchemaVersion schemaVersion = this.config.getSchemaVersion();
-        return Stream.of(SchemaKeyword.TAG_ALLOF, SchemaKeyword.TAG_ANYOF, SchemaKeyword.TAG_ONEOF)
-                .map(keyword -> keyword.forVersion(schemaVersion))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Collect names of schema tags that may contain objects with sub-schemas as values, i.e. {@link SchemaKeyword#TAG_PATTERN_PROPERTIES} and
-     * {@link SchemaKeyword#TAG_PROPERTIES}.
-     *
-     * @return names of eligible tags as per the designated JSON Schema version
-     * @see #discardUnnecessaryAllOfWrappers(ObjectNode)
-     */
-    private Set<String> getTagNamesContainingSchemaObject() {
-        SchemaVersion schemaVersion = this.config.getSchemaVersion();
-        return Stream.of(SchemaKeyword.TAG_PATTERN_PROPERTIES, SchemaKeyword.TAG_PROPERTIES)
-                .map(keyword -> keyword.forVersion(schemaVersion))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Iterate through a generated and fully populated schema and remove extraneous {@link SchemaKeyword#TAG_ANYOF} nodes, where one entry of the
-     * array is again a {@link SchemaKeyword#TAG_ANYOF} wrapper and nothing else. This makes for more readable schemas being generated but has the
-     * side-effect that any manually added {@link SchemaKeyword#TAG_ANYOF} (e.g. through a custom definition of attribute overrides) may be removed as
-     * well if it isn't strictly speaking necessary.
-     *
-     * @param schemaNode generated schema to clean-up
-     * @param performCleanUpOnSingleSchemaNode clean up task to execute before looking for deeper nested sub-schemas for which to apply the same
-     */
-    private void finaliseSchemaParts(ObjectNode schemaNode, Consumer<ObjectNode> performCleanUpOnSingleSchemaNode) {
-        List<ObjectNode> nextNodesToCheck = new ArrayList<>();
-        Consumer<JsonNode> addNodeToCheck = node -> {
-            if (node instanceof ObjectNode) {
-                nextNodesToCheck.add((ObjectNode) node);
-            }
-        };
-        nextNodesToCheck.add(schemaNode);
-        Optional.ofNullable(schemaNode.get(this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS)))
-                .filter(definitions -> definitions instanceof ObjectNode)
-                .ifPresent(definitions -> ((ObjectNode) definitions).forEach(addNodeToCheck));
-
-        Set<String> tagsWithSchemas = this.getTagNamesContainingSchema();
-        Set<String> tagsWithSchemaArrays = this.getTagNamesContainingSchemaArray();
-        Set<String> tagsWithSchemaObjects = this.getTagNamesContainingSchemaObject();
-        do {
-            List<ObjectNode> currentNodesToCheck = new ArrayList<>(nextNodesToCheck);
-            nextNodesToCheck.clear();
-            for (ObjectNode nodeToCheck : currentNodesToCheck) {
-                performCleanUpOnSingleSchemaNode.accept(nodeToCheck);
-                tagsWithSchemas.stream().map(nodeToCheck::get).forEach(addNodeToCheck);
-                tagsWithSchemaArrays.stream()
-                        .map(nodeToCheck::get)
-                        .filter(possibleArrayNode -> possibleArrayNode instanceof ArrayNode)
-                        .forEach(arrayNode -> arrayNode.forEach(addNodeToCheck));
-                tagsWithSchemaObjects.stream()
-                        .map(nodeToCheck::get)
-                        .filter(possibleObjectNode -> possibleObjectNode instanceof ObjectNode)
-                        .forEach(objectNode -> objectNode.forEach(addNodeToCheck));
-            }
-        } while (!nextNodesToCheck.isEmpty());
-    }
-
-    /**
-     * Check whether the given schema node and its {@link SchemaKeyword#TAG_ALLOF} elements (if there are any) are distinct. If yes, remove the
-     * {@link SchemaKeyword#TAG_ALLOF} node and merge all its elements with the given schema node instead.
-     * <br>
-     * This makes for more readable schemas being generated but has the side-effect that manually added {@link SchemaKeyword#TAG_ALLOF} (e.g. from a
-     * custom definition or attribute overrides) may be removed as well if it isn't strictly speaking necessary.
-     *
-     * @param schemaNode single node representing a sub-schema to consolidate contained {@link SchemaKeyword#TAG_ALLOF} for (if present)
-     * @param allOfTagName name of the {@link SchemaKeyword#TAG_ALLOF} in the designated JSON Schema version
-     */
-    private void mergeAllOfPartsIfPossible(JsonNode schemaNode, String allOfTagName) {
-        if (!(schemaNode instanceof ObjectNode)) {
-            return;
-        }
-        JsonNode allOfTag = schemaNode.get(allOfTagName);
-        if (!(allOfTag instanceof ArrayNode)) {
-            return;
-        }
-        allOfTag.forEach(part -> this.mergeAllOfPartsIfPossible(part, allOfTagName));
-
-        List<JsonNode> allOfElements = new ArrayList<>();
-        allOfTag.forEach(allOfElements::add);
-        if (allOfElements.stream().anyMatch(part -> !(part instanceof ObjectNode) && !part.asBoolean())) {
-            return;
-        }
-        List<ObjectNode> parts = allOfElements.stream()
-                .filter(part -> part instanceof ObjectNode)
-                .map(part -> (ObjectNode) part)
-                .collect(Collectors.toList());
-
-        final ObjectNode schemaObjectNode = (ObjectNode) schemaNode;
-        final SchemaVersion schemaVersion = this.config.getSchemaVersion();
-        if (schemaVersion == SchemaVersion.DRAFT_7) {
-            // in Draft 7, any other attributes besides the $ref keyword were ignored
-            String refKeyword = SchemaKeyword.TAG_REF.forVersion(schemaVersion);
-            if (schemaObjectNode.has(refKeyword) || parts.stream().anyMatch(part -> part.has(refKeyword))) {
-                return;
-            }
-        }
-        Map<String, Integer> fieldCount = Stream.concat(Stream.of(schemaObjectNode), parts.stream())
-                .flatMap(part -> StreamSupport.stream(((Iterable<String>) () -> part.fieldNames()).spliterator(), false))
-                .collect(Collectors.toMap(fieldName -> fieldName, _value -> 1, (currentCount, nextCount) -> currentCount + nextCount));
-        if (fieldCount.values().stream().allMatch(count -> count == 1)) {
-            schemaObjectNode.remove(allOfTagName);
-            parts.forEach(schemaObjectNode::setAll);
-        }
-    }
-
-    /**
-     * Check whether the given schema node contains a {@link SchemaKeyword#TAG_ANYOF} element which in turn contains an entry with only another
-     * {@link SchemaKeyword#TAG_ANYOF} inside. If yes, move the entries from the inner array up to the outer one.
-     * <br>
-     * This makes for more readable schemas being generated but has the side-effect that manually added {@link SchemaKeyword#TAG_ANYOF} entries (e.g.
-     * from a custom definition or attribute overrides) may be removed as well if it isn't strictly speaking necessary.
-     *
-     * @param schemaNode single node representing a sub-schema to consolidate contained {@link SchemaKeyword#TAG_ANYOF} for (if present)
-     * @param anyOfTagName name of the {@link SchemaKeyword#TAG_ANYOF} in the designated JSON Schema version
-     */
-    private void reduceAnyOfWrappersIfPossible(JsonNode schemaNode, String anyOfTagName) {
-        if (!(schemaNode instanceof ObjectNode)) {
-            return;
-        }
-        JsonNode anyOfTag = schemaNode.get(anyOfTagName);
-        if (!(anyOfTag instanceof ArrayNode)) {
-            return;
-        }
-        anyOfTag.forEach(part -> this.reduceAnyOfWrappersIfPossible(part, anyOfTagName));
-
-        for (int index = anyOfTag.size() - 1; index > -1; index--) {
-            JsonNode arrayEntry = anyOfTag.get(index);
-            if (!(arrayEntry instanceof ObjectNode) || arrayEntry.size() != 1) {
-                continue;
-            }
-            JsonNode nestedAnyOf = arrayEntry.get(anyOfTagName);
-            if (!(nestedAnyOf instanceof ArrayNode)) {
-                continue;
-            }
-            ((ArrayNode) anyOfTag).remove(index);
-            for (int nestedEntryIndex = nestedAnyOf.size() - 1; nestedEntryIndex > -1; nestedEntryIndex--) {
-                ((ArrayNode) anyOfTag).insert(index, nestedAnyOf.get(nestedEntryIndex));
-            }
-        }
-    }
 }
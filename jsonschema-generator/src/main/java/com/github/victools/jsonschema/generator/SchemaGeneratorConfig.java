@@ -70,6 +70,29 @@ public interface SchemaGeneratorConfig {
      */
     boolean shouldCleanupUnnecessaryAllOfElements();
 
+    /**
+     * Determine whether structurally identical entries in the {@link SchemaKeyword#TAG_DEFINITIONS} should be collapsed into a single one.
+     *
+     * @return whether to deduplicate the {@link SchemaKeyword#TAG_DEFINITIONS} as the last step during schema generation
+     */
+    boolean shouldDeduplicateDefinitions();
+
+    /**
+     * Determine whether the definitions of all encountered types should be populated one after another from an explicit work queue, instead of
+     * recursively while populating the definition referencing them.
+     *
+     * @return whether to traverse the type graph iteratively
+     */
+    boolean shouldTraverseIteratively();
+
+    /**
+     * Determine whether the general attributes of a type should only be collected once per type and set of allowed schema types.
+     *
+     * @return whether to cache type attributes
+     * @see Option#CACHED_TYPE_ATTRIBUTES
+     */
+    boolean shouldCacheTypeAttributes();
+
     /**
      * Determine whether static fields should be included in the generated schema.
      *
@@ -149,6 +172,20 @@ public interface SchemaGeneratorConfig {
      */
     List<TypeAttributeOverride> getTypeAttributeOverrides();
 
+    /**
+     * Getter for the listeners to be notified about the progress of each schema generation.
+     *
+     * @return registered progress listeners
+     */
+    List<TraversalProgressListener> getTraversalProgressListeners();
+
+    /**
+     * Getter for the listener to be notified about the timings and counts of each schema generation's phases.
+     *
+     * @return registered metrics listener(s) combined into one (or {@link GenerationMetricsListener#NO_OP} if there is none)
+     */
+    GenerationMetricsListener getGenerationMetricsListener();
+
     /**
      * Getter for the applicable instance attribute overrides for fields.
      *
@@ -93,6 +93,9 @@ public class SchemaGeneratorConfigBuilder {
 
     /**
      * Create a schema generator instance from the builder.
+     * <br>
+     * All registered resolvers/checks are being compiled into immutable array-based tables, i.e. subsequent changes to this builder do not affect
+     * the returned configuration.
      *
      * @return successfully created/initialised generator instance
      */
@@ -112,13 +115,13 @@ public class SchemaGeneratorConfigBuilder {
                 .forEach(this::with);
         // discard invalid enabled options
         enabledOptions.retainAll(validOptions.keySet());
-        // construct the actual configuration instance
+        // construct the actual configuration instance, with an immutable snapshot of all registered resolvers
         return new SchemaGeneratorConfigImpl(this.objectMapper,
                 this.schemaVersion,
                 enabledOptions,
-                this.typesInGeneralConfigPart,
-                this.fieldConfigPart,
-                this.methodConfigPart);
+                new SchemaGeneratorGeneralConfigPart(this.typesInGeneralConfigPart),
+                new SchemaGeneratorConfigPart<>(this.fieldConfigPart),
+                new SchemaGeneratorConfigPart<>(this.methodConfigPart));
     }
 
     /**
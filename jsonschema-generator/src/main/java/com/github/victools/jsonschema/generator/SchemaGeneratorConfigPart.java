@@ -24,11 +24,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * Generic collection of reflection based analysis for populating a JSON Schema from a certain kind of member.
@@ -37,22 +34,80 @@ import java.util.stream.Collectors;
  */
 public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends SchemaGeneratorTypeConfigPart<M> {
 
-    private final List<CustomPropertyDefinitionProvider<M>> customDefinitionProviders = new ArrayList<>();
-    private final List<InstanceAttributeOverride<M>> instanceAttributeOverrides = new ArrayList<>();
+    /**
+     * Helper function for checking whether any of the given checks applies to the given member.
+     *
+     * @param <M> type of the member to check
+     * @param checks checks to invoke until one of them returns true
+     * @param member targeted member (to be forwarded to each check)
+     * @return whether any check returned true
+     */
+    private static <M extends MemberScope<?, ?>> boolean anyMatch(List<Predicate<M>> checks, M member) {
+        int size = checks.size();
+        if (size == 0) {
+            return false;
+        }
+        boolean checkApplicability = ResolverTable.mayContainAnnotationDependent(checks);
+        for (int index = 0; index < size; index++) {
+            Predicate<M> check = checks.get(index);
+            if (!(checkApplicability && isSkipped(check, member)) && check.test(member)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<CustomPropertyDefinitionProvider<M>> customDefinitionProviders = new ArrayList<>();
+    private List<InstanceAttributeOverride<M>> instanceAttributeOverrides = new ArrayList<>();
 
     /*
      * Customising options for properties in a schema with "type": object;
      * either skipping them completely, marking them as required or also allowing for "type": "null".
      */
-    private final List<Predicate<M>> ignoreChecks = new ArrayList<>();
-    private final List<Predicate<M>> requiredChecks = new ArrayList<>();
-    private final List<ConfigFunction<M, Boolean>> nullableChecks = new ArrayList<>();
+    private List<Predicate<M>> ignoreChecks = new ArrayList<>();
+    private List<Predicate<M>> requiredChecks = new ArrayList<>();
+    private List<ConfigFunction<M, Boolean>> nullableChecks = new ArrayList<>();
 
     /*
      * Customising options for the names of properties in a schema with "type": "object".
      */
-    private final List<ConfigFunction<M, List<ResolvedType>>> targetTypeOverridesResolvers = new ArrayList<>();
-    private final List<ConfigFunction<M, String>> propertyNameOverrideResolvers = new ArrayList<>();
+    private List<ConfigFunction<M, List<ResolvedType>>> targetTypeOverridesResolvers = new ArrayList<>();
+    private List<ConfigFunction<M, String>> propertyNameOverrideResolvers = new ArrayList<>();
+
+    /**
+     * Constructor of an empty config part.
+     */
+    public SchemaGeneratorConfigPart() {
+        // nothing to initialise
+    }
+
+    /**
+     * Constructor of an immutable snapshot of the given config part, holding its resolvers/checks in array-based tables. Registering any further
+     * resolvers/checks on the created instance results in an {@link UnsupportedOperationException}.
+     *
+     * @param toFreeze config part to copy all registered resolvers/checks from
+     * @see SchemaGeneratorConfigBuilder#build()
+     */
+    protected SchemaGeneratorConfigPart(SchemaGeneratorConfigPart<M> toFreeze) {
+        super(toFreeze);
+        this.customDefinitionProviders = ResolverTable.of(toFreeze.customDefinitionProviders);
+        this.instanceAttributeOverrides = ResolverTable.of(toFreeze.instanceAttributeOverrides);
+        this.ignoreChecks = ResolverTable.of(toFreeze.ignoreChecks);
+        this.requiredChecks = ResolverTable.of(toFreeze.requiredChecks);
+        this.nullableChecks = ResolverTable.of(toFreeze.nullableChecks);
+        this.targetTypeOverridesResolvers = ResolverTable.of(toFreeze.targetTypeOverridesResolvers);
+        this.propertyNameOverrideResolvers = ResolverTable.of(toFreeze.propertyNameOverrideResolvers);
+    }
+
+    /**
+     * {@inheritDoc} For fields/methods, resolvers being {@link AnnotationDependent} are only invoked for members carrying any of their annotations.
+     *
+     * @return true
+     */
+    @Override
+    boolean isSkippingInapplicableResolvers() {
+        return true;
+    }
 
     /**
      * Adding a custom schema provider – if it returns null for a given type, the next definition provider will be applied.
@@ -73,7 +128,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return providers for certain custom definitions by-passing the default schema generation to some extent
      */
     public List<CustomPropertyDefinitionProvider<M>> getCustomDefinitionProviders() {
-        return Collections.unmodifiableList(this.customDefinitionProviders);
+        return unmodifiable(this.customDefinitionProviders);
     }
 
     /**
@@ -93,7 +148,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return overrides of a given JSON Schema node's instance attributes
      */
     public List<InstanceAttributeOverride<M>> getInstanceAttributeOverrides() {
-        return Collections.unmodifiableList(this.instanceAttributeOverrides);
+        return unmodifiable(this.instanceAttributeOverrides);
     }
 
     /**
@@ -114,7 +169,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return whether the member should be ignored (defaults to false)
      */
     public boolean shouldIgnore(M member) {
-        return this.ignoreChecks.stream().anyMatch(check -> check.test(member));
+        return anyMatch(this.ignoreChecks, member);
     }
 
     /**
@@ -135,7 +190,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return whether the member is required (defaults to false)
      */
     public boolean isRequired(M member) {
-        return this.requiredChecks.stream().anyMatch(check -> check.test(member));
+        return anyMatch(this.requiredChecks, member);
     }
 
     /**
@@ -156,11 +211,26 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return whether the member is nullable (may be null if not specified)
      */
     public Boolean isNullable(M member) {
-        Set<Boolean> result = this.nullableChecks.stream()
-                .map(check -> check.apply(member))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        return result.isEmpty() ? null : result.stream().anyMatch(value -> value);
+        int size = this.nullableChecks.size();
+        if (size == 0) {
+            return null;
+        }
+        boolean checkApplicability = ResolverTable.mayContainAnnotationDependent(this.nullableChecks);
+        Boolean result = null;
+        for (int index = 0; index < size; index++) {
+            ConfigFunction<M, Boolean> check = this.nullableChecks.get(index);
+            if (checkApplicability && isSkipped(check, member)) {
+                continue;
+            }
+            Boolean checkResult = check.apply(member);
+            if (Boolean.TRUE.equals(checkResult)) {
+                return Boolean.TRUE;
+            }
+            if (checkResult != null) {
+                result = checkResult;
+            }
+        }
+        return result;
     }
 
     /**
@@ -205,7 +275,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @see MemberScope#getOverriddenType()
      */
     public List<ResolvedType> resolveTargetTypeOverrides(M member) {
-        return getFirstDefinedValue(this.targetTypeOverridesResolvers, member);
+        return getFirstDefinedValue(this.targetTypeOverridesResolvers, member, true);
     }
 
     /**
@@ -226,7 +296,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return name in a parent JSON Schema's "properties" (may be null, thereby falling back on the default value)
      */
     public String resolvePropertyNameOverride(M member) {
-        return getFirstDefinedValue(this.propertyNameOverrideResolvers, member);
+        return getFirstDefinedValue(this.propertyNameOverrideResolvers, member, true);
     }
 
     @Override
@@ -20,7 +20,6 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -29,12 +28,39 @@ import java.util.Map;
  */
 public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigPart<TypeScope> {
 
-    private final List<CustomDefinitionProviderV2> customDefinitionProviders = new ArrayList<>();
-    private final List<SubtypeResolver> subtypeResolvers = new ArrayList<>();
-    private final List<TypeAttributeOverride> typeAttributeOverrides = new ArrayList<>();
+    private List<CustomDefinitionProviderV2> customDefinitionProviders = new ArrayList<>();
+    private List<SubtypeResolver> subtypeResolvers = new ArrayList<>();
+    private List<TypeAttributeOverride> typeAttributeOverrides = new ArrayList<>();
+    private List<TraversalProgressListener> traversalProgressListeners = new ArrayList<>();
+    private List<GenerationMetricsListener> generationMetricsListeners = new ArrayList<>();
 
-    private final List<ConfigFunction<TypeScope, String>> idResolvers = new ArrayList<>();
-    private final List<ConfigFunction<TypeScope, String>> anchorResolvers = new ArrayList<>();
+    private List<ConfigFunction<TypeScope, String>> idResolvers = new ArrayList<>();
+    private List<ConfigFunction<TypeScope, String>> anchorResolvers = new ArrayList<>();
+
+    /**
+     * Constructor of an empty config part.
+     */
+    public SchemaGeneratorGeneralConfigPart() {
+        // nothing to initialise
+    }
+
+    /**
+     * Constructor of an immutable snapshot of the given config part, holding its resolvers/checks in array-based tables. Registering any further
+     * resolvers/checks on the created instance results in an {@link UnsupportedOperationException}.
+     *
+     * @param toFreeze config part to copy all registered resolvers/checks from
+     * @see SchemaGeneratorConfigBuilder#build()
+     */
+    protected SchemaGeneratorGeneralConfigPart(SchemaGeneratorGeneralConfigPart toFreeze) {
+        super(toFreeze);
+        this.customDefinitionProviders = ResolverTable.of(toFreeze.customDefinitionProviders);
+        this.subtypeResolvers = ResolverTable.of(toFreeze.subtypeResolvers);
+        this.typeAttributeOverrides = ResolverTable.of(toFreeze.typeAttributeOverrides);
+        this.traversalProgressListeners = ResolverTable.of(toFreeze.traversalProgressListeners);
+        this.generationMetricsListeners = ResolverTable.of(toFreeze.generationMetricsListeners);
+        this.idResolvers = ResolverTable.of(toFreeze.idResolvers);
+        this.anchorResolvers = ResolverTable.of(toFreeze.anchorResolvers);
+    }
 
     /**
      * Adding a custom schema provider – if it returns null for a given type, the next definition provider will be applied.
@@ -55,7 +81,7 @@ public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigP
      * @return providers for certain custom definitions by-passing the default schema generation to some extent
      */
     public List<CustomDefinitionProviderV2> getCustomDefinitionProviders() {
-        return Collections.unmodifiableList(this.customDefinitionProviders);
+        return unmodifiable(this.customDefinitionProviders);
     }
 
     /**
@@ -77,7 +103,7 @@ public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigP
      * @return registered subtype resolvers
      */
     public List<SubtypeResolver> getSubtypeResolvers() {
-        return Collections.unmodifiableList(this.subtypeResolvers);
+        return unmodifiable(this.subtypeResolvers);
     }
 
     /**
@@ -97,7 +123,49 @@ public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigP
      * @return registered overrides to be applied in the given order
      */
     public List<TypeAttributeOverride> getTypeAttributeOverrides() {
-        return Collections.unmodifiableList(this.typeAttributeOverrides);
+        return unmodifiable(this.typeAttributeOverrides);
+    }
+
+    /**
+     * Adding a listener to be notified about the progress of each schema generation – all of the registered listeners will be notified in the order
+     * of having been added.
+     *
+     * @param listener callback to be notified whenever a definition has been populated
+     * @return this builder instance (for chaining)
+     */
+    public SchemaGeneratorGeneralConfigPart withTraversalProgressListener(TraversalProgressListener listener) {
+        this.traversalProgressListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Getter for the applicable listeners to the progress of each schema generation.
+     *
+     * @return registered progress listeners to be notified in the given order
+     */
+    public List<TraversalProgressListener> getTraversalProgressListeners() {
+        return unmodifiable(this.traversalProgressListeners);
+    }
+
+    /**
+     * Adding a listener to be notified about the timings and counts of the individual phases of each schema generation – all of the registered
+     * listeners will be notified in the order of having been added.
+     *
+     * @param listener callback to be notified whenever a phase has been completed
+     * @return this builder instance (for chaining)
+     */
+    public SchemaGeneratorGeneralConfigPart withGenerationMetricsListener(GenerationMetricsListener listener) {
+        this.generationMetricsListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Getter for the applicable listeners to the timings and counts of each schema generation's phases.
+     *
+     * @return registered metrics listeners to be notified in the given order
+     */
+    public List<GenerationMetricsListener> getGenerationMetricsListeners() {
+        return unmodifiable(this.generationMetricsListeners);
     }
 
     /**
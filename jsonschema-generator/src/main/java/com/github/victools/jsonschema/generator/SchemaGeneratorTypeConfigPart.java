@@ -20,9 +20,9 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Generic collection of reflection based analysis for populating a JSON Schema.
@@ -41,46 +41,141 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return return value of successfully invoked function or null
      */
     protected static <S extends TypeScope, R> R getFirstDefinedValue(List<ConfigFunction<S, R>> resolvers, S scope) {
-        return resolvers.stream()
-                .map(resolver -> resolver.apply(scope))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+        return getFirstDefinedValue(resolvers, scope, false);
+    }
+
+    /**
+     * Helper function for invoking a given function with the provided inputs or returning null no function returning anything but null themselves.
+     *
+     * @param <S> type of the targeted scope/type representation (to be forwarded as parameter to the given function)
+     * @param <R> type of the expected return value (of the given function)
+     * @param resolvers functions to invoke and return the first non-null result from
+     * @param scope targeted scope (to be forwarded as first argument to a given function)
+     * @param skipInapplicable whether {@link AnnotationDependent} functions should be skipped for a member without any of their annotations
+     * @return return value of successfully invoked function or null
+     */
+    static <S extends TypeScope, R> R getFirstDefinedValue(List<ConfigFunction<S, R>> resolvers, S scope, boolean skipInapplicable) {
+        int size = resolvers.size();
+        if (size == 0) {
+            return null;
+        }
+        boolean checkApplicability = skipInapplicable && ResolverTable.mayContainAnnotationDependent(resolvers);
+        // plain indexed loop, as this is being called for every resolver type on every encountered type/member
+        for (int index = 0; index < size; index++) {
+            ConfigFunction<S, R> resolver = resolvers.get(index);
+            if (checkApplicability && isSkipped(resolver, scope)) {
+                continue;
+            }
+            R result = resolver.apply(scope);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Helper function for checking whether the given resolver/check should not be invoked for the given scope, because it is
+     * {@link AnnotationDependent} and the targeted member does not carry any of the relevant annotations.
+     *
+     * @param resolver resolver/check to invoke
+     * @param scope targeted scope
+     * @return whether the resolver/check should be skipped
+     */
+    static boolean isSkipped(Object resolver, TypeScope scope) {
+        return resolver instanceof AnnotationDependent && scope instanceof MemberScope
+                && !((AnnotationDependent) resolver).isApplicableTo((MemberScope<?, ?>) scope);
+    }
+
+    /**
+     * Helper function for providing a read-only view on the given list of resolvers/checks.
+     *
+     * @param <E> type of the listed resolvers/checks
+     * @param entries registered resolvers/checks
+     * @return unmodifiable list (avoiding another wrapper if the given list is an immutable snapshot already)
+     */
+    static <E> List<E> unmodifiable(List<E> entries) {
+        return entries instanceof ResolverTable ? entries : Collections.unmodifiableList(entries);
     }
 
     /*
      * General fields independent of "type".
      */
-    private final List<ConfigFunction<S, String>> titleResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, String>> descriptionResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Object>> defaultResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Collection<?>>> enumResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Type>> additionalPropertiesResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Map<String, Type>>> patternPropertiesResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, String>> titleResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, String>> descriptionResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Object>> defaultResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Collection<?>>> enumResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Type>> additionalPropertiesResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Map<String, Type>>> patternPropertiesResolvers = new ArrayList<>();
 
     /*
      * Validation fields relating to a schema with "type": "string".
      */
-    private final List<ConfigFunction<S, Integer>> stringMinLengthResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Integer>> stringMaxLengthResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, String>> stringFormatResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, String>> stringPatternResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Integer>> stringMinLengthResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Integer>> stringMaxLengthResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, String>> stringFormatResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, String>> stringPatternResolvers = new ArrayList<>();
 
     /*
      * Validation fields relating to a schema with "type": "integer" or "number".
      */
-    private final List<ConfigFunction<S, BigDecimal>> numberInclusiveMinimumResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, BigDecimal>> numberExclusiveMinimumResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, BigDecimal>> numberInclusiveMaximumResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, BigDecimal>> numberExclusiveMaximumResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, BigDecimal>> numberMultipleOfResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, BigDecimal>> numberInclusiveMinimumResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, BigDecimal>> numberExclusiveMinimumResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, BigDecimal>> numberInclusiveMaximumResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, BigDecimal>> numberExclusiveMaximumResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, BigDecimal>> numberMultipleOfResolvers = new ArrayList<>();
 
     /*
      * Validation fields relating to a schema with "type": "array".
      */
-    private final List<ConfigFunction<S, Integer>> arrayMinItemsResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Integer>> arrayMaxItemsResolvers = new ArrayList<>();
-    private final List<ConfigFunction<S, Boolean>> arrayUniqueItemsResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Integer>> arrayMinItemsResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Integer>> arrayMaxItemsResolvers = new ArrayList<>();
+    private List<ConfigFunction<S, Boolean>> arrayUniqueItemsResolvers = new ArrayList<>();
+
+    /**
+     * Constructor of an empty config part.
+     */
+    public SchemaGeneratorTypeConfigPart() {
+        // nothing to initialise
+    }
+
+    /**
+     * Constructor of an immutable snapshot of the given config part, holding its resolvers in array-based tables. Registering any further
+     * resolvers on the created instance results in an {@link UnsupportedOperationException}.
+     *
+     * @param toFreeze config part to copy all registered resolvers from
+     * @see SchemaGeneratorConfigBuilder#build()
+     */
+    protected SchemaGeneratorTypeConfigPart(SchemaGeneratorTypeConfigPart<S> toFreeze) {
+        this.titleResolvers = ResolverTable.of(toFreeze.titleResolvers);
+        this.descriptionResolvers = ResolverTable.of(toFreeze.descriptionResolvers);
+        this.defaultResolvers = ResolverTable.of(toFreeze.defaultResolvers);
+        this.enumResolvers = ResolverTable.of(toFreeze.enumResolvers);
+        this.additionalPropertiesResolvers = ResolverTable.of(toFreeze.additionalPropertiesResolvers);
+        this.patternPropertiesResolvers = ResolverTable.of(toFreeze.patternPropertiesResolvers);
+        this.stringMinLengthResolvers = ResolverTable.of(toFreeze.stringMinLengthResolvers);
+        this.stringMaxLengthResolvers = ResolverTable.of(toFreeze.stringMaxLengthResolvers);
+        this.stringFormatResolvers = ResolverTable.of(toFreeze.stringFormatResolvers);
+        this.stringPatternResolvers = ResolverTable.of(toFreeze.stringPatternResolvers);
+        this.numberInclusiveMinimumResolvers = ResolverTable.of(toFreeze.numberInclusiveMinimumResolvers);
+        this.numberExclusiveMinimumResolvers = ResolverTable.of(toFreeze.numberExclusiveMinimumResolvers);
+        this.numberInclusiveMaximumResolvers = ResolverTable.of(toFreeze.numberInclusiveMaximumResolvers);
+        this.numberExclusiveMaximumResolvers = ResolverTable.of(toFreeze.numberExclusiveMaximumResolvers);
+        this.numberMultipleOfResolvers = ResolverTable.of(toFreeze.numberMultipleOfResolvers);
+        this.arrayMinItemsResolvers = ResolverTable.of(toFreeze.arrayMinItemsResolvers);
+        this.arrayMaxItemsResolvers = ResolverTable.of(toFreeze.arrayMaxItemsResolvers);
+        this.arrayUniqueItemsResolvers = ResolverTable.of(toFreeze.arrayUniqueItemsResolvers);
+    }
+
+    /**
+     * Whether resolvers being {@link AnnotationDependent} should be skipped for a member without any of their annotations. This is only the case
+     * for the config parts dedicated to fields/methods – resolvers for types in general are always being invoked.
+     *
+     * @return whether inapplicable resolvers should be skipped (false by default)
+     */
+    boolean isSkippingInapplicableResolvers() {
+        return false;
+    }
 
     /**
      * Setter for "title" resolver.
@@ -100,7 +195,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "title" in a JSON Schema (may be null)
      */
     public String resolveTitle(S scope) {
-        return getFirstDefinedValue(this.titleResolvers, scope);
+        return getFirstDefinedValue(this.titleResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -121,7 +216,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "description" in a JSON Schema (may be null)
      */
     public String resolveDescription(S scope) {
-        return getFirstDefinedValue(this.descriptionResolvers, scope);
+        return getFirstDefinedValue(this.descriptionResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -142,7 +237,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "default" in a JSON Schema (may be null)
      */
     public Object resolveDefault(S scope) {
-        return getFirstDefinedValue(this.defaultResolvers, scope);
+        return getFirstDefinedValue(this.defaultResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -163,7 +258,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "enum"/"const" in a JSON Schema (may be null)
      */
     public Collection<?> resolveEnum(S scope) {
-        return getFirstDefinedValue(this.enumResolvers, scope);
+        return getFirstDefinedValue(this.enumResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -184,7 +279,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "additionalProperties" in a JSON Schema (may be null)
      */
     public Type resolveAdditionalProperties(S scope) {
-        return getFirstDefinedValue(this.additionalPropertiesResolvers, scope);
+        return getFirstDefinedValue(this.additionalPropertiesResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -205,7 +300,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "patternProperties" in a JSON Schema (may be null), the keys representing the patterns and the mapped values their corresponding types
      */
     public Map<String, Type> resolvePatternProperties(S scope) {
-        return getFirstDefinedValue(this.patternPropertiesResolvers, scope);
+        return getFirstDefinedValue(this.patternPropertiesResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -226,7 +321,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "minLength" in a JSON Schema (may be null)
      */
     public Integer resolveStringMinLength(S scope) {
-        return getFirstDefinedValue(this.stringMinLengthResolvers, scope);
+        return getFirstDefinedValue(this.stringMinLengthResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -247,7 +342,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "maxLength" in a JSON Schema (may be null)
      */
     public Integer resolveStringMaxLength(S scope) {
-        return getFirstDefinedValue(this.stringMaxLengthResolvers, scope);
+        return getFirstDefinedValue(this.stringMaxLengthResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -268,7 +363,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "format" in a JSON Schema (may be null)
      */
     public String resolveStringFormat(S scope) {
-        return getFirstDefinedValue(this.stringFormatResolvers, scope);
+        return getFirstDefinedValue(this.stringFormatResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -289,7 +384,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "format" in a JSON Schema (may be null)
      */
     public String resolveStringPattern(S scope) {
-        return getFirstDefinedValue(this.stringPatternResolvers, scope);
+        return getFirstDefinedValue(this.stringPatternResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -310,7 +405,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "minimum" in a JSON Schema (may be null)
      */
     public BigDecimal resolveNumberInclusiveMinimum(S scope) {
-        return getFirstDefinedValue(this.numberInclusiveMinimumResolvers, scope);
+        return getFirstDefinedValue(this.numberInclusiveMinimumResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -331,7 +426,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "exclusiveMinimum" in a JSON Schema (may be null)
      */
     public BigDecimal resolveNumberExclusiveMinimum(S scope) {
-        return getFirstDefinedValue(this.numberExclusiveMinimumResolvers, scope);
+        return getFirstDefinedValue(this.numberExclusiveMinimumResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -352,7 +447,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "maximum" in a JSON Schema (may be null)
      */
     public BigDecimal resolveNumberInclusiveMaximum(S scope) {
-        return getFirstDefinedValue(this.numberInclusiveMaximumResolvers, scope);
+        return getFirstDefinedValue(this.numberInclusiveMaximumResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -373,7 +468,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "exclusiveMaximum" in a JSON Schema (may be null)
      */
     public BigDecimal resolveNumberExclusiveMaximum(S scope) {
-        return getFirstDefinedValue(this.numberExclusiveMaximumResolvers, scope);
+        return getFirstDefinedValue(this.numberExclusiveMaximumResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -394,7 +489,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "multipleOf" in a JSON Schema (may be null)
      */
     public BigDecimal resolveNumberMultipleOf(S scope) {
-        return getFirstDefinedValue(this.numberMultipleOfResolvers, scope);
+        return getFirstDefinedValue(this.numberMultipleOfResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -415,7 +510,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "minItems" in a JSON Schema (may be null)
      */
     public Integer resolveArrayMinItems(S scope) {
-        return getFirstDefinedValue(this.arrayMinItemsResolvers, scope);
+        return getFirstDefinedValue(this.arrayMinItemsResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -436,7 +531,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "maxItems" in a JSON Schema (may be null)
      */
     public Integer resolveArrayMaxItems(S scope) {
-        return getFirstDefinedValue(this.arrayMaxItemsResolvers, scope);
+        return getFirstDefinedValue(this.arrayMaxItemsResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 
     /**
@@ -457,6 +552,6 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> {
      * @return "uniqueItems" in a JSON Schema (may be null)
      */
     public Boolean resolveArrayUniqueItems(S scope) {
-        return getFirstDefinedValue(this.arrayUniqueItemsResolvers, scope);
+        return getFirstDefinedValue(this.arrayUniqueItemsResolvers, scope, this.isSkippingInapplicableResolvers());
     }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+
+/**
+ * Callback for observing the progress of a single schema generation, e.g. to log or display how far the traversal of a large type graph got.
+ */
+@FunctionalInterface
+public interface TraversalProgressListener {
+
+    /**
+     * Notification that the definition for a particular type has been fully populated. For a recursive type graph, a definition is considered
+     * populated once its own properties/items have been collected, even if the definitions of the types it references are still pending.
+     *
+     * @param type type whose definition has been populated
+     * @param populatedDefinitionCount number of definitions that have been populated in the current schema generation so far (including this one)
+     * @param pendingDefinitionCount number of definitions that have been encountered but not yet (fully) populated
+     */
+    void onDefinitionPopulated(ResolvedType type, int populatedDefinitionCount, int pendingDefinitionCount);
+}
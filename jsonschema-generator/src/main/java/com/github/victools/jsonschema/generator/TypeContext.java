@@ -23,19 +23,45 @@ import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
 import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.classmate.members.ResolvedMethod;
+import com.fasterxml.classmate.util.ResolvedTypeCache;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Context in which types can be resolved (as well as their declared fields and methods).
+ * <br>
+ * A single instance may be used from multiple threads concurrently: the type resolution cache is a concurrent one and the remembered fields and
+ * methods per type are spread across a number of independently locked stripes.
  */
 public class TypeContext {
 
+    /**
+     * Default maximum number of types for which the collected fields and methods are being remembered.
+     */
+    public static final int DEFAULT_MEMBERS_CACHE_SIZE = 200;
+
+    /**
+     * Maximum number of resolved types being remembered by the {@link TypeResolver} (same as its default).
+     */
+    private static final int TYPE_RESOLUTION_CACHE_SIZE = 200;
+
+    /**
+     * Maximum number of independently locked stripes the internal caches are split into.
+     */
+    private static final int MAXIMUM_CACHE_STRIPES = 16;
+
     private final TypeResolver typeResolver;
     private final MemberResolver memberResolver;
     private final AnnotationConfiguration annotationConfig;
+    private final int membersCacheSize;
+    private final List<Map<ResolvedType, ResolvedTypeWithMembers>> membersCacheStripes;
+    private final List<Map<ResolvedTypeWithMembers, GetterFieldIndex>> getterFieldIndexStripes;
 
     /**
      * Constructor.
@@ -43,9 +69,56 @@ public class TypeContext {
      * @param annotationConfig annotation configuration to apply when collecting resolved fields and methods
      */
     public TypeContext(AnnotationConfiguration annotationConfig) {
-        this.typeResolver = new TypeResolver();
+        this(annotationConfig, DEFAULT_MEMBERS_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param annotationConfig annotation configuration to apply when collecting resolved fields and methods
+     * @param membersCacheSize maximum number of types for which to remember the collected fields and methods (zero to disable this cache)
+     * @see #resolveWithMembers(ResolvedType)
+     */
+    public TypeContext(AnnotationConfiguration annotationConfig, int membersCacheSize) {
+        if (membersCacheSize < 0) {
+            throw new IllegalArgumentException("size of members cache must not be negative, but was: " + membersCacheSize);
+        }
+        this.typeResolver = new TypeResolver(ResolvedTypeCache.concurrentCache(TYPE_RESOLUTION_CACHE_SIZE));
         this.memberResolver = new MemberResolver(this.typeResolver);
         this.annotationConfig = annotationConfig;
+        this.membersCacheSize = membersCacheSize;
+        int stripeCount = Math.max(1, Math.min(MAXIMUM_CACHE_STRIPES, membersCacheSize));
+        this.membersCacheStripes = new ArrayList<>(stripeCount);
+        this.getterFieldIndexStripes = new ArrayList<>(stripeCount);
+        for (int stripeIndex = 0; stripeIndex < stripeCount; stripeIndex++) {
+            // distribute the overall maximum size evenly across all stripes
+            int stripeSize = membersCacheSize / stripeCount + (stripeIndex < membersCacheSize % stripeCount ? 1 : 0);
+            this.membersCacheStripes.add(new LinkedHashMap<ResolvedType, ResolvedTypeWithMembers>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ResolvedType, ResolvedTypeWithMembers> eldest) {
+                    return this.size() > stripeSize;
+                }
+            });
+            this.getterFieldIndexStripes.add(Collections.synchronizedMap(new WeakHashMap<>()));
+        }
+    }
+
+    /**
+     * Determine the stripe responsible for the given key.
+     *
+     * @param <K> type of the keys in each stripe
+     * @param <V> type of the values in each stripe
+     * @param stripes all stripes of a cache
+     * @param key key to look-up the responsible stripe for
+     * @return responsible stripe
+     */
+    private static <K, V> Map<K, V> getStripe(List<Map<K, V>> stripes, K key) {
+        int hash = key.hashCode();
+        // spread the higher bits, in order to not only rely on the lowest ones
+        hash ^= hash >>> 16;
+        return stripes.get((hash & Integer.MAX_VALUE) % stripes.size());
     }
 
     /**
@@ -74,12 +147,66 @@ public class TypeContext {
 
     /**
      * Collect a given type's declared fields and methods.
+     * <br>
+     * The result is being remembered for the (configured number of) most recently requested types, i.e. repeated calls for the same type return
+     * the same instance. As the remembered types are spread across multiple stripes, the least recently used type is being evicted per stripe.
      *
      * @param resolvedType type for which to collect declared fields and methods
      * @return collection of (resolved) fields and methods
+     * @see #clearMembersCache()
      */
     public final ResolvedTypeWithMembers resolveWithMembers(ResolvedType resolvedType) {
-        return this.memberResolver.resolve(resolvedType, this.annotationConfig, null);
+        if (this.membersCacheSize == 0) {
+            return this.memberResolver.resolve(resolvedType, this.annotationConfig, null);
+        }
+        Map<ResolvedType, ResolvedTypeWithMembers> membersCache = getStripe(this.membersCacheStripes, resolvedType);
+        ResolvedTypeWithMembers typeWithMembers;
+        synchronized (membersCache) {
+            typeWithMembers = membersCache.get(resolvedType);
+        }
+        if (typeWithMembers == null) {
+            // resolving outside of the synchronized block; in case of concurrent calls for the same type, the first result is being kept
+            ResolvedTypeWithMembers resolvedTypeWithMembers = this.memberResolver.resolve(resolvedType, this.annotationConfig, null);
+            synchronized (membersCache) {
+                typeWithMembers = membersCache.computeIfAbsent(resolvedType, _key -> resolvedTypeWithMembers);
+            }
+        }
+        return typeWithMembers;
+    }
+
+    /**
+     * Getter for the maximum number of types for which the collected fields and methods are being remembered.
+     *
+     * @return configured size of the members cache (zero if it is disabled)
+     * @see #resolveWithMembers(ResolvedType)
+     */
+    public int getMembersCacheSize() {
+        return this.membersCacheSize;
+    }
+
+    /**
+     * Forget about all previously collected fields and methods, e.g. to free up memory after having generated a number of schemas.
+     *
+     * @see #resolveWithMembers(ResolvedType)
+     */
+    public void clearMembersCache() {
+        for (Map<ResolvedType, ResolvedTypeWithMembers> membersCache : this.membersCacheStripes) {
+            synchronized (membersCache) {
+                membersCache.clear();
+            }
+        }
+        this.getterFieldIndexStripes.forEach(Map::clear);
+    }
+
+    /**
+     * Look-up the index of conventional getter methods and their associated fields within the given declaring type. The index is being created
+     * once and re-used for as long as the given {@link ResolvedTypeWithMembers} instance is in use.
+     *
+     * @param declaringTypeMembers collection of the declaring type's fields and methods
+     * @return index of getters and their associated fields
+     */
+    GetterFieldIndex getGetterFieldIndex(ResolvedTypeWithMembers declaringTypeMembers) {
+        return getStripe(this.getterFieldIndexStripes, declaringTypeMembers).computeIfAbsent(declaringTypeMembers, GetterFieldIndex::new);
     }
 
     /**
@@ -195,15 +322,37 @@ public class TypeContext {
      * @return resulting string
      */
     private String getTypeDescription(ResolvedType type, boolean simpleClassNames) {
+        if (type.getTypeParameters().isEmpty()) {
+            Class<?> erasedType = type.getErasedType();
+            return simpleClassNames ? erasedType.getSimpleName() : erasedType.getTypeName();
+        }
+        StringBuilder result = new StringBuilder();
+        this.appendTypeDescription(result, type, simpleClassNames);
+        return result.toString();
+    }
+
+    /**
+     * Append the string that fully represents the given type (including possible type parameters and their actual types) to the given builder,
+     * in order to avoid the creation of intermediate strings for each nested type parameter.
+     *
+     * @param result builder to append the type description to
+     * @param type the type to represent
+     * @param simpleClassNames whether simple class names should be used (otherwise: full package names are included)
+     */
+    private void appendTypeDescription(StringBuilder result, ResolvedType type, boolean simpleClassNames) {
         Class<?> erasedType = type.getErasedType();
-        String result = simpleClassNames ? erasedType.getSimpleName() : erasedType.getTypeName();
+        result.append(simpleClassNames ? erasedType.getSimpleName() : erasedType.getTypeName());
         List<ResolvedType> typeParameters = type.getTypeParameters();
         if (!typeParameters.isEmpty()) {
-            result += typeParameters.stream()
-                    .map(parameterType -> this.getTypeDescription(parameterType, simpleClassNames))
-                    .collect(Collectors.joining(", ", "<", ">"));
+            result.append('<');
+            for (int index = 0; index < typeParameters.size(); index++) {
+                if (index > 0) {
+                    result.append(", ");
+                }
+                this.appendTypeDescription(result, typeParameters.get(index), simpleClassNames);
+            }
+            result.append('>');
         }
-        return result;
     }
 
     /**
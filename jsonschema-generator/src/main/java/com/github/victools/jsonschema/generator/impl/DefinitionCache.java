@@ -0,0 +1,345 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of finished type definitions, which can be shared across multiple schema generations of the same
+ * {@link com.github.victools.jsonschema.generator.SchemaGenerator SchemaGenerator} instance.
+ * <br>
+ * Each entry holds a private copy of a definition as it was collected in a {@link SchemaGenerationContextImpl}, i.e. before references were resolved.
+ * The nodes within it that were meant to reference other definitions are remembered, so that they can be registered again when a copy of the cached
+ * definition is being spliced into a later schema generation. An entry is only being used if all definitions it (transitively) references are either
+ * present in the cache as well or already contained in the respective generation context.
+ * <br>
+ * Once the configured maximum number of entries is reached, the least recently used entry is being evicted.
+ * <br>
+ * This cache may be used by multiple concurrent schema generations. Only the (short) look-ups and insertions are synchronized on the cache
+ * instance, the copying of definitions into or out of the cache happens outside of the lock.
+ */
+public class DefinitionCache {
+
+    private final int maximumSize;
+    private final Map<DefinitionKey, CachedDefinition> entries;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of definitions to keep in this cache (must be greater than zero)
+     */
+    public DefinitionCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximum size of definition cache must be greater than zero, but was: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<DefinitionKey, CachedDefinition>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DefinitionKey, CachedDefinition> eldest) {
+                if (this.size() > DefinitionCache.this.maximumSize) {
+                    DefinitionCache.this.evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Getter for the maximum number of definitions to keep in this cache.
+     *
+     * @return configured maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Getter for the number of definitions currently held in this cache.
+     *
+     * @return number of cached definitions
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Getter for the number of definitions that have been taken from this cache instead of being generated.
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Getter for the number of definitions that had to be generated, because they could not be taken from this cache.
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Getter for the number of definitions that have been removed from this cache, in order to stay within its maximum size.
+     *
+     * @return number of evicted definitions
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Remove all cached definitions. The hit/miss/eviction counters remain unchanged.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Look-up the cached definition for the given key and the cached definitions being referenced from it (directly or indirectly).
+     *
+     * @param key definition key to look-up
+     * @param isAlreadyDefined check whether a referenced definition is already present in the current generation context (and does not need to be
+     *        taken from this cache)
+     * @return all cached definitions required for the given key (or null if there is no complete set of cached definitions)
+     */
+    synchronized Map<DefinitionKey, CachedDefinition> lookUp(DefinitionKey key, Predicate<DefinitionKey> isAlreadyDefined) {
+        if (!this.entries.containsKey(key)) {
+            return null;
+        }
+        Map<DefinitionKey, CachedDefinition> result = new HashMap<>();
+        Deque<DefinitionKey> keysToCheck = new ArrayDeque<>();
+        keysToCheck.add(key);
+        while (!keysToCheck.isEmpty()) {
+            DefinitionKey keyToCheck = keysToCheck.poll();
+            if (result.containsKey(keyToCheck) || (keyToCheck != key && isAlreadyDefined.test(keyToCheck))) {
+                continue;
+            }
+            CachedDefinition cachedDefinition = this.entries.get(keyToCheck);
+            if (cachedDefinition == null) {
+                // at least one of the referenced definitions is no longer in the cache
+                return null;
+            }
+            result.put(keyToCheck, cachedDefinition);
+            keysToCheck.addAll(cachedDefinition.getReferencedKeys());
+        }
+        this.hitCount += result.size();
+        return result;
+    }
+
+    /**
+     * Remember all definitions that have been generated in the given context. This is expected to be called after the context has been populated
+     * but before any of its references are being resolved.
+     * <br>
+     * If the nodes meant to hold references cannot be unambiguously associated with the definitions containing them (e.g. because a custom
+     * definition discarded or re-used a reference node), none of the context's definitions are being cached.
+     *
+     * @param generationContext populated generation context
+     */
+    void store(SchemaGenerationContextImpl generationContext) {
+        Set<DefinitionKey> generatedKeys = generationContext.getCacheableDefinitions();
+        Map<JsonNode, CachedReference> referenceNodes = generationContext.getCacheableReferences();
+        Set<JsonNode> encounteredReferenceNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean allReferencesAccountedFor = true;
+        for (DefinitionKey definedType : generationContext.getDefinedTypes()) {
+            if (!collectReferenceNodes(generationContext.getDefinition(definedType), referenceNodes, encounteredReferenceNodes)) {
+                allReferencesAccountedFor = false;
+                break;
+            }
+        }
+        allReferencesAccountedFor = allReferencesAccountedFor && encounteredReferenceNodes.size() == referenceNodes.size();
+        Map<DefinitionKey, CachedDefinition> newEntries = new LinkedHashMap<>();
+        if (allReferencesAccountedFor) {
+            for (DefinitionKey key : generatedKeys) {
+                Map<JsonNode, CachedReference> templateReferences = new IdentityHashMap<>();
+                ObjectNode template = (ObjectNode) copyNode(generationContext.getDefinition(key), referenceNodes, templateReferences);
+                newEntries.put(key, new CachedDefinition(template, templateReferences));
+            }
+        }
+        synchronized (this) {
+            this.missCount += generatedKeys.size();
+            this.entries.putAll(newEntries);
+        }
+    }
+
+    /**
+     * Collect all registered reference nodes contained in the given (sub) schema.
+     *
+     * @param node (sub) schema to check
+     * @param referenceNodes all reference nodes registered in the generation context
+     * @param encounteredReferenceNodes collection of reference nodes that were found so far
+     * @return whether no reference node was found more than once
+     */
+    private static boolean collectReferenceNodes(JsonNode node, Map<JsonNode, CachedReference> referenceNodes,
+            Set<JsonNode> encounteredReferenceNodes) {
+        if (referenceNodes.containsKey(node) && !encounteredReferenceNodes.add(node)) {
+            return false;
+        }
+        if (node instanceof ObjectNode || node instanceof ArrayNode) {
+            Iterator<JsonNode> children = node.elements();
+            while (children.hasNext()) {
+                if (!collectReferenceNodes(children.next(), referenceNodes, encounteredReferenceNodes)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a deep copy of the given node, while keeping track of the copied reference nodes.
+     *
+     * @param source node to copy
+     * @param sourceReferences reference nodes that may be contained in the given source node
+     * @param targetReferences collection to add the copies of the encountered reference nodes to
+     * @return copied node
+     */
+    private static JsonNode copyNode(JsonNode source, Map<JsonNode, CachedReference> sourceReferences,
+            Map<JsonNode, CachedReference> targetReferences) {
+        JsonNode target;
+        if (source instanceof ObjectNode) {
+            ObjectNode targetObject = ((ObjectNode) source).objectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                targetObject.set(field.getKey(), copyNode(field.getValue(), sourceReferences, targetReferences));
+            }
+            target = targetObject;
+        } else if (source instanceof ArrayNode) {
+            ArrayNode targetArray = ((ArrayNode) source).arrayNode();
+            for (JsonNode item : source) {
+                targetArray.add(copyNode(item, sourceReferences, targetReferences));
+            }
+            target = targetArray;
+        } else {
+            // value nodes are immutable and can be shared
+            return source;
+        }
+        CachedReference reference = sourceReferences.get(source);
+        if (reference != null) {
+            targetReferences.put(target, reference);
+        }
+        return target;
+    }
+
+    /**
+     * Cached representation of a single definition.
+     */
+    static class CachedDefinition {
+
+        private final ObjectNode template;
+        private final Map<JsonNode, CachedReference> templateReferences;
+        private final Set<DefinitionKey> referencedKeys;
+
+        /**
+         * Constructor.
+         *
+         * @param template private copy of the definition (must not be handed out or modified)
+         * @param templateReferences reference nodes contained in the template
+         */
+        CachedDefinition(ObjectNode template, Map<JsonNode, CachedReference> templateReferences) {
+            this.template = template;
+            this.templateReferences = templateReferences;
+            Set<DefinitionKey> keys = Collections.newSetFromMap(new LinkedHashMap<>());
+            templateReferences.values().forEach(reference -> keys.add(reference.getKey()));
+            this.referencedKeys = Collections.unmodifiableSet(keys);
+        }
+
+        /**
+         * Getter for the keys of all definitions being referenced from within this definition.
+         *
+         * @return referenced definition keys
+         */
+        Set<DefinitionKey> getReferencedKeys() {
+            return this.referencedKeys;
+        }
+
+        /**
+         * Create a new copy of this definition.
+         *
+         * @param referenceCollector list to add the contained reference nodes to (in the order in which they had been originally registered)
+         * @return copy of this definition
+         */
+        ObjectNode createCopy(List<Map.Entry<ObjectNode, CachedReference>> referenceCollector) {
+            Map<JsonNode, CachedReference> copiedReferences = new IdentityHashMap<>();
+            final ObjectNode copy = (ObjectNode) copyNode(this.template, this.templateReferences, copiedReferences);
+            List<Map.Entry<ObjectNode, CachedReference>> sortedReferences = new ArrayList<>(copiedReferences.size());
+            copiedReferences.forEach((node, reference) -> sortedReferences.add(new AbstractMap.SimpleImmutableEntry<>((ObjectNode) node, reference)));
+            sortedReferences.sort(Comparator.comparingInt(entry -> entry.getValue().getSequenceNumber()));
+            referenceCollector.addAll(sortedReferences);
+            return copy;
+        }
+    }
+
+    /**
+     * Information about a single node that is meant to hold a reference to a definition.
+     */
+    static class CachedReference {
+
+        private final DefinitionKey key;
+        private final boolean nullable;
+        private final int sequenceNumber;
+
+        /**
+         * Constructor.
+         *
+         * @param key referenced definition
+         * @param nullable whether the reference may be null
+         * @param sequenceNumber position in which the reference was registered
+         */
+        CachedReference(DefinitionKey key, boolean nullable, int sequenceNumber) {
+            this.key = key;
+            this.nullable = nullable;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        DefinitionKey getKey() {
+            return this.key;
+        }
+
+        boolean isNullable() {
+            return this.nullable;
+        }
+
+        int getSequenceNumber() {
+            return this.sequenceNumber;
+        }
+    }
+}
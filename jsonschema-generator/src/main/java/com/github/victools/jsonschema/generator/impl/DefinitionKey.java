@@ -27,6 +27,7 @@ public class DefinitionKey {
 
     private final ResolvedType type;
     private final CustomDefinitionProviderV2 ignoredDefinitionProvider;
+    private final int hash;
 
     /**
      * Constructor.
@@ -37,6 +38,29 @@ public class DefinitionKey {
     DefinitionKey(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
         this.type = type;
         this.ignoredDefinitionProvider = ignoredDefinitionProvider;
+        this.hash = DefinitionKey.computeHash(type, ignoredDefinitionProvider);
+    }
+
+    /**
+     * Determine the hash code of a definition key for the given type and ignored custom definition provider, without having to create it.
+     *
+     * @param type encountered type a schema definition is associated with
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return hash code of the respective definition key
+     */
+    static int computeHash(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        return type.hashCode() + (ignoredDefinitionProvider == null ? 0 : ignoredDefinitionProvider.hashCode());
+    }
+
+    /**
+     * Check whether this key represents the given type and ignored custom definition provider, without having to create another key to compare.
+     *
+     * @param otherType encountered type a schema definition is associated with
+     * @param otherIgnoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return whether this key is equal to one created for the given type and ignored custom definition provider
+     */
+    boolean matches(ResolvedType otherType, CustomDefinitionProviderV2 otherIgnoredDefinitionProvider) {
+        return this.ignoredDefinitionProvider == otherIgnoredDefinitionProvider && this.type.equals(otherType);
     }
 
     /**
@@ -65,8 +89,7 @@ public class DefinitionKey {
 
     @Override
     public int hashCode() {
-        return this.type.hashCode()
-                + (this.ignoredDefinitionProvider == null ? 0 : this.ignoredDefinitionProvider.hashCode());
+        return this.hash;
     }
 
     @Override
@@ -78,6 +101,6 @@ public class DefinitionKey {
             return false;
         }
         DefinitionKey otherReference = (DefinitionKey) other;
-        return this.type.equals(otherReference.getType()) && this.ignoredDefinitionProvider == otherReference.getIgnoredDefinitionProvider();
+        return this.hash == otherReference.hash && this.matches(otherReference.getType(), otherReference.getIgnoredDefinitionProvider());
     }
 }
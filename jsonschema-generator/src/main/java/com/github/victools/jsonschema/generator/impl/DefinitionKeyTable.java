@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import java.util.Arrays;
+
+/**
+ * Interning of the {@link DefinitionKey}s encountered within a single schema generation, assigning a dense int identifier to each distinct
+ * combination of type and ignored custom definition provider. This allows the associated definitions and references to be held in plain arrays,
+ * indexed by those identifiers.
+ * <br>
+ * Looking-up the identifier of an already interned key via {@link #find(ResolvedType, CustomDefinitionProviderV2)} does not allocate any objects,
+ * as the open-addressing hash table only holds primitive identifiers and the key instances are compared with the given type directly.
+ * <br>
+ * This is not thread-safe, as it is only meant to be used within a single {@link SchemaGenerationContextImpl}.
+ */
+final class DefinitionKeyTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private DefinitionKey[] keysById = new DefinitionKey[INITIAL_CAPACITY];
+    /**
+     * Hash table slots, each containing the respective key's identifier plus one (zero marking an empty slot).
+     */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size = 0;
+
+    /**
+     * Getter for the number of interned keys, which is also the next identifier to be assigned.
+     *
+     * @return number of interned keys
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Look-up the interned key with the given identifier.
+     *
+     * @param id identifier as returned by one of the {@code intern()} methods
+     * @return interned key
+     */
+    DefinitionKey getKey(int id) {
+        return this.keysById[id];
+    }
+
+    /**
+     * Look-up the identifier of the given key, without interning it.
+     *
+     * @param key definition key to look-up
+     * @return identifier of the equal interned key (or -1 if it was not interned yet)
+     */
+    int find(DefinitionKey key) {
+        return this.find(key.getType(), key.getIgnoredDefinitionProvider());
+    }
+
+    /**
+     * Look-up the identifier of the key for the given type and ignored custom definition provider, without interning it.
+     *
+     * @param type encountered type a schema definition is associated with
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return identifier of the matching interned key (or -1 if it was not interned yet)
+     */
+    int find(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        int mask = this.slots.length - 1;
+        int slotIndex = DefinitionKeyTable.spread(DefinitionKey.computeHash(type, ignoredDefinitionProvider)) & mask;
+        for (int slot = this.slots[slotIndex]; slot != 0; slot = this.slots[slotIndex]) {
+            if (this.keysById[slot - 1].matches(type, ignoredDefinitionProvider)) {
+                return slot - 1;
+            }
+            slotIndex = (slotIndex + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Look-up the identifier of the given key, interning it if it was not encountered before.
+     *
+     * @param key definition key to intern
+     * @return identifier of the equal interned key
+     */
+    int intern(DefinitionKey key) {
+        int id = this.find(key);
+        return id == -1 ? this.add(key) : id;
+    }
+
+    /**
+     * Look-up the identifier of the key for the given type and ignored custom definition provider, interning a new key if none was encountered
+     * before.
+     *
+     * @param type encountered type a schema definition is associated with
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return identifier of the matching interned key
+     */
+    int intern(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        int id = this.find(type, ignoredDefinitionProvider);
+        return id == -1 ? this.add(new DefinitionKey(type, ignoredDefinitionProvider)) : id;
+    }
+
+    /**
+     * Assign the next identifier to the given (not yet interned) key.
+     *
+     * @param key definition key to add
+     * @return assigned identifier
+     */
+    private int add(DefinitionKey key) {
+        if (this.size == this.keysById.length) {
+            this.keysById = Arrays.copyOf(this.keysById, this.size * 2);
+            this.rehash(this.slots.length * 2);
+        }
+        int id = this.size;
+        this.keysById[id] = key;
+        this.size++;
+        this.insertSlot(key.hashCode(), id);
+        return id;
+    }
+
+    /**
+     * Re-populate the hash table slots with the given capacity.
+     *
+     * @param capacity new number of slots (must be a power of two)
+     */
+    private void rehash(int capacity) {
+        this.slots = new int[capacity];
+        for (int id = 0; id < this.size; id++) {
+            this.insertSlot(this.keysById[id].hashCode(), id);
+        }
+    }
+
+    /**
+     * Store the given identifier in the first free slot for the given hash code.
+     *
+     * @param hash hash code of the key with the given identifier
+     * @param id identifier to store
+     */
+    private void insertSlot(int hash, int id) {
+        int mask = this.slots.length - 1;
+        int slotIndex = DefinitionKeyTable.spread(hash) & mask;
+        while (this.slots[slotIndex] != 0) {
+            slotIndex = (slotIndex + 1) & mask;
+        }
+        this.slots[slotIndex] = id + 1;
+    }
+
+    /**
+     * Mix the higher bits of the given hash code into the lower ones, as only those are being considered for determining a slot.
+     *
+     * @param hash hash code to spread
+     * @return spread hash code
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Derivation of the names under which the collected definitions are being included in a generated schema's "definitions"/"$defs".
+ * <br>
+ * The URI-compatible base name of each type is only derived once (from {@link TypeContext#getSchemaDefinitionName(ResolvedType)}) and then
+ * remembered across multiple schema generations of the same {@link com.github.victools.jsonschema.generator.SchemaGenerator SchemaGenerator}
+ * instance. This assumes that the type context returns the same name for the same type each time.
+ * <br>
+ * This may be used by multiple concurrent schema generations.
+ */
+public class DefinitionNamingService {
+
+    /**
+     * Maximum number of remembered base names, after which all of them are being discarded (to avoid holding on to the types indefinitely).
+     */
+    private static final int MAXIMUM_CACHE_SIZE = 10_000;
+
+    private final TypeContext typeContext;
+    private final Map<ResolvedType, String> baseNames = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param typeContext type context providing the (raw) definition name for each type
+     */
+    public DefinitionNamingService(TypeContext typeContext) {
+        this.typeContext = typeContext;
+    }
+
+    /**
+     * Convert the given type description into an URI-compatible format in a single pass, i.e.:
+     * <ul>
+     * <li>removing white-spaces,</li>
+     * <li>marking arrays with an asterisk instead of square brackets and</li>
+     * <li>indicating generics in parentheses instead of angled brackets.</li>
+     * </ul>
+     *
+     * @param typeDescription type description to convert, e.g. {@code "Map<String, Integer[]>"}
+     * @return URI-compatible name, e.g. {@code "Map(String,Integer*)"}
+     */
+    static String toUriCompatibleName(String typeDescription) {
+        int length = typeDescription.length();
+        StringBuilder result = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            char character = typeDescription.charAt(index);
+            switch (character) {
+            case ' ':
+                break;
+            case '<':
+                result.append('(');
+                break;
+            case '>':
+                result.append(')');
+                break;
+            case '[':
+                int closingIndex = DefinitionNamingService.skipSpaces(typeDescription, index + 1);
+                if (closingIndex < length && typeDescription.charAt(closingIndex) == ']') {
+                    result.append('*');
+                    index = closingIndex;
+                } else {
+                    result.append(character);
+                }
+                break;
+            default:
+                result.append(character);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Determine the position of the first character that is not a white-space, starting from the given index.
+     *
+     * @param text text to check
+     * @param startIndex position to start from
+     * @return position of the first non-white-space character (or the text's length if there is none)
+     */
+    private static int skipSpaces(String text, int startIndex) {
+        int index = startIndex;
+        while (index < text.length() && text.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Getter for the number of remembered base names.
+     *
+     * @return number of cached names
+     */
+    public int size() {
+        return this.baseNames.size();
+    }
+
+    /**
+     * Returns the URI-compatible name to be associated with the given type in the generated schema's "definitions"/"$defs".
+     * <br>
+     * Beware: if multiple types have the same name, the actual key in "definitions"/"$defs" may have a numeric counter appended to it.
+     *
+     * @param type the type to be represented in the generated schema's "definitions"/"$defs"
+     * @return base name in "definitions"/"$defs"
+     */
+    public String getBaseName(ResolvedType type) {
+        String baseName = this.baseNames.get(type);
+        if (baseName == null) {
+            baseName = DefinitionNamingService.toUriCompatibleName(this.typeContext.getSchemaDefinitionName(type));
+            if (this.baseNames.size() >= MAXIMUM_CACHE_SIZE) {
+                this.baseNames.clear();
+            }
+            this.baseNames.put(type, baseName);
+        }
+        return baseName;
+    }
+
+    /**
+     * Derive the applicable names for the given definitions, sorted by name. If multiple definitions share the same base name, a counter is being
+     * appended to each of them (in the order in which they are given) – unless there are only two and one of them is the main schema, which is not
+     * going to be included in the "definitions"/"$defs" anyway.
+     *
+     * @param mainSchemaKey special definition key for the main schema
+     * @param definitionKeys all definitions to determine names for
+     * @return definition keys with their corresponding names
+     */
+    public Map<DefinitionKey, String> getDefinitionNames(DefinitionKey mainSchemaKey, Collection<DefinitionKey> definitionKeys) {
+        Map<String, List<DefinitionKey>> keysByBaseName = new HashMap<>();
+        for (DefinitionKey key : definitionKeys) {
+            keysByBaseName.computeIfAbsent(this.getBaseName(key.getType()), name -> new ArrayList<>(1)).add(key);
+        }
+        String[] sortedBaseNames = keysByBaseName.keySet().toArray(new String[0]);
+        Arrays.sort(sortedBaseNames);
+        Map<DefinitionKey, String> definitionNames = new LinkedHashMap<>();
+        for (String baseName : sortedBaseNames) {
+            List<DefinitionKey> keysWithSameName = keysByBaseName.get(baseName);
+            int keyCount = keysWithSameName.size();
+            if (keyCount == 1 || (keyCount == 2 && keysWithSameName.contains(mainSchemaKey))) {
+                for (DefinitionKey key : keysWithSameName) {
+                    definitionNames.put(key, baseName);
+                }
+            } else {
+                for (int index = 0; index < keyCount; index++) {
+                    definitionNames.put(keysWithSameName.get(index), baseName + '-' + (index + 1));
+                }
+            }
+        }
+        return definitionNames;
+    }
+}
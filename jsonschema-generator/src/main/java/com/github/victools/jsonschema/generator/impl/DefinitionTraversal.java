@@ -0,0 +1,368 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.SchemaGenerationBudget;
+import com.github.victools.jsonschema.generator.SchemaGenerationBudgetExceededException;
+import com.github.victools.jsonschema.generator.TraversalProgressListener;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Control over when the definitions encountered in a single schema generation are being populated.
+ * <br>
+ * By default, a definition is populated right away when its type is encountered for the first time, i.e. recursively while populating the
+ * definition referencing it. In the iterative mode, the definitions are instead being populated one after another from an explicit work queue, which
+ * limits the call stack's depth to the nesting within a single definition – regardless of how deep the overall type graph is. In order to produce
+ * the same output in both modes, all references encountered while populating a definition are being recorded, which allows the collected
+ * definitions to be sorted afterwards in the order in which the recursive traversal would have encountered them.
+ * <br>
+ * In both modes, the limits of the given {@link SchemaGenerationBudget} are being checked before adding or populating a definition.
+ */
+final class DefinitionTraversal {
+
+    private boolean iterative;
+    private final List<TraversalProgressListener> progressListeners;
+    private final SchemaGenerationBudget budget;
+    private final long startNanos;
+    private final Deque<PendingPopulation> pendingPopulations = new ArrayDeque<>();
+    private final Map<DefinitionKey, PendingPopulation> pendingPopulationsByKey = new HashMap<>();
+    private final Map<DefinitionKey, List<DefinitionKey>> encounteredReferences = new HashMap<>();
+    private DefinitionKey currentDefinition;
+    private int currentDepth = 0;
+    private int scheduledCount = 0;
+    private int populatedCount = 0;
+    private int nodeCount = 0;
+    private boolean degraded = false;
+    private boolean exhausted = false;
+
+    /**
+     * Constructor.
+     *
+     * @param iterative whether definitions should be populated from an explicit work queue instead of recursively
+     * @param progressListeners callbacks to notify whenever a definition has been populated
+     */
+    DefinitionTraversal(boolean iterative, List<TraversalProgressListener> progressListeners) {
+        this(iterative, progressListeners, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param iterative whether definitions should be populated from an explicit work queue instead of recursively
+     * @param progressListeners callbacks to notify whenever a definition has been populated
+     * @param budget limits to honour (may be null)
+     */
+    DefinitionTraversal(boolean iterative, List<TraversalProgressListener> progressListeners, SchemaGenerationBudget budget) {
+        this.iterative = iterative;
+        this.progressListeners = progressListeners;
+        this.budget = budget == null ? new SchemaGenerationBudget() : budget;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Getter for the flag indicating whether definitions are being populated from an explicit work queue instead of recursively.
+     *
+     * @return whether this traversal is iterative
+     */
+    boolean isIterative() {
+        return this.iterative;
+    }
+
+    /**
+     * Switch to the iterative mode, e.g. in order to populate definitions on demand. This is only possible as long as no definition has been
+     * scheduled yet.
+     *
+     * @throws IllegalStateException if a definition has been scheduled already
+     */
+    void switchToIterativeMode() {
+        if (this.scheduledCount > 0 && !this.iterative) {
+            throw new IllegalStateException("cannot switch to iterative mode after the traversal has started");
+        }
+        this.iterative = true;
+    }
+
+    /**
+     * Set the definition being populated at the moment, i.e. the one to which any encountered references are being attributed.
+     *
+     * @param key definition being populated from now on
+     * @return definition that was being populated before (may be null)
+     */
+    DefinitionKey switchCurrentDefinition(DefinitionKey key) {
+        DefinitionKey previous = this.currentDefinition;
+        this.currentDefinition = key;
+        return previous;
+    }
+
+    /**
+     * Remember that the definition currently being populated is referencing the given definition.
+     *
+     * @param key referenced definition
+     */
+    void recordReference(DefinitionKey key) {
+        if (this.iterative) {
+            this.encounteredReferences.computeIfAbsent(this.currentDefinition, owner -> new ArrayList<>()).add(key);
+        }
+    }
+
+    /**
+     * Populate the definition for the given key – either right away (in the recursive mode) or once all previously scheduled definitions have been
+     * populated (in the iterative mode).
+     *
+     * @param key definition to be populated
+     * @param population action populating the definition
+     */
+    void schedule(DefinitionKey key, Runnable population) {
+        this.scheduledCount++;
+        PendingPopulation pendingPopulation = new PendingPopulation(key, population, this.currentDepth + 1);
+        if (this.iterative) {
+            this.pendingPopulations.addLast(pendingPopulation);
+            this.pendingPopulationsByKey.put(key, pendingPopulation);
+        } else {
+            this.populate(pendingPopulation);
+        }
+    }
+
+    /**
+     * Populate all scheduled definitions, including the ones being scheduled in the meantime.
+     */
+    void populatePendingDefinitions() {
+        while (!this.pendingPopulations.isEmpty()) {
+            PendingPopulation pendingPopulation = this.pendingPopulations.pollFirst();
+            // skip the definitions that have been populated on demand in the meantime
+            if (this.pendingPopulationsByKey.remove(pendingPopulation.key) != null) {
+                this.populate(pendingPopulation);
+            }
+        }
+    }
+
+    /**
+     * Populate the given definition right away, if it has been scheduled but not populated yet (in the iterative mode).
+     *
+     * @param key definition to be populated
+     * @return whether the definition was populated now (false if it was populated before or has never been scheduled)
+     */
+    boolean populatePendingDefinition(DefinitionKey key) {
+        PendingPopulation pendingPopulation = this.pendingPopulationsByKey.remove(key);
+        if (pendingPopulation == null) {
+            return false;
+        }
+        // the entry remains in the queue, but is being skipped there
+        this.populate(pendingPopulation);
+        return true;
+    }
+
+    /**
+     * Look-up the definitions that have been referenced while populating the given one (in the iterative mode).
+     *
+     * @param key definition that was populated
+     * @return referenced definitions in the order in which they were encountered (without duplicates)
+     */
+    Set<DefinitionKey> getEncounteredReferences(DefinitionKey key) {
+        return new LinkedHashSet<>(this.encounteredReferences.getOrDefault(key, Collections.emptyList()));
+    }
+
+    /**
+     * Populate a single definition and notify the progress listeners afterwards. If the budget is exhausted, the definition is left empty.
+     *
+     * @param pendingPopulation definition to be populated
+     */
+    private void populate(PendingPopulation pendingPopulation) {
+        DefinitionKey key = pendingPopulation.key;
+        this.checkCancellation(key.getType());
+        if (!this.exhausted && this.getElapsedNanos() > this.budget.getTimeoutNanos()) {
+            this.handleExceededLimit(SchemaGenerationBudget.Limit.TIME, key.getType());
+        }
+        if (!this.exhausted) {
+            DefinitionKey previous = this.switchCurrentDefinition(key);
+            int previousDepth = this.currentDepth;
+            this.currentDepth = pendingPopulation.depth;
+            try {
+                pendingPopulation.population.run();
+            } finally {
+                this.currentDefinition = previous;
+                this.currentDepth = previousDepth;
+            }
+        }
+        this.populatedCount++;
+        for (TraversalProgressListener listener : this.progressListeners) {
+            listener.onDefinitionPopulated(key.getType(), this.populatedCount, this.scheduledCount - this.populatedCount);
+        }
+    }
+
+    /**
+     * Remember that another (sub) schema node has been created.
+     */
+    void countNode() {
+        this.nodeCount++;
+    }
+
+    /**
+     * Check whether a new definition for the given type may be added, considering the configured budget.
+     *
+     * @param type type for which a new definition is about to be added
+     * @param definitionCount number of definitions that have been added so far
+     * @return whether the definition may be added (if not, the type should be represented by an empty schema instead)
+     * @throws SchemaGenerationBudgetExceededException if a limit is exceeded and the budget is configured to fail in that case
+     * @throws CancellationException if the schema generation has been cancelled
+     */
+    boolean mayAddDefinition(ResolvedType type, int definitionCount) {
+        this.checkCancellation(type);
+        if (this.exhausted) {
+            return false;
+        }
+        final SchemaGenerationBudget.Limit exceededLimit;
+        if (definitionCount >= this.budget.getMaximumDefinitionCount()) {
+            exceededLimit = SchemaGenerationBudget.Limit.DEFINITION_COUNT;
+        } else if (this.nodeCount > this.budget.getMaximumNodeCount()) {
+            exceededLimit = SchemaGenerationBudget.Limit.NODE_COUNT;
+        } else if (this.currentDepth >= this.budget.getMaximumDepth()) {
+            exceededLimit = SchemaGenerationBudget.Limit.DEPTH;
+        } else if (this.getElapsedNanos() > this.budget.getTimeoutNanos()) {
+            exceededLimit = SchemaGenerationBudget.Limit.TIME;
+        } else {
+            return true;
+        }
+        this.handleExceededLimit(exceededLimit, type);
+        return false;
+    }
+
+    /**
+     * Getter for the flag indicating whether any definition was left out or left empty, because a limit of the budget was exceeded.
+     *
+     * @return whether the collected definitions are incomplete
+     */
+    boolean isDegraded() {
+        return this.degraded;
+    }
+
+    /**
+     * React on the given limit having been exceeded, according to the budget's {@link SchemaGenerationBudget.ExceedingStrategy}.
+     *
+     * @param exceededLimit limit that was exceeded
+     * @param type type being processed
+     * @throws SchemaGenerationBudgetExceededException if the budget is configured to fail in that case
+     */
+    private void handleExceededLimit(SchemaGenerationBudget.Limit exceededLimit, ResolvedType type) {
+        if (this.budget.getExceedingStrategy() == SchemaGenerationBudget.ExceedingStrategy.FAIL) {
+            throw new SchemaGenerationBudgetExceededException(exceededLimit, type, "Schema generation exceeded its " + exceededLimit
+                    + " limit while processing " + type.getFullDescription()
+                    + " (populated definitions: " + this.populatedCount
+                    + ", pending definitions: " + (this.scheduledCount - this.populatedCount)
+                    + ", nodes: " + this.nodeCount
+                    + ", depth: " + this.currentDepth
+                    + ", elapsed: " + TimeUnit.NANOSECONDS.toMillis(this.getElapsedNanos()) + "ms)");
+        }
+        this.degraded = true;
+        // the depth is only exceeded in a particular branch, all other limits apply to the whole remaining schema generation
+        this.exhausted = exceededLimit != SchemaGenerationBudget.Limit.DEPTH;
+    }
+
+    /**
+     * Ensure the schema generation has not been cancelled.
+     *
+     * @param type type being processed
+     * @throws CancellationException if the schema generation has been cancelled
+     */
+    private void checkCancellation(ResolvedType type) {
+        BooleanSupplier cancellationCheck = this.budget.getCancellationCheck();
+        if (cancellationCheck != null && cancellationCheck.getAsBoolean()) {
+            throw new CancellationException("Schema generation was cancelled while processing " + type.getFullDescription());
+        }
+    }
+
+    /**
+     * Determine the time passed since the start of this traversal.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    private long getElapsedNanos() {
+        return System.nanoTime() - this.startNanos;
+    }
+
+    /**
+     * Sort the given definitions in the order in which the recursive traversal would have encountered them, starting from the main definition.
+     * Definitions that cannot be reached via the recorded references are kept at the end in their current order.
+     * <br>
+     * In the recursive mode, the definitions are already in the expected order and are being returned as they are.
+     *
+     * @param mainKey definition of the schema's main type
+     * @param definedKeys definitions to sort
+     * @return definitions in the order of the recursive traversal
+     */
+    Set<DefinitionKey> sortInTraversalOrder(DefinitionKey mainKey, Set<DefinitionKey> definedKeys) {
+        if (!this.iterative) {
+            return definedKeys;
+        }
+        Set<DefinitionKey> sortedKeys = new LinkedHashSet<>();
+        Set<DefinitionKey> visitedKeys = new HashSet<>();
+        Deque<Iterator<DefinitionKey>> stack = new ArrayDeque<>();
+        stack.push(Collections.singletonList(mainKey).iterator());
+        while (!stack.isEmpty()) {
+            Iterator<DefinitionKey> referencedKeys = stack.peek();
+            if (!referencedKeys.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            DefinitionKey key = referencedKeys.next();
+            if (visitedKeys.add(key)) {
+                if (definedKeys.contains(key)) {
+                    sortedKeys.add(key);
+                }
+                stack.push(this.encounteredReferences.getOrDefault(key, Collections.emptyList()).iterator());
+            }
+        }
+        sortedKeys.addAll(definedKeys);
+        return sortedKeys;
+    }
+
+    /**
+     * Definition to be populated (later).
+     */
+    private static class PendingPopulation {
+
+        final DefinitionKey key;
+        final Runnable population;
+        final int depth;
+
+        /**
+         * Constructor.
+         *
+         * @param key definition to be populated
+         * @param population action populating the definition
+         * @param depth nesting level of the definition, with the main schema being on level 1
+         */
+        PendingPopulation(DefinitionKey key, Runnable population, int depth) {
+            this.key = key;
+            this.population = population;
+            this.depth = depth;
+        }
+    }
+}
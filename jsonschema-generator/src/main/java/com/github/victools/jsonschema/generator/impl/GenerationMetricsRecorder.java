@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.GenerationMetricsListener;
+import com.github.victools.jsonschema.generator.GenerationPhase;
+
+/**
+ * Measuring the durations of the individual {@link GenerationPhase}s and reporting them to the configured {@link GenerationMetricsListener}. If
+ * there is no listener (i.e. only the {@link GenerationMetricsListener#NO_OP} one), not even the current time is being looked-up.
+ */
+public final class GenerationMetricsRecorder {
+
+    private final GenerationMetricsListener listener;
+    private final boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to report to (may be null, being treated like {@link GenerationMetricsListener#NO_OP})
+     */
+    public GenerationMetricsRecorder(GenerationMetricsListener listener) {
+        this.listener = listener == null ? GenerationMetricsListener.NO_OP : listener;
+        this.enabled = this.listener != GenerationMetricsListener.NO_OP;
+    }
+
+    /**
+     * Getter for the flag indicating whether any metrics are being reported.
+     *
+     * @return whether a listener other than {@link GenerationMetricsListener#NO_OP} is configured
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Determine the start time of a phase.
+     *
+     * @return current time in nanoseconds (or 0 if no metrics are being reported)
+     */
+    public long start() {
+        return this.enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Determine the time passed since the given start time, e.g. for accumulating the duration of a phase being performed in multiple steps.
+     *
+     * @param startTime value returned by {@link #start()}
+     * @return passed time in nanoseconds (or 0 if no metrics are being reported)
+     */
+    public long elapsed(long startTime) {
+        return this.enabled ? System.nanoTime() - startTime : 0L;
+    }
+
+    /**
+     * Report the completion of a phase.
+     *
+     * @param phase completed phase
+     * @param startTime value returned by {@link #start()} when the phase was started
+     * @param count phase specific number of handled items
+     */
+    public void complete(GenerationPhase phase, long startTime, int count) {
+        if (this.enabled) {
+            this.listener.onPhaseCompleted(phase, System.nanoTime() - startTime, count);
+        }
+    }
+
+    /**
+     * Report the completion of a phase, whose duration has been accumulated separately (e.g. via {@link #elapsed(long)}).
+     *
+     * @param phase completed phase
+     * @param durationNanos accumulated duration of the phase in nanoseconds
+     * @param count phase specific number of handled items
+     */
+    public void report(GenerationPhase phase, long durationNanos, int count) {
+        if (this.enabled) {
+            this.listener.onPhaseCompleted(phase, durationNanos, count);
+        }
+    }
+}
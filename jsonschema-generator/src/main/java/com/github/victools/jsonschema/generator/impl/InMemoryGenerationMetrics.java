@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.GenerationMetricsListener;
+import com.github.victools.jsonschema.generator.GenerationPhase;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simple {@link GenerationMetricsListener} aggregating the number of occurrences, the total/maximum duration and the total count of each
+ * {@link GenerationPhase} in memory, e.g. to be exposed via a monitoring endpoint or logged periodically.
+ * <br>
+ * This may be notified by multiple concurrent schema generations.
+ */
+public class InMemoryGenerationMetrics implements GenerationMetricsListener {
+
+    private final PhaseMetrics[] metricsByPhase;
+
+    /**
+     * Constructor.
+     */
+    public InMemoryGenerationMetrics() {
+        GenerationPhase[] phases = GenerationPhase.values();
+        this.metricsByPhase = new PhaseMetrics[phases.length];
+        for (int index = 0; index < phases.length; index++) {
+            this.metricsByPhase[index] = new PhaseMetrics();
+        }
+    }
+
+    @Override
+    public void onPhaseCompleted(GenerationPhase phase, long durationNanos, int count) {
+        PhaseMetrics metrics = this.metricsByPhase[phase.ordinal()];
+        metrics.occurrences.increment();
+        metrics.totalNanos.add(durationNanos);
+        metrics.maxNanos.accumulate(durationNanos);
+        metrics.totalCount.add(count);
+    }
+
+    /**
+     * Getter for the number of times the given phase has been completed.
+     *
+     * @param phase phase to look-up
+     * @return number of occurrences
+     */
+    public long getOccurrences(GenerationPhase phase) {
+        return this.metricsByPhase[phase.ordinal()].occurrences.sum();
+    }
+
+    /**
+     * Getter for the summed-up duration of all occurrences of the given phase.
+     *
+     * @param phase phase to look-up
+     * @param unit time unit to return the duration in
+     * @return total duration
+     */
+    public long getTotalDuration(GenerationPhase phase, TimeUnit unit) {
+        return unit.convert(this.metricsByPhase[phase.ordinal()].totalNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Getter for the longest duration of a single occurrence of the given phase.
+     *
+     * @param phase phase to look-up
+     * @param unit time unit to return the duration in
+     * @return maximum duration
+     */
+    public long getMaximumDuration(GenerationPhase phase, TimeUnit unit) {
+        return unit.convert(this.metricsByPhase[phase.ordinal()].maxNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Getter for the summed-up (phase specific) counts of all occurrences of the given phase.
+     *
+     * @param phase phase to look-up
+     * @return total count
+     */
+    public long getTotalCount(GenerationPhase phase) {
+        return this.metricsByPhase[phase.ordinal()].totalCount.sum();
+    }
+
+    /**
+     * Discard all collected metrics.
+     */
+    public void reset() {
+        for (PhaseMetrics metrics : this.metricsByPhase) {
+            metrics.occurrences.reset();
+            metrics.totalNanos.reset();
+            metrics.maxNanos.reset();
+            metrics.totalCount.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            summary.append(phase.name())
+                    .append(": occurrences=").append(this.getOccurrences(phase))
+                    .append(", totalMicros=").append(this.getTotalDuration(phase, TimeUnit.MICROSECONDS))
+                    .append(", maxMicros=").append(this.getMaximumDuration(phase, TimeUnit.MICROSECONDS))
+                    .append(", totalCount=").append(this.getTotalCount(phase))
+                    .append('\n');
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Aggregated metrics of a single phase.
+     */
+    private static class PhaseMetrics {
+
+        final LongAdder occurrences = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        final LongAdder totalCount = new LongAdder();
+    }
+}
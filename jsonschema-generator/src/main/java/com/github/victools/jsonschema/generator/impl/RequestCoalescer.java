@@ -0,0 +1,348 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of concurrent schema generations for the same type within a single
+ * {@link com.github.victools.jsonschema.generator.SchemaGenerator SchemaGenerator}: while a schema is being generated for a particular type, other
+ * threads requesting a schema for an equal type wait for that generation to complete instead of performing the same traversal themselves.
+ * <br>
+ * Each waiting thread receives its own (deep) copy of the generated schema. If the generation fails, the same exception is being thrown in all
+ * waiting threads. If a waiting thread does not receive the result within the configured timeout, it generates the schema on its own.
+ * <br>
+ * Statistics are being collected across all requests as well as per type. The latter are only kept for a limited number of most recently
+ * requested types, in order to not grow indefinitely when a long-lived generator is being used for arbitrary types.
+ * <br>
+ * An instance of this class is not meant to be shared between generators with differing configurations.
+ */
+public class RequestCoalescer {
+
+    /**
+     * Default maximum number of types for which separate statistics are being kept.
+     */
+    public static final int DEFAULT_STATISTICS_SIZE = 256;
+
+    private final long timeoutMillis;
+    private final Map<ResolvedType, InFlightGeneration> inFlightGenerations = new ConcurrentHashMap<>();
+    private final Statistics totalStatistics = new Statistics(null);
+    private final int statisticsSize;
+    private final Map<ResolvedType, Statistics> statistics;
+
+    /**
+     * Constructor, keeping separate statistics for up to {@link #DEFAULT_STATISTICS_SIZE} types.
+     *
+     * @param timeout maximum time for a thread to wait for a concurrent generation of the same schema (must not be negative)
+     * @param unit unit of the given timeout
+     */
+    public RequestCoalescer(long timeout, TimeUnit unit) {
+        this(timeout, unit, DEFAULT_STATISTICS_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeout maximum time for a thread to wait for a concurrent generation of the same schema (must not be negative)
+     * @param unit unit of the given timeout
+     * @param statisticsSize maximum number of most recently requested types for which separate statistics are being kept (must not be negative;
+     *        0 = only collect the total statistics)
+     */
+    public RequestCoalescer(long timeout, TimeUnit unit, int statisticsSize) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative, but was: " + timeout);
+        }
+        if (statisticsSize < 0) {
+            throw new IllegalArgumentException("statisticsSize must not be negative, but was: " + statisticsSize);
+        }
+        this.timeoutMillis = unit.toMillis(timeout);
+        this.statisticsSize = statisticsSize;
+        this.statistics = new LinkedHashMap<ResolvedType, Statistics>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResolvedType, Statistics> eldest) {
+                return this.size() > statisticsSize;
+            }
+        };
+    }
+
+    /**
+     * Getter for the maximum time for a thread to wait for a concurrent generation of the same schema.
+     *
+     * @return timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * Getter for the maximum number of most recently requested types for which separate statistics are being kept.
+     *
+     * @return maximum number of types with separate statistics
+     */
+    public int getStatisticsSize() {
+        return this.statisticsSize;
+    }
+
+    /**
+     * Getter for the statistics collected for the schema generations of all requested types combined.
+     *
+     * @return collected statistics across all types
+     */
+    public Statistics getTotalStatistics() {
+        return this.totalStatistics;
+    }
+
+    /**
+     * Getter for the statistics collected for the schema generations of a particular type.
+     *
+     * @param type targeted type
+     * @return collected statistics (or null if no schema was requested for the given type yet or its statistics have been evicted since)
+     */
+    public Statistics getStatistics(ResolvedType type) {
+        synchronized (this.statistics) {
+            return this.statistics.get(type);
+        }
+    }
+
+    /**
+     * Getter for the statistics collected for the schema generations of the most recently requested types.
+     *
+     * @return snapshot of the collected statistics per type (not modifiable)
+     * @see #getStatisticsSize()
+     */
+    public Map<ResolvedType, Statistics> getStatistics() {
+        synchronized (this.statistics) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(this.statistics));
+        }
+    }
+
+    /**
+     * Look-up the statistics for the given type, that are also contributing to the total statistics.
+     *
+     * @param type targeted type
+     * @return statistics to update for the given type (or the total statistics if no separate statistics are being kept)
+     */
+    private Statistics getOrCreateStatistics(ResolvedType type) {
+        if (this.statisticsSize == 0) {
+            return this.totalStatistics;
+        }
+        synchronized (this.statistics) {
+            return this.statistics.computeIfAbsent(type, _key -> new Statistics(this.totalStatistics));
+        }
+    }
+
+    /**
+     * Provide the schema for the given type: either by performing the given generation or by waiting for a concurrent generation for the same type.
+     *
+     * @param type targeted type
+     * @param generation generation of the schema for the given type
+     * @return generated schema (that is not being referenced anywhere else)
+     */
+    public JsonNode generate(ResolvedType type, Supplier<JsonNode> generation) {
+        Statistics typeStatistics = this.getOrCreateStatistics(type);
+        while (true) {
+            InFlightGeneration ownGeneration = new InFlightGeneration();
+            InFlightGeneration concurrentGeneration = this.inFlightGenerations.putIfAbsent(type, ownGeneration);
+            if (concurrentGeneration == null) {
+                typeStatistics.countGeneration();
+                return this.performGeneration(type, ownGeneration, generation);
+            }
+            if (concurrentGeneration.join()) {
+                return this.awaitGeneration(concurrentGeneration, typeStatistics, generation);
+            }
+            // the concurrent generation just finished and was already removed; try again
+        }
+    }
+
+    /**
+     * Perform the actual schema generation and provide its result to all threads that are waiting for it.
+     *
+     * @param type targeted type
+     * @param ownGeneration registered in-flight generation to complete
+     * @param generation generation of the schema for the given type
+     * @return generated schema (or a copy of it, if other threads have been waiting for it)
+     */
+    private JsonNode performGeneration(ResolvedType type, InFlightGeneration ownGeneration, Supplier<JsonNode> generation) {
+        JsonNode result;
+        try {
+            result = generation.get();
+            ownGeneration.result.complete(result);
+        } catch (RuntimeException | Error ex) {
+            ownGeneration.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlightGenerations.remove(type, ownGeneration);
+        }
+        // the original result must not be handed out if other threads are still creating their copies of it
+        return ownGeneration.close() ? result.deepCopy() : result;
+    }
+
+    /**
+     * Wait for a concurrent schema generation to complete.
+     *
+     * @param concurrentGeneration in-flight generation to wait for
+     * @param typeStatistics statistics for the targeted type
+     * @param generation generation of the schema for the given type (to perform in case of a timeout)
+     * @return copy of the concurrently generated schema
+     */
+    private JsonNode awaitGeneration(InFlightGeneration concurrentGeneration, Statistics typeStatistics, Supplier<JsonNode> generation) {
+        try {
+            JsonNode result = concurrentGeneration.result.get(this.timeoutMillis, TimeUnit.MILLISECONDS);
+            typeStatistics.countCoalesced();
+            return result.deepCopy();
+        } catch (TimeoutException ex) {
+            typeStatistics.countTimeout();
+            typeStatistics.countGeneration();
+            return generation.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrent schema generation", ex);
+        }
+    }
+
+    /**
+     * Representation of a single schema generation that other threads may wait for.
+     */
+    private static class InFlightGeneration {
+
+        final CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        private boolean hasWaitingThreads = false;
+        private boolean closed = false;
+
+        /**
+         * Register another thread waiting for this generation.
+         *
+         * @return whether the registration was successful (false if the generation is already done)
+         */
+        synchronized boolean join() {
+            if (this.closed) {
+                return false;
+            }
+            this.hasWaitingThreads = true;
+            return true;
+        }
+
+        /**
+         * Prevent any further threads from waiting for this generation.
+         *
+         * @return whether any thread was registered as waiting for this generation
+         */
+        synchronized boolean close() {
+            this.closed = true;
+            return this.hasWaitingThreads;
+        }
+    }
+
+    /**
+     * Statistics collected for the schema generations of a single type or across all types.
+     */
+    public static class Statistics {
+
+        private final Statistics total;
+        private final LongAdder generationCount = new LongAdder();
+        private final LongAdder coalescedCount = new LongAdder();
+        private final LongAdder timeoutCount = new LongAdder();
+
+        /**
+         * Constructor.
+         *
+         * @param total statistics across all types, that should also be updated (may be null)
+         */
+        Statistics(Statistics total) {
+            this.total = total;
+        }
+
+        /**
+         * Count a performed schema generation.
+         */
+        void countGeneration() {
+            this.generationCount.increment();
+            if (this.total != null) {
+                this.total.countGeneration();
+            }
+        }
+
+        /**
+         * Count a request that received the result of a concurrent schema generation.
+         */
+        void countCoalesced() {
+            this.coalescedCount.increment();
+            if (this.total != null) {
+                this.total.countCoalesced();
+            }
+        }
+
+        /**
+         * Count a request that waited for a concurrent schema generation in vain.
+         */
+        void countTimeout() {
+            this.timeoutCount.increment();
+            if (this.total != null) {
+                this.total.countTimeout();
+            }
+        }
+
+        /**
+         * Getter for the number of schema generations that have actually been performed.
+         *
+         * @return number of schema generations
+         */
+        public long getGenerationCount() {
+            return this.generationCount.sum();
+        }
+
+        /**
+         * Getter for the number of requests that received the result of a concurrent schema generation.
+         *
+         * @return number of coalesced requests
+         */
+        public long getCoalescedCount() {
+            return this.coalescedCount.sum();
+        }
+
+        /**
+         * Getter for the number of requests that waited for a concurrent schema generation in vain and then performed their own generation.
+         *
+         * @return number of timed out requests
+         */
+        public long getTimeoutCount() {
+            return this.timeoutCount.sum();
+        }
+    }
+}
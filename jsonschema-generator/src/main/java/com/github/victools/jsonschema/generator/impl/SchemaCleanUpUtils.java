@@ -0,0 +1,372 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.GenerationPhase;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Final clean-up steps being applied to a generated schema, e.g. removing unnecessary {@link SchemaKeyword#TAG_ALLOF} or
+ * {@link SchemaKeyword#TAG_ANYOF} wrappers.
+ * <br>
+ * All applicable clean-up steps are being performed in a single traversal of the schema. Each (sub) schema is being visited only once and after
+ * all (sub) schemas contained in it, i.e. each clean-up step may rely on its nested (sub) schemas having been cleaned-up already.
+ */
+public class SchemaCleanUpUtils {
+
+    private final String definitionsTagName;
+    private final String allOfTagName;
+    private final String anyOfTagName;
+    private final String refTagName;
+    private final String refPrefix;
+    private final boolean refExcludingOtherKeywords;
+    private final String[] tagsWithSchema;
+    private final String[] tagsWithSchemaArray;
+    private final String[] tagsWithSchemaObject;
+    private final List<CleanUpStep> cleanUpSteps;
+
+    /**
+     * Constructor.
+     *
+     * @param config configuration determining the applicable clean-up steps and the keywords to consider
+     */
+    public SchemaCleanUpUtils(SchemaGeneratorConfig config) {
+        this.definitionsTagName = config.getKeyword(SchemaKeyword.TAG_DEFINITIONS);
+        this.allOfTagName = config.getKeyword(SchemaKeyword.TAG_ALLOF);
+        this.anyOfTagName = config.getKeyword(SchemaKeyword.TAG_ANYOF);
+        this.refTagName = config.getKeyword(SchemaKeyword.TAG_REF);
+        this.refPrefix = config.getKeyword(SchemaKeyword.TAG_REF_PREFIX);
+        // in Draft 7, any other attributes besides the $ref keyword were ignored
+        this.refExcludingOtherKeywords = config.getSchemaVersion() == SchemaVersion.DRAFT_7;
+        this.tagsWithSchema = new String[]{
+            config.getKeyword(SchemaKeyword.TAG_ADDITIONAL_PROPERTIES),
+            config.getKeyword(SchemaKeyword.TAG_ITEMS)
+        };
+        this.tagsWithSchemaArray = new String[]{
+            this.allOfTagName,
+            this.anyOfTagName,
+            config.getKeyword(SchemaKeyword.TAG_ONEOF)
+        };
+        this.tagsWithSchemaObject = new String[]{
+            config.getKeyword(SchemaKeyword.TAG_PATTERN_PROPERTIES),
+            config.getKeyword(SchemaKeyword.TAG_PROPERTIES)
+        };
+        this.cleanUpSteps = new ArrayList<>(2);
+        if (config.shouldCleanupUnnecessaryAllOfElements()) {
+            this.cleanUpSteps.add(new CleanUpStep(GenerationPhase.ALLOF_CLEANUP, this::mergeAllOfPartsIfPossible));
+        }
+        this.cleanUpSteps.add(new CleanUpStep(GenerationPhase.ANYOF_CLEANUP, this::reduceAnyOfWrappersIfPossible));
+    }
+
+    /**
+     * Apply all applicable clean-up steps to the given schema (including its {@link SchemaKeyword#TAG_DEFINITIONS}) and all (sub) schemas within.
+     * <br>
+     * The traversal is performed with an explicit work stack. Nodes being contained in multiple places of the schema are only visited once.
+     *
+     * @param jsonSchema generated and fully populated schema to clean-up
+     */
+    public void finaliseSchemaParts(ObjectNode jsonSchema) {
+        this.finaliseSchemaParts(jsonSchema, null);
+    }
+
+    /**
+     * Apply all applicable clean-up steps to the given schema (including its {@link SchemaKeyword#TAG_DEFINITIONS}) and all (sub) schemas within,
+     * while reporting the whole traversal as {@link GenerationPhase#SCHEMA_PART_FINALISATION} and each clean-up step as its own phase.
+     * <br>
+     * The traversal is performed with an explicit work stack. Nodes being contained in multiple places of the schema are only visited once.
+     *
+     * @param jsonSchema generated and fully populated schema to clean-up
+     * @param metrics recorder to report the durations of the traversal and the individual clean-up steps to (may be null)
+     */
+    public void finaliseSchemaParts(ObjectNode jsonSchema, GenerationMetricsRecorder metrics) {
+        boolean measuring = metrics != null && metrics.isEnabled();
+        final long traversalStart = measuring ? metrics.start() : 0L;
+        int stepCount = this.cleanUpSteps.size();
+        final long[] stepDurations = measuring ? new long[stepCount] : null;
+        final int[] stepCounts = measuring ? new int[stepCount] : null;
+        // absent: not yet visited, FALSE: contained (sub) schemas being visited, TRUE: done
+        Map<ObjectNode, Boolean> visitStates = new IdentityHashMap<>();
+        Deque<ObjectNode> workStack = new ArrayDeque<>();
+        workStack.push(jsonSchema);
+        JsonNode definitions = jsonSchema.get(this.definitionsTagName);
+        if (definitions instanceof ObjectNode) {
+            this.pushAll(definitions, workStack, visitStates);
+        }
+        while (!workStack.isEmpty()) {
+            ObjectNode node = workStack.peek();
+            Boolean visitState = visitStates.get(node);
+            if (visitState == null) {
+                visitStates.put(node, Boolean.FALSE);
+                this.pushContainedSchemas(node, workStack, visitStates);
+            } else {
+                workStack.pop();
+                if (!visitState) {
+                    visitStates.put(node, Boolean.TRUE);
+                    for (int index = 0; index < stepCount; index++) {
+                        CleanUpStep step = this.cleanUpSteps.get(index);
+                        if (measuring) {
+                            long stepStart = metrics.start();
+                            if (step.action.test(node)) {
+                                stepCounts[index]++;
+                            }
+                            stepDurations[index] += metrics.elapsed(stepStart);
+                        } else {
+                            step.action.test(node);
+                        }
+                    }
+                }
+            }
+        }
+        if (measuring) {
+            for (int index = 0; index < stepCount; index++) {
+                metrics.report(this.cleanUpSteps.get(index).phase, stepDurations[index], stepCounts[index]);
+            }
+            metrics.complete(GenerationPhase.SCHEMA_PART_FINALISATION, traversalStart, visitStates.size());
+        }
+    }
+
+    /**
+     * Collapse structurally identical entries in the given schema's {@link SchemaKeyword#TAG_DEFINITIONS} into a single one (the first of them in
+     * the order of the definitions) and let all references to the removed entries point to the remaining one instead.
+     * <br>
+     * This is being repeated until no more identical entries are found, as collapsing some definitions may render the definitions referencing them
+     * identical as well.
+     *
+     * @param jsonSchema generated and fully populated schema to deduplicate the {@link SchemaKeyword#TAG_DEFINITIONS} in
+     */
+    public void deduplicateDefinitions(ObjectNode jsonSchema) {
+        JsonNode definitions = jsonSchema.get(this.definitionsTagName);
+        if (!(definitions instanceof ObjectNode)) {
+            return;
+        }
+        Map<String, String> replacedReferences = new HashMap<>();
+        do {
+            replacedReferences.clear();
+            // the structural equality and hash code of the definition nodes serve as their fingerprint
+            Map<JsonNode, String> distinctDefinitions = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> definitionEntries = definitions.fields();
+            while (definitionEntries.hasNext()) {
+                Map.Entry<String, JsonNode> definitionEntry = definitionEntries.next();
+                String retainedDefinitionName = distinctDefinitions.putIfAbsent(definitionEntry.getValue(), definitionEntry.getKey());
+                if (retainedDefinitionName != null) {
+                    replacedReferences.put(this.refPrefix + definitionEntry.getKey(), this.refPrefix + retainedDefinitionName);
+                    definitionEntries.remove();
+                }
+            }
+            if (!replacedReferences.isEmpty()) {
+                this.replaceReferences(jsonSchema, replacedReferences);
+            }
+        } while (!replacedReferences.isEmpty());
+    }
+
+    /**
+     * Replace the values of all {@link SchemaKeyword#TAG_REF} attributes within the given schema according to the given mapping.
+     *
+     * @param jsonSchema schema in which to replace references
+     * @param replacedReferences mapping from the references to replace to their respective replacement
+     */
+    private void replaceReferences(ObjectNode jsonSchema, Map<String, String> replacedReferences) {
+        Set<JsonNode> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<JsonNode> workStack = new ArrayDeque<>();
+        workStack.push(jsonSchema);
+        while (!workStack.isEmpty()) {
+            JsonNode node = workStack.pop();
+            if (!visitedNodes.add(node)) {
+                continue;
+            }
+            JsonNode reference = node.get(this.refTagName);
+            if (node instanceof ObjectNode && reference != null && reference.isTextual()) {
+                String replacement = replacedReferences.get(reference.textValue());
+                if (replacement != null) {
+                    ((ObjectNode) node).put(this.refTagName, replacement);
+                }
+            }
+            Iterator<JsonNode> children = node.elements();
+            while (children.hasNext()) {
+                JsonNode child = children.next();
+                if (child.isContainerNode()) {
+                    workStack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the (sub) schemas directly contained in the given schema node to the work stack, unless they have been visited before.
+     *
+     * @param node (sub) schema to look-up contained (sub) schemas in
+     * @param workStack stack of nodes to visit
+     * @param visitStates states of all visited nodes
+     */
+    private void pushContainedSchemas(ObjectNode node, Deque<ObjectNode> workStack, Map<ObjectNode, Boolean> visitStates) {
+        for (String tagName : this.tagsWithSchema) {
+            JsonNode containedSchema = node.get(tagName);
+            if (containedSchema instanceof ObjectNode && !visitStates.containsKey(containedSchema)) {
+                workStack.push((ObjectNode) containedSchema);
+            }
+        }
+        for (String tagName : this.tagsWithSchemaArray) {
+            JsonNode containedSchemas = node.get(tagName);
+            if (containedSchemas instanceof ArrayNode) {
+                this.pushAll(containedSchemas, workStack, visitStates);
+            }
+        }
+        for (String tagName : this.tagsWithSchemaObject) {
+            JsonNode containedSchemas = node.get(tagName);
+            if (containedSchemas instanceof ObjectNode) {
+                this.pushAll(containedSchemas, workStack, visitStates);
+            }
+        }
+    }
+
+    /**
+     * Add the (object) values of the given container node to the work stack, unless they have been visited before.
+     *
+     * @param container array or object node containing (sub) schemas
+     * @param workStack stack of nodes to visit
+     * @param visitStates states of all visited nodes
+     */
+    private void pushAll(JsonNode container, Deque<ObjectNode> workStack, Map<ObjectNode, Boolean> visitStates) {
+        Iterator<JsonNode> elements = container.elements();
+        while (elements.hasNext()) {
+            JsonNode element = elements.next();
+            if (element instanceof ObjectNode && !visitStates.containsKey(element)) {
+                workStack.push((ObjectNode) element);
+            }
+        }
+    }
+
+    /**
+     * Check whether the given schema node and its {@link SchemaKeyword#TAG_ALLOF} elements (if there are any) are distinct. If yes, remove the
+     * {@link SchemaKeyword#TAG_ALLOF} node and merge all its elements with the given schema node instead.
+     * <br>
+     * This makes for more readable schemas being generated but has the side-effect that manually added {@link SchemaKeyword#TAG_ALLOF} (e.g. from a
+     * custom definition or attribute overrides) may be removed as well if it isn't strictly speaking necessary.
+     * <br>
+     * The {@link SchemaKeyword#TAG_ALLOF} elements are expected to have been cleaned-up already.
+     *
+     * @param schemaNode single node representing a sub-schema to consolidate contained {@link SchemaKeyword#TAG_ALLOF} for (if present)
+     * @return whether the {@link SchemaKeyword#TAG_ALLOF} elements were merged into the given schema node
+     */
+    private boolean mergeAllOfPartsIfPossible(ObjectNode schemaNode) {
+        JsonNode allOfTag = schemaNode.get(this.allOfTagName);
+        if (!(allOfTag instanceof ArrayNode)) {
+            return false;
+        }
+        List<ObjectNode> parts = new ArrayList<>(allOfTag.size());
+        for (JsonNode part : allOfTag) {
+            if (part instanceof ObjectNode) {
+                parts.add((ObjectNode) part);
+            } else if (!part.asBoolean()) {
+                return false;
+            }
+        }
+        if (this.refExcludingOtherKeywords && schemaNode.has(this.refTagName)) {
+            return false;
+        }
+        Set<String> fieldNames = new HashSet<>();
+        schemaNode.fieldNames().forEachRemaining(fieldNames::add);
+        for (ObjectNode part : parts) {
+            if (this.refExcludingOtherKeywords && part.has(this.refTagName)) {
+                return false;
+            }
+            Iterator<String> partFieldNames = part.fieldNames();
+            while (partFieldNames.hasNext()) {
+                if (!fieldNames.add(partFieldNames.next())) {
+                    return false;
+                }
+            }
+        }
+        schemaNode.remove(this.allOfTagName);
+        parts.forEach(schemaNode::setAll);
+        return true;
+    }
+
+    /**
+     * Check whether the given schema node contains a {@link SchemaKeyword#TAG_ANYOF} element which in turn contains an entry with only another
+     * {@link SchemaKeyword#TAG_ANYOF} inside. If yes, move the entries from the inner array up to the outer one.
+     * <br>
+     * This makes for more readable schemas being generated but has the side-effect that manually added {@link SchemaKeyword#TAG_ANYOF} entries (e.g.
+     * from a custom definition or attribute overrides) may be removed as well if it isn't strictly speaking necessary.
+     * <br>
+     * The {@link SchemaKeyword#TAG_ANYOF} entries are expected to have been cleaned-up already.
+     *
+     * @param schemaNode single node representing a sub-schema to consolidate contained {@link SchemaKeyword#TAG_ANYOF} for (if present)
+     * @return whether any nested {@link SchemaKeyword#TAG_ANYOF} entries were moved up into the given schema node's one
+     */
+    private boolean reduceAnyOfWrappersIfPossible(ObjectNode schemaNode) {
+        JsonNode anyOfTag = schemaNode.get(this.anyOfTagName);
+        if (!(anyOfTag instanceof ArrayNode)) {
+            return false;
+        }
+        boolean reduced = false;
+        ArrayNode anyOfArray = (ArrayNode) anyOfTag;
+        for (int index = anyOfArray.size() - 1; index > -1; index--) {
+            JsonNode arrayEntry = anyOfArray.get(index);
+            if (!(arrayEntry instanceof ObjectNode) || arrayEntry.size() != 1) {
+                continue;
+            }
+            JsonNode nestedAnyOf = arrayEntry.get(this.anyOfTagName);
+            if (!(nestedAnyOf instanceof ArrayNode)) {
+                continue;
+            }
+            anyOfArray.remove(index);
+            for (int nestedEntryIndex = nestedAnyOf.size() - 1; nestedEntryIndex > -1; nestedEntryIndex--) {
+                anyOfArray.insert(index, nestedAnyOf.get(nestedEntryIndex));
+            }
+            reduced = true;
+        }
+        return reduced;
+    }
+
+    /**
+     * Single clean-up step being applied to each (sub) schema, together with the phase under which its duration is being reported.
+     */
+    private static final class CleanUpStep {
+
+        final GenerationPhase phase;
+        final Predicate<ObjectNode> action;
+
+        /**
+         * Constructor.
+         *
+         * @param phase phase to report the step's accumulated duration as
+         * @param action clean-up of a single (sub) schema, indicating whether it changed anything
+         */
+        CleanUpStep(GenerationPhase phase, Predicate<ObjectNode> action) {
+            this.phase = phase;
+            this.action = action;
+        }
+    }
+}
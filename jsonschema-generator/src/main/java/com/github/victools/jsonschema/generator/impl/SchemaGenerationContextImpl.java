@@ -30,18 +30,22 @@ import com.github.victools.jsonschema.generator.CustomDefinition;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.CustomPropertyDefinitionProvider;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.GenerationPhase;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
+import com.github.victools.jsonschema.generator.SchemaGenerationBudget;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.TypeScope;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,9 +66,17 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
 
     private final SchemaGeneratorConfig generatorConfig;
     private final TypeContext typeContext;
-    private final Map<DefinitionKey, ObjectNode> definitions = new LinkedHashMap<>();
-    private final Map<DefinitionKey, List<ObjectNode>> references = new HashMap<>();
-    private final Map<DefinitionKey, List<ObjectNode>> nullableReferences = new HashMap<>();
+    private final DefinitionKeyTable keyTable = new DefinitionKeyTable();
+    private DefinitionEntry[] entriesById = new DefinitionEntry[16];
+    private final Set<DefinitionKey> definedKeys = new LinkedHashSet<>();
+    private final DefinitionCache definitionCache;
+    private final Set<DefinitionKey> cacheableDefinitions;
+    private final Map<JsonNode, DefinitionCache.CachedReference> cacheableReferences;
+    private final DefinitionTraversal traversal;
+    private final TypeAttributeCache typeAttributeCache;
+    private final GenerationMetricsRecorder metrics;
+    private int lenientTraversalDepth = 0;
+    private int addedReferenceCount = 0;
 
     /**
      * Constructor initialising type resolution context.
@@ -73,8 +85,76 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @param typeContext type resolution/introspection context to be used
      */
     public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext) {
+        this(generatorConfig, typeContext, null);
+    }
+
+    /**
+     * Constructor initialising type resolution context and the cache of definitions from previous schema generations.
+     *
+     * @param generatorConfig applicable configuration(s)
+     * @param typeContext type resolution/introspection context to be used
+     * @param definitionCache cache of definitions to look-up and remember definitions in (may be null)
+     */
+    public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext, DefinitionCache definitionCache) {
+        this(generatorConfig, typeContext, definitionCache, null);
+    }
+
+    /**
+     * Constructor initialising type resolution context, the cache of definitions from previous schema generations and the limits to honour.
+     *
+     * @param generatorConfig applicable configuration(s)
+     * @param typeContext type resolution/introspection context to be used
+     * @param definitionCache cache of definitions to look-up and remember definitions in (may be null)
+     * @param budget limits to honour while populating this context (may be null)
+     */
+    public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext, DefinitionCache definitionCache,
+            SchemaGenerationBudget budget) {
+        this(generatorConfig, typeContext, definitionCache, budget, null);
+    }
+
+    /**
+     * Constructor initialising type resolution context, the cache of definitions from previous schema generations, the limits to honour and the
+     * cache of type attributes.
+     *
+     * @param generatorConfig applicable configuration(s)
+     * @param typeContext type resolution/introspection context to be used
+     * @param definitionCache cache of definitions to look-up and remember definitions in (may be null)
+     * @param budget limits to honour while populating this context (may be null)
+     * @param typeAttributeCache cache of general type attributes to look-up and remember (may be null)
+     */
+    public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext, DefinitionCache definitionCache,
+            SchemaGenerationBudget budget, TypeAttributeCache typeAttributeCache) {
+        this(generatorConfig, typeContext, definitionCache, budget, typeAttributeCache,
+                new GenerationMetricsRecorder(generatorConfig.getGenerationMetricsListener()));
+    }
+
+    /**
+     * Constructor initialising type resolution context, the cache of definitions from previous schema generations, the limits to honour, the cache
+     * of type attributes and the recorder to report the durations of the individual generation phases to.
+     *
+     * @param generatorConfig applicable configuration(s)
+     * @param typeContext type resolution/introspection context to be used
+     * @param definitionCache cache of definitions to look-up and remember definitions in (may be null)
+     * @param budget limits to honour while populating this context (may be null)
+     * @param typeAttributeCache cache of general type attributes to look-up and remember (may be null)
+     * @param metrics recorder to report the durations of the individual generation phases to (e.g. shared by all generations of a generator)
+     */
+    public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext, DefinitionCache definitionCache,
+            SchemaGenerationBudget budget, TypeAttributeCache typeAttributeCache, GenerationMetricsRecorder metrics) {
+        this.typeAttributeCache = typeAttributeCache;
         this.generatorConfig = generatorConfig;
         this.typeContext = typeContext;
+        this.definitionCache = definitionCache;
+        this.metrics = metrics;
+        this.traversal = new DefinitionTraversal(generatorConfig.shouldTraverseIteratively(), generatorConfig.getTraversalProgressListeners(),
+                budget);
+        if (definitionCache == null) {
+            this.cacheableDefinitions = null;
+            this.cacheableReferences = null;
+        } else {
+            this.cacheableDefinitions = new LinkedHashSet<>();
+            this.cacheableReferences = new IdentityHashMap<>();
+        }
     }
 
     @Override
@@ -94,8 +174,60 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return definition key identifying the given entry point
      */
     public DefinitionKey parseType(ResolvedType type) {
+        DefinitionKey mainKey = this.keyTable.getKey(this.keyTable.intern(type, null));
+        this.traversal.switchCurrentDefinition(mainKey);
         this.traverseGenericType(type, null, false);
-        return new DefinitionKey(type, null);
+        this.traversal.populatePendingDefinitions();
+        if (this.traversal.isIterative()) {
+            Set<DefinitionKey> sortedKeys = this.traversal.sortInTraversalOrder(mainKey, this.definedKeys);
+            this.definedKeys.clear();
+            this.definedKeys.addAll(sortedKeys);
+        }
+        if (this.definitionCache != null && !this.traversal.isDegraded()) {
+            // incomplete definitions must not be re-used
+            this.definitionCache.store(this);
+        }
+        return mainKey;
+    }
+
+    /**
+     * Parse the given (possibly generic) type and populate only its own definition. The definitions of all types being referenced from it are merely
+     * registered, in order to be populated on demand via {@link #resumeTraversal(DefinitionKey)}. This is intended to be used only once, for the
+     * schema's main target type and instead of {@link #parseType(ResolvedType)}.
+     * <br>
+     * The definitions populated this way are not being added to the definition cache (if there is one).
+     *
+     * @param type (possibly generic) type to analyse and populate this context with
+     * @return definition key identifying the given entry point
+     */
+    public DefinitionKey parseTypeLazily(ResolvedType type) {
+        this.traversal.switchToIterativeMode();
+        DefinitionKey mainKey = this.keyTable.getKey(this.keyTable.intern(type, null));
+        this.traversal.switchCurrentDefinition(mainKey);
+        this.traverseGenericType(type, null, false);
+        this.traversal.populatePendingDefinition(mainKey);
+        return mainKey;
+    }
+
+    /**
+     * Populate the given definition, if it was registered but not populated yet after {@link #parseTypeLazily(ResolvedType)}.
+     *
+     * @param key definition to populate
+     * @return whether the definition was populated now
+     */
+    public boolean resumeTraversal(DefinitionKey key) {
+        return this.traversal.populatePendingDefinition(key);
+    }
+
+    /**
+     * Look-up the definitions being referenced from within the given definition. This is only supported after
+     * {@link #parseTypeLazily(ResolvedType)} or if the {@link com.github.victools.jsonschema.generator.Option#ITERATIVE_TYPE_TRAVERSAL} is enabled.
+     *
+     * @param key (populated) definition to look-up referenced definitions for
+     * @return referenced definitions in the order in which they were encountered
+     */
+    public Set<DefinitionKey> getReferencedDefinitions(DefinitionKey key) {
+        return this.traversal.getEncounteredReferences(key);
     }
 
     /**
@@ -108,10 +240,43 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     SchemaGenerationContextImpl putDefinition(ResolvedType javaType, ObjectNode definitionNode,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        this.definitions.put(new DefinitionKey(javaType, ignoredDefinitionProvider), definitionNode);
+        int id = this.keyTable.intern(javaType, ignoredDefinitionProvider);
+        DefinitionEntry entry = this.getOrCreateEntry(id);
+        if (entry.definition == null) {
+            this.definedKeys.add(this.keyTable.getKey(id));
+        }
+        entry.definition = definitionNode;
         return this;
     }
 
+    /**
+     * Look-up the entry holding the definition and references for the given interned key, creating it if it does not exist yet.
+     *
+     * @param id identifier of the interned definition key
+     * @return entry for the given identifier
+     */
+    private DefinitionEntry getOrCreateEntry(int id) {
+        if (id >= this.entriesById.length) {
+            this.entriesById = Arrays.copyOf(this.entriesById, Math.max(this.entriesById.length * 2, id + 1));
+        }
+        DefinitionEntry entry = this.entriesById[id];
+        if (entry == null) {
+            entry = new DefinitionEntry();
+            this.entriesById[id] = entry;
+        }
+        return entry;
+    }
+
+    /**
+     * Look-up the entry holding the definition and references for the given interned key.
+     *
+     * @param id identifier of the interned definition key (may be -1)
+     * @return entry for the given identifier (or null if there is none)
+     */
+    private DefinitionEntry getEntry(int id) {
+        return id == -1 || id >= this.entriesById.length ? null : this.entriesById[id];
+    }
+
     /**
      * Whether this context (already) contains a definition for the specified type, considering custom definition providers after the specified one.
      *
@@ -120,7 +285,18 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return whether a definition for the given type is already present
      */
     public boolean containsDefinition(ResolvedType javaType, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        return this.definitions.containsKey(new DefinitionKey(javaType, ignoredDefinitionProvider));
+        DefinitionEntry entry = this.getEntry(this.keyTable.find(javaType, ignoredDefinitionProvider));
+        return entry != null && entry.definition != null;
+    }
+
+    /**
+     * Whether this context (already) contains a definition for the given key.
+     *
+     * @param key definition key to check for
+     * @return whether a definition for the given key is already present
+     */
+    private boolean containsDefinition(DefinitionKey key) {
+        return this.getDefinition(key) != null;
     }
 
     /**
@@ -131,7 +307,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @see #putDefinition(ResolvedType, ObjectNode, CustomDefinitionProviderV2)
      */
     public ObjectNode getDefinition(DefinitionKey key) {
-        return this.definitions.get(key);
+        DefinitionEntry entry = this.getEntry(this.keyTable.find(key));
+        return entry == null ? null : entry.definition;
     }
 
     /**
@@ -140,7 +317,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return types for which a definition is present
      */
     public Set<DefinitionKey> getDefinedTypes() {
-        return Collections.unmodifiableSet(this.definitions.keySet());
+        return Collections.unmodifiableSet(this.definedKeys);
     }
 
     /**
@@ -154,17 +331,116 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     SchemaGenerationContextImpl addReference(ResolvedType javaType, ObjectNode referencingNode,
             CustomDefinitionProviderV2 ignoredDefinitionProvider, boolean isNullable) {
-        Map<DefinitionKey, List<ObjectNode>> targetMap = isNullable ? this.nullableReferences : this.references;
-        DefinitionKey key = new DefinitionKey(javaType, ignoredDefinitionProvider);
-        List<ObjectNode> valueList = targetMap.get(key);
-        if (valueList == null) {
-            valueList = new ArrayList<>();
-            targetMap.put(key, valueList);
-        }
-        valueList.add(referencingNode);
+        int id = this.keyTable.intern(javaType, ignoredDefinitionProvider);
+        DefinitionKey key = this.keyTable.getKey(id);
+        DefinitionEntry entry = this.getOrCreateEntry(id);
+        if (isNullable) {
+            entry.nullableReferences = DefinitionEntry.append(entry.nullableReferences, referencingNode);
+        } else {
+            entry.references = DefinitionEntry.append(entry.references, referencingNode);
+        }
+        this.addedReferenceCount++;
+        this.traversal.recordReference(key);
+        if (this.cacheableReferences != null) {
+            this.cacheableReferences.put(referencingNode,
+                    new DefinitionCache.CachedReference(key, isNullable, this.cacheableReferences.size()));
+        }
         return this;
     }
 
+    /**
+     * Getter for the definitions that have been generated in this context and may be re-used in subsequent schema generations.
+     *
+     * @return keys of definitions to add to the definition cache (is empty if no definition cache is being used)
+     */
+    Set<DefinitionKey> getCacheableDefinitions() {
+        return this.cacheableDefinitions == null ? Collections.emptySet() : Collections.unmodifiableSet(this.cacheableDefinitions);
+    }
+
+    /**
+     * Getter for all nodes that are meant to hold references to definitions in this context.
+     *
+     * @return nodes representing references (is empty if no definition cache is being used)
+     */
+    Map<JsonNode, DefinitionCache.CachedReference> getCacheableReferences() {
+        return this.cacheableReferences == null ? Collections.emptyMap() : Collections.unmodifiableMap(this.cacheableReferences);
+    }
+
+    /**
+     * Remember the given type's newly generated definition for it to be added to the definition cache at the end (if there is one).
+     *
+     * @param javaType type to which the definition belongs
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @param isContainerType whether the given type is a container/array type
+     * @param customDefinition custom definition applied for the given type (may be null)
+     */
+    private void markDefinitionAsCacheable(ResolvedType javaType, CustomDefinitionProviderV2 ignoredDefinitionProvider, boolean isContainerType,
+            CustomDefinition customDefinition) {
+        // the main schema's array definition is only registered because it is the main schema, it would otherwise be inlined
+        if (this.cacheableDefinitions != null && (!isContainerType || customDefinition != null)) {
+            this.cacheableDefinitions.add(this.keyTable.getKey(this.keyTable.intern(javaType, ignoredDefinitionProvider)));
+        }
+    }
+
+    /**
+     * Add a reference to the given type's definition, if it is already present in this context or in the definition cache (if there is one).
+     *
+     * @param javaType type for which to add a reference
+     * @param targetNode node in the JSON schema that should represent the type
+     * @param isNullable whether the reference may be null
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return whether a reference was added
+     */
+    private boolean addReferenceToExistingDefinition(ResolvedType javaType, ObjectNode targetNode, boolean isNullable,
+            CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        if (this.containsDefinition(javaType, ignoredDefinitionProvider)) {
+            logger.debug("adding reference to existing definition of {}", javaType);
+            this.addReference(javaType, targetNode, ignoredDefinitionProvider, isNullable);
+            return true;
+        }
+        if (this.definitionCache == null) {
+            return false;
+        }
+        DefinitionKey key = this.keyTable.getKey(this.keyTable.intern(javaType, ignoredDefinitionProvider));
+        Map<DefinitionKey, DefinitionCache.CachedDefinition> cachedDefinitions = this.definitionCache.lookUp(key, this::containsDefinition);
+        if (cachedDefinitions == null) {
+            return false;
+        }
+        logger.debug("adding cached definition of {}", javaType);
+        this.addCachedDefinition(key, targetNode, isNullable, cachedDefinitions);
+        return true;
+    }
+
+    /**
+     * Add a copy of the cached definition for the given key to this context, including all the cached definitions referenced from it.
+     *
+     * @param key definition key to add
+     * @param targetNode node in the JSON schema that should represent the type
+     * @param isNullable whether the reference may be null
+     * @param cachedDefinitions cached definitions for the given key and all its (indirectly) referenced definitions
+     */
+    private void addCachedDefinition(DefinitionKey key, ObjectNode targetNode, boolean isNullable,
+            Map<DefinitionKey, DefinitionCache.CachedDefinition> cachedDefinitions) {
+        List<Map.Entry<ObjectNode, DefinitionCache.CachedReference>> nestedReferences = new ArrayList<>();
+        ObjectNode definition = cachedDefinitions.get(key).createCopy(nestedReferences);
+        this.putDefinition(key.getType(), definition, key.getIgnoredDefinitionProvider());
+        if (targetNode != null) {
+            this.addReference(key.getType(), targetNode, key.getIgnoredDefinitionProvider(), isNullable);
+        }
+        // the nested references are made from within the cached definition, not from the one currently being populated
+        DefinitionKey previousDefinition = this.traversal.switchCurrentDefinition(key);
+        for (Map.Entry<ObjectNode, DefinitionCache.CachedReference> nestedReference : nestedReferences) {
+            DefinitionKey nestedKey = nestedReference.getValue().getKey();
+            if (this.containsDefinition(nestedKey)) {
+                this.addReference(nestedKey.getType(), nestedReference.getKey(), nestedKey.getIgnoredDefinitionProvider(),
+                        nestedReference.getValue().isNullable());
+            } else {
+                this.addCachedDefinition(nestedKey, nestedReference.getKey(), nestedReference.getValue().isNullable(), cachedDefinitions);
+            }
+        }
+        this.traversal.switchCurrentDefinition(previousDefinition);
+    }
+
     /**
      * Getter for the nodes representing not-nullable references to the given type.
      *
@@ -172,7 +448,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return not-nullable nodes to be populated with the schema of the given type
      */
     public List<ObjectNode> getReferences(DefinitionKey key) {
-        return Collections.unmodifiableList(this.references.getOrDefault(key, Collections.emptyList()));
+        DefinitionEntry entry = this.getEntry(this.keyTable.find(key));
+        return entry == null || entry.references == null ? Collections.emptyList() : Collections.unmodifiableList(entry.references);
     }
 
     /**
@@ -182,7 +459,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return nullable nodes to be populated with the schema of the given type
      */
     public List<ObjectNode> getNullableReferences(DefinitionKey key) {
-        return Collections.unmodifiableList(this.nullableReferences.getOrDefault(key, Collections.emptyList()));
+        DefinitionEntry entry = this.getEntry(this.keyTable.find(key));
+        return entry == null || entry.nullableReferences == null ? Collections.emptyList() : Collections.unmodifiableList(entry.nullableReferences);
     }
 
     /* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
@@ -200,7 +478,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
 
     @Override
     public ObjectNode createStandardDefinition(ResolvedType targetType, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        ObjectNode definition = this.generatorConfig.createObjectNode();
+        ObjectNode definition = this.createObjectNode();
         TypeScope scope = this.typeContext.createTypeScope(targetType);
         this.traverseGenericType(scope, definition, false, true, ignoredDefinitionProvider);
         return definition;
@@ -208,7 +486,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
 
     @Override
     public ObjectNode createStandardDefinitionReference(ResolvedType targetType, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        ObjectNode definition = this.generatorConfig.createObjectNode();
+        ObjectNode definition = this.createObjectNode();
         TypeScope scope = this.typeContext.createTypeScope(targetType);
         this.traverseGenericType(scope, definition, false, false, ignoredDefinitionProvider);
         return definition;
@@ -250,20 +528,20 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
     private void traverseGenericType(TypeScope scope, ObjectNode targetNode, boolean isNullable, boolean forceInlineDefinition,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
         ResolvedType targetType = scope.getType();
-        if (!forceInlineDefinition && this.containsDefinition(targetType, ignoredDefinitionProvider)) {
-            logger.debug("adding reference to existing definition of {}", targetType);
-            this.addReference(targetType, targetNode, ignoredDefinitionProvider, isNullable);
+        if (!forceInlineDefinition && this.addReferenceToExistingDefinition(targetType, targetNode, isNullable, ignoredDefinitionProvider)) {
             // nothing more to be done
             return;
         }
-        final ObjectNode definition;
-        final boolean includeTypeAttributes;
+        long lookUpStart = this.metrics.start();
         final CustomDefinition customDefinition = this.generatorConfig.getCustomDefinition(targetType, this, ignoredDefinitionProvider);
+        this.metrics.complete(GenerationPhase.CUSTOM_DEFINITION_LOOKUP, lookUpStart, customDefinition == null ? 0 : 1);
         if (customDefinition != null && (customDefinition.isMeantToBeInline() || forceInlineDefinition)) {
-            includeTypeAttributes = customDefinition.shouldIncludeAttributes();
+            final ObjectNode definition;
             if (targetNode == null) {
                 logger.debug("storing configured custom inline type for {} as definition (since it is the main schema \"#\")", targetType);
-                definition = customDefinition.getValue();
+                // the custom definition may be a shared instance, that must not be modified (e.g. by the type attributes below)
+                definition = this.createObjectNode();
+                definition.setAll(customDefinition.getValue());
                 this.putDefinition(targetType, definition, ignoredDefinitionProvider);
                 // targetNode will be populated at the end, in buildDefinitionsAndResolveReferences()
             } else {
@@ -274,35 +552,88 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
             if (isNullable) {
                 this.makeNullable(definition);
             }
+            this.applyTypeAttributes(scope, definition, customDefinition.shouldIncludeAttributes());
         } else {
             boolean isContainerType = this.typeContext.isContainerType(targetType);
             if (forceInlineDefinition || isContainerType && targetNode != null && customDefinition == null) {
                 // always inline array types
-                definition = targetNode;
+                this.populateDefinition(scope, targetNode, isNullable, customDefinition, isContainerType);
+            } else if (targetNode != null && !this.traversal.mayAddDefinition(targetType, this.definedKeys.size())) {
+                logger.debug("budget exhausted, representing {} by an empty schema", targetType);
             } else {
-                definition = this.generatorConfig.createObjectNode();
+                ObjectNode definition = this.createObjectNode();
                 this.putDefinition(targetType, definition, ignoredDefinitionProvider);
+                this.markDefinitionAsCacheable(targetType, ignoredDefinitionProvider, isContainerType, customDefinition);
                 if (targetNode != null) {
                     // targetNode is only null for the main class for which the schema is being generated
                     this.addReference(targetType, targetNode, ignoredDefinitionProvider, isNullable);
                 }
-            }
-            if (customDefinition != null) {
-                logger.debug("applying configured custom definition for {}", targetType);
-                definition.setAll(customDefinition.getValue());
-                includeTypeAttributes = customDefinition.shouldIncludeAttributes();
-            } else if (isContainerType) {
-                logger.debug("generating array definition for {}", targetType);
-                this.generateArrayDefinition(scope, definition, isNullable);
-                includeTypeAttributes = true;
-            } else {
-                logger.debug("generating definition for {}", targetType);
-                includeTypeAttributes = !this.addSubtypeReferencesInDefinition(targetType, definition);
+                this.scheduleDefinitionPopulation(this.keyTable.getKey(this.keyTable.intern(targetType, ignoredDefinitionProvider)),
+                        () -> this.populateDefinition(scope, definition, isNullable, customDefinition, isContainerType));
             }
         }
+    }
+
+    /**
+     * Populate the given definition (either right away or via the work queue in case of an iterative traversal).
+     *
+     * @param key definition to be populated
+     * @param population action populating the definition
+     */
+    private void scheduleDefinitionPopulation(DefinitionKey key, Runnable population) {
+        if (this.lenientTraversalDepth > 0 && this.traversal.isIterative()) {
+            // when traversing recursively, an error during the population is being caught in populateMemberSchema() - same behaviour is expected here
+            this.traversal.schedule(key, () -> {
+                try {
+                    population.run();
+                } catch (UnsupportedOperationException ex) {
+                    logger.warn("Skipping type definition due to error", ex);
+                }
+            });
+        } else {
+            this.traversal.schedule(key, population);
+        }
+    }
+
+    /**
+     * Populate the given definition for the targeted type, unless a custom inline definition applies.
+     *
+     * @param scope targeted scope to add
+     * @param definition node in the JSON schema to which all collected attributes should be added
+     * @param isNullable whether the field/method's return value is allowed to be null in the declaringType in this particular scenario
+     * @param customDefinition custom definition applied for the given type (may be null)
+     * @param isContainerType whether the targeted type is a container/array type
+     */
+    private void populateDefinition(TypeScope scope, ObjectNode definition, boolean isNullable, CustomDefinition customDefinition,
+            boolean isContainerType) {
+        ResolvedType targetType = scope.getType();
+        final boolean includeTypeAttributes;
+        if (customDefinition != null) {
+            logger.debug("applying configured custom definition for {}", targetType);
+            definition.setAll(customDefinition.getValue());
+            includeTypeAttributes = customDefinition.shouldIncludeAttributes();
+        } else if (isContainerType) {
+            logger.debug("generating array definition for {}", targetType);
+            this.generateArrayDefinition(scope, definition, isNullable);
+            includeTypeAttributes = true;
+        } else {
+            logger.debug("generating definition for {}", targetType);
+            includeTypeAttributes = !this.addSubtypeReferencesInDefinition(targetType, definition);
+        }
+        this.applyTypeAttributes(scope, definition, includeTypeAttributes);
+    }
+
+    /**
+     * Add the collected type attributes to the given definition and apply the configured type attribute overrides.
+     *
+     * @param scope targeted scope the definition represents
+     * @param definition node in the JSON schema to which all collected attributes should be added
+     * @param includeTypeAttributes whether the collected type attributes should be added (the overrides are being applied regardless)
+     */
+    private void applyTypeAttributes(TypeScope scope, ObjectNode definition, boolean includeTypeAttributes) {
         if (includeTypeAttributes) {
             Set<String> allowedSchemaTypes = this.collectAllowedSchemaTypes(definition);
-            ObjectNode typeAttributes = AttributeCollector.collectTypeAttributes(scope, this, allowedSchemaTypes);
+            ObjectNode typeAttributes = this.collectTypeAttributes(scope, allowedSchemaTypes);
             // ensure no existing attributes in the 'definition' are replaced, by way of first overriding any conflicts the other way around
             typeAttributes.setAll(definition);
             // apply merged attributes
@@ -313,6 +644,49 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
                 .forEach(override -> override.overrideTypeAttributes(definition, scope, this.generatorConfig));
     }
 
+    /**
+     * Collect the given scope's general type attributes, or look them up in the type attribute cache (if there is one). As the configured resolvers
+     * may consider the field/method through which a type is being referenced, the cache is only used for plain type scopes.
+     *
+     * @param scope the scope/type representation for which to collect JSON schema attributes
+     * @param allowedSchemaTypes declared schema types determining which attributes are meaningful to be included
+     * @return node holding all collected attributes (possibly empty)
+     * @see AttributeCollector#collectTypeAttributes(TypeScope, SchemaGenerationContext, Set)
+     */
+    private ObjectNode collectTypeAttributes(TypeScope scope, Set<String> allowedSchemaTypes) {
+        long collectionStart = this.metrics.start();
+        ObjectNode typeAttributes;
+        if (this.typeAttributeCache == null || scope instanceof MemberScope<?, ?>) {
+            typeAttributes = AttributeCollector.collectTypeAttributes(scope, this, allowedSchemaTypes);
+        } else {
+            typeAttributes = this.collectTypeAttributesViaCache(scope, allowedSchemaTypes);
+        }
+        this.metrics.complete(GenerationPhase.ATTRIBUTE_COLLECTION, collectionStart, typeAttributes.size());
+        return typeAttributes;
+    }
+
+    /**
+     * Look-up the given scope's general type attributes in the type attribute cache, or collect and remember them (if possible).
+     *
+     * @param scope the scope/type representation for which to collect JSON schema attributes
+     * @param allowedSchemaTypes declared schema types determining which attributes are meaningful to be included
+     * @return node holding all collected attributes (possibly empty)
+     */
+    private ObjectNode collectTypeAttributesViaCache(TypeScope scope, Set<String> allowedSchemaTypes) {
+        ObjectNode typeAttributes = this.typeAttributeCache.getCopy(scope.getType(), allowedSchemaTypes);
+        if (typeAttributes == null) {
+            int referenceCountBefore = this.addedReferenceCount;
+            int definitionCountBefore = this.definedKeys.size();
+            typeAttributes = AttributeCollector.collectTypeAttributes(scope, this, allowedSchemaTypes);
+            if (referenceCountBefore == this.addedReferenceCount && definitionCountBefore == this.definedKeys.size()
+                    && !this.traversal.isDegraded()) {
+                // attributes referring to other definitions (e.g. "additionalProperties" with a specific type) cannot be shared
+                this.typeAttributeCache.putCopy(scope.getType(), allowedSchemaTypes, typeAttributes);
+            }
+        }
+        return typeAttributes;
+    }
+
     /**
      * Check for any defined subtypes of the targeted java type to produce a definition for. If there are any configured subtypes, reference those
      * from within the definition being generated.
@@ -387,7 +761,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
             }
             definition.set(this.getKeyword(SchemaKeyword.TAG_ITEMS), fakeItemDefinition.values().iterator().next());
         } else {
-            ObjectNode arrayItemTypeRef = this.generatorConfig.createObjectNode();
+            ObjectNode arrayItemTypeRef = this.createObjectNode();
             definition.set(this.getKeyword(SchemaKeyword.TAG_ITEMS), arrayItemTypeRef);
             this.traverseGenericType(targetScope.getContainerItemType(), arrayItemTypeRef, false);
         }
@@ -409,7 +783,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         this.collectObjectProperties(targetType, targetFields, targetMethods, requiredProperties);
 
         if (!targetFields.isEmpty() || !targetMethods.isEmpty()) {
-            ObjectNode propertiesNode = this.generatorConfig.createObjectNode();
+            ObjectNode propertiesNode = this.createObjectNode();
             propertiesNode.setAll(targetFields);
             propertiesNode.setAll(targetMethods);
             definition.set(this.getKeyword(SchemaKeyword.TAG_PROPERTIES), propertiesNode);
@@ -433,7 +807,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
     private void collectObjectProperties(ResolvedType targetType, Map<String, JsonNode> targetFields, Map<String, JsonNode> targetMethods,
             Set<String> requiredProperties) {
         logger.debug("collecting non-static fields and methods from {}", targetType);
-        final ResolvedTypeWithMembers targetTypeWithMembers = this.typeContext.resolveWithMembers(targetType);
+        final ResolvedTypeWithMembers targetTypeWithMembers = this.resolveWithMembers(targetType);
         // member fields and methods are being collected from the targeted type as well as its super types
         this.populateFields(targetTypeWithMembers, ResolvedTypeWithMembers::getMemberFields, targetFields, requiredProperties);
         this.populateMethods(targetTypeWithMembers, ResolvedTypeWithMembers::getMemberMethods, targetMethods, requiredProperties);
@@ -455,7 +829,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
                     // avoid looking up the main type again
                     hierarchyTypeMembers = targetTypeWithMembers;
                 } else {
-                    hierarchyTypeMembers = this.typeContext.resolveWithMembers(hierachyType);
+                    hierarchyTypeMembers = this.resolveWithMembers(hierachyType);
                 }
                 if (includeStaticFields) {
                     this.populateFields(hierarchyTypeMembers, ResolvedTypeWithMembers::getStaticFields, targetFields, requiredProperties);
@@ -467,6 +841,23 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         }
     }
 
+    /**
+     * Collect the fields and methods of the given type via the type context.
+     *
+     * @param type type to collect the members of
+     * @return type with its members
+     * @see TypeContext#resolveWithMembers(ResolvedType)
+     */
+    private ResolvedTypeWithMembers resolveWithMembers(ResolvedType type) {
+        long collectionStart = this.metrics.start();
+        ResolvedTypeWithMembers typeWithMembers = this.typeContext.resolveWithMembers(type);
+        if (this.metrics.isEnabled()) {
+            this.metrics.complete(GenerationPhase.MEMBER_COLLECTION, collectionStart,
+                    typeWithMembers.getMemberFields().length + typeWithMembers.getMemberMethods().length);
+        }
+        return typeWithMembers;
+    }
+
     /**
      * Preparation Step: add the designated fields to the specified {@link Map}.
      *
@@ -542,7 +933,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         if (fieldOptions.size() == 1) {
             collectedFields.put(propertyName, this.createFieldSchema(fieldOptions.get(0), isNullable, null));
         } else {
-            ObjectNode subSchema = this.generatorConfig.createObjectNode();
+            ObjectNode subSchema = this.createObjectNode();
             collectedFields.put(propertyName, subSchema);
             ArrayNode anyOfArray = subSchema.withArray(this.getKeyword(SchemaKeyword.TAG_ANYOF));
             if (isNullable) {
@@ -563,8 +954,10 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     private ObjectNode createFieldSchema(FieldScope field, boolean isNullable,
             CustomPropertyDefinitionProvider<FieldScope> ignoredDefinitionProvider) {
-        ObjectNode subSchema = this.generatorConfig.createObjectNode();
+        ObjectNode subSchema = this.createObjectNode();
+        long collectionStart = this.metrics.start();
         ObjectNode fieldAttributes = AttributeCollector.collectFieldAttributes(field, this);
+        this.metrics.complete(GenerationPhase.ATTRIBUTE_COLLECTION, collectionStart, fieldAttributes.size());
         this.populateMemberSchema(field, subSchema, isNullable, fieldAttributes, ignoredDefinitionProvider);
         return subSchema;
     }
@@ -613,12 +1006,12 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         if (methodOptions.size() == 1) {
             collectedMethods.put(propertyName, this.createMethodSchema(methodOptions.get(0), isNullable, null));
         } else {
-            ObjectNode subSchema = this.generatorConfig.createObjectNode();
+            ObjectNode subSchema = this.createObjectNode();
             collectedMethods.put(propertyName, subSchema);
             ArrayNode anyOfArray = subSchema.withArray(this.getKeyword(SchemaKeyword.TAG_ANYOF));
             if (isNullable) {
-                anyOfArray.add(this.generatorConfig.createObjectNode()
-                        .put(this.getKeyword(SchemaKeyword.TAG_TYPE), this.getKeyword(SchemaKeyword.TAG_TYPE_NULL)));
+                anyOfArray.addObject()
+                        .put(this.getKeyword(SchemaKeyword.TAG_TYPE), this.getKeyword(SchemaKeyword.TAG_TYPE_NULL));
             }
             methodOptions.forEach(option -> anyOfArray.add(this.createMethodSchema(option, false, null)));
         }
@@ -637,8 +1030,10 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         if (method.isVoid()) {
             return BooleanNode.FALSE;
         }
-        ObjectNode subSchema = this.generatorConfig.createObjectNode();
+        ObjectNode subSchema = this.createObjectNode();
+        long collectionStart = this.metrics.start();
         ObjectNode methodAttributes = AttributeCollector.collectMethodAttributes(method, this);
+        this.metrics.complete(GenerationPhase.ATTRIBUTE_COLLECTION, collectionStart, methodAttributes.size());
         this.populateMemberSchema(method, subSchema, isNullable, methodAttributes, ignoredDefinitionProvider);
         return subSchema;
     }
@@ -657,7 +1052,9 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     private <M extends MemberScope<?, ?>> void populateMemberSchema(M scope, ObjectNode targetNode, boolean isNullable,
             ObjectNode collectedAttributes, CustomPropertyDefinitionProvider<M> ignoredDefinitionProvider) {
+        long lookUpStart = this.metrics.start();
         final CustomDefinition customDefinition = this.generatorConfig.getCustomDefinition(scope, this, ignoredDefinitionProvider);
+        this.metrics.complete(GenerationPhase.CUSTOM_DEFINITION_LOOKUP, lookUpStart, customDefinition == null ? 0 : 1);
         if (customDefinition != null && customDefinition.isMeantToBeInline()) {
             targetNode.setAll(customDefinition.getValue());
             if (customDefinition.shouldIncludeAttributes()) {
@@ -665,7 +1062,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
                     targetNode.setAll(collectedAttributes);
                 }
                 Set<String> allowedSchemaTypes = this.collectAllowedSchemaTypes(targetNode);
-                ObjectNode typeAttributes = AttributeCollector.collectTypeAttributes(scope, this, allowedSchemaTypes);
+                ObjectNode typeAttributes = this.collectTypeAttributes(scope, allowedSchemaTypes);
                 // ensure no existing attributes in the 'definition' are replaced, by way of first overriding any conflicts the other way around
                 typeAttributes.setAll(targetNode);
                 // apply merged attributes
@@ -688,16 +1085,19 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
             } else {
                 // avoid mixing potential "$ref" element with contextual attributes by introducing an "allOf" wrapper
                 // this is only relevant for DRAFT_7 and is being cleaned-up afterwards for newer DRAFT versions
-                referenceContainer = this.generatorConfig.createObjectNode();
+                referenceContainer = this.createObjectNode();
                 targetNode.set(this.getKeyword(SchemaKeyword.TAG_ALLOF), this.generatorConfig.createArrayNode()
                         .add(referenceContainer)
                         .add(collectedAttributes));
             }
             // only add reference for separate definition if it is not a fixed type that should be in-lined
+            this.lenientTraversalDepth++;
             try {
                 this.traverseGenericType(scope, referenceContainer, isNullable, false, null);
             } catch (UnsupportedOperationException ex) {
                 logger.warn("Skipping type definition due to error", ex);
+            } finally {
+                this.lenientTraversalDepth--;
             }
         }
     }
@@ -709,13 +1109,13 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
                 || node.has(this.getKeyword(SchemaKeyword.TAG_ANYOF))
                 || node.has(this.getKeyword(SchemaKeyword.TAG_ONEOF))) {
             // cannot be sure what is specified in those other schema parts, instead simply create a oneOf wrapper
-            ObjectNode nullSchema = this.generatorConfig.createObjectNode()
+            ObjectNode nullSchema = this.createObjectNode()
                     .put(this.getKeyword(SchemaKeyword.TAG_TYPE), this.getKeyword(SchemaKeyword.TAG_TYPE_NULL));
             ArrayNode anyOf = this.generatorConfig.createArrayNode()
                     // one option in the oneOf should be null
                     .add(nullSchema)
                     // the other option is the given (assumed to be) not-nullable node
-                    .add(this.generatorConfig.createObjectNode().setAll(node));
+                    .add(this.createObjectNode().setAll(node));
             // replace all existing (and already copied properties with the oneOf wrapper
             node.removeAll();
             node.set(this.getKeyword(SchemaKeyword.TAG_ANYOF), anyOf);
@@ -747,8 +1147,41 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         return node;
     }
 
+    /**
+     * Create a new object node for a (sub) schema and count it against the budget of this schema generation.
+     *
+     * @return new object node
+     */
+    private ObjectNode createObjectNode() {
+        this.traversal.countNode();
+        return this.generatorConfig.createObjectNode();
+    }
+
     @Override
     public String getKeyword(SchemaKeyword keyword) {
         return this.generatorConfig.getKeyword(keyword);
     }
+
+    /**
+     * Definition and references collected for a single interned {@link DefinitionKey}.
+     */
+    private static final class DefinitionEntry {
+
+        ObjectNode definition;
+        List<ObjectNode> references;
+        List<ObjectNode> nullableReferences;
+
+        /**
+         * Add the given node to the given list, creating the list if it does not exist yet.
+         *
+         * @param list list to add to (may be null)
+         * @param node reference node to add
+         * @return list containing the given node
+         */
+        static List<ObjectNode> append(List<ObjectNode> list, ObjectNode node) {
+            List<ObjectNode> result = list == null ? new ArrayList<>() : list;
+            result.add(node);
+            return result;
+        }
+    }
 }
@@ -20,11 +20,13 @@ import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.AnnotationDependent;
 import com.github.victools.jsonschema.generator.CustomDefinition;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.CustomPropertyDefinition;
 import com.github.victools.jsonschema.generator.CustomPropertyDefinitionProvider;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.GenerationMetricsListener;
 import com.github.victools.jsonschema.generator.InstanceAttributeOverride;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
@@ -35,6 +37,8 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.SubtypeResolver;
+import com.github.victools.jsonschema.generator.TraversalProgressListener;
 import com.github.victools.jsonschema.generator.TypeAttributeOverride;
 import com.github.victools.jsonschema.generator.TypeScope;
 import java.lang.reflect.Type;
@@ -43,7 +47,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -58,6 +61,7 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
     private final SchemaGeneratorGeneralConfigPart typesInGeneralConfigPart;
     private final SchemaGeneratorConfigPart<FieldScope> fieldConfigPart;
     private final SchemaGeneratorConfigPart<MethodScope> methodConfigPart;
+    private volatile GenerationMetricsListener generationMetricsListener;
 
     /**
      * Constructor of a configuration instance.
@@ -113,6 +117,21 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         return this.isOptionEnabled(Option.ALLOF_CLEANUP_AT_THE_END);
     }
 
+    @Override
+    public boolean shouldDeduplicateDefinitions() {
+        return this.isOptionEnabled(Option.DEFINITION_DEDUPLICATION_AT_THE_END);
+    }
+
+    @Override
+    public boolean shouldTraverseIteratively() {
+        return this.isOptionEnabled(Option.ITERATIVE_TYPE_TRAVERSAL);
+    }
+
+    @Override
+    public boolean shouldCacheTypeAttributes() {
+        return this.isOptionEnabled(Option.CACHED_TYPE_ATTRIBUTES);
+    }
+
     @Override
     public boolean shouldIncludeStaticFields() {
         return this.isOptionEnabled(Option.PUBLIC_STATIC_FIELDS) || this.isOptionEnabled(Option.NONPUBLIC_STATIC_FIELDS);
@@ -179,13 +198,13 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         final List<CustomPropertyDefinitionProvider<M>> providers = configPart.getCustomDefinitionProviders();
         CustomPropertyDefinition result;
         if (ignoredDefinitionProvider == null || providers.contains(ignoredDefinitionProvider)) {
-            int firstRelevantProviderIndex = 1 + providers.indexOf(ignoredDefinitionProvider);
-            result = providers.subList(firstRelevantProviderIndex, providers.size())
-                    .stream()
-                    .map(provider -> provider.provideCustomSchemaDefinition(scope, context))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+            result = null;
+            for (int index = 1 + providers.indexOf(ignoredDefinitionProvider), size = providers.size(); result == null && index < size; index++) {
+                CustomPropertyDefinitionProvider<M> provider = providers.get(index);
+                if (!(provider instanceof AnnotationDependent) || ((AnnotationDependent) provider).isApplicableTo(scope)) {
+                    result = provider.provideCustomSchemaDefinition(scope, context);
+                }
+            }
         } else {
             result = null;
         }
@@ -196,22 +215,26 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
     public CustomDefinition getCustomDefinition(ResolvedType javaType, SchemaGenerationContext context,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
         final List<CustomDefinitionProviderV2> providers = this.typesInGeneralConfigPart.getCustomDefinitionProviders();
-        int firstRelevantProviderIndex = 1 + providers.indexOf(ignoredDefinitionProvider);
-        return providers.subList(firstRelevantProviderIndex, providers.size())
-                .stream()
-                .map(provider -> provider.provideCustomSchemaDefinition(javaType, context))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+        int firstRelevantProviderIndex = ignoredDefinitionProvider == null ? 0 : 1 + providers.indexOf(ignoredDefinitionProvider);
+        for (int index = firstRelevantProviderIndex, size = providers.size(); index < size; index++) {
+            CustomDefinition result = providers.get(index).provideCustomSchemaDefinition(javaType, context);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
     }
 
     @Override
     public List<ResolvedType> resolveSubtypes(ResolvedType javaType, SchemaGenerationContext context) {
-        return this.typesInGeneralConfigPart.getSubtypeResolvers().stream()
-                .map(resolver -> resolver.findSubtypes(javaType, context))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElseGet(Collections::emptyList);
+        final List<SubtypeResolver> resolvers = this.typesInGeneralConfigPart.getSubtypeResolvers();
+        for (int index = 0, size = resolvers.size(); index < size; index++) {
+            List<ResolvedType> subtypes = resolvers.get(index).findSubtypes(javaType, context);
+            if (subtypes != null) {
+                return subtypes;
+            }
+        }
+        return Collections.emptyList();
     }
 
     @Override
@@ -219,6 +242,42 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         return this.typesInGeneralConfigPart.getTypeAttributeOverrides();
     }
 
+    @Override
+    public List<TraversalProgressListener> getTraversalProgressListeners() {
+        return this.typesInGeneralConfigPart.getTraversalProgressListeners();
+    }
+
+    @Override
+    public GenerationMetricsListener getGenerationMetricsListener() {
+        GenerationMetricsListener listener = this.generationMetricsListener;
+        if (listener == null) {
+            // combining the registered listeners only once, instead of on each invocation
+            listener = this.combineGenerationMetricsListeners();
+            this.generationMetricsListener = listener;
+        }
+        return listener;
+    }
+
+    /**
+     * Combine all registered metrics listeners into one.
+     *
+     * @return single listener delegating to all registered ones (or {@link GenerationMetricsListener#NO_OP} if there is none)
+     */
+    private GenerationMetricsListener combineGenerationMetricsListeners() {
+        List<GenerationMetricsListener> listeners = this.typesInGeneralConfigPart.getGenerationMetricsListeners();
+        if (listeners.isEmpty()) {
+            return GenerationMetricsListener.NO_OP;
+        }
+        if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        return (phase, durationNanos, count) -> {
+            for (int index = 0; index < listeners.size(); index++) {
+                listeners.get(index).onPhaseCompleted(phase, durationNanos, count);
+            }
+        };
+    }
+
     @Override
     public List<InstanceAttributeOverride<FieldScope>> getFieldAttributeOverrides() {
         return this.fieldConfigPart.getInstanceAttributeOverrides();
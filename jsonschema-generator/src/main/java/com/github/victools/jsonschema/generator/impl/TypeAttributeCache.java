@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collection of the general attributes of types (i.e. the ones collected via the resolvers configured for types in general), that can be shared
+ * across multiple schema generations of the same {@link com.github.victools.jsonschema.generator.SchemaGenerator SchemaGenerator} instance.
+ * <br>
+ * Each entry holds a private copy of the attributes for a single combination of type and allowed schema types (as only the attributes meaningful
+ * for those schema types are being collected). As a {@link com.github.victools.jsonschema.generator.SchemaGeneratorConfig SchemaGeneratorConfig}
+ * cannot be changed after it has been built, the entries never need to be invalidated: a different configuration requires a new generator and
+ * thereby a new cache.
+ * <br>
+ * Only the attributes collected for a plain type scope are being cached, but not those collected for a type in the context of a field/method.
+ * <br>
+ * This may be used by multiple concurrent schema generations.
+ */
+public class TypeAttributeCache {
+
+    private final Map<AttributesKey, ObjectNode> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Getter for the number of type attribute sets currently held in this cache.
+     *
+     * @return number of cached entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Getter for the number of type attribute sets that have been taken from this cache instead of being collected.
+     *
+     * @return number of cache hits
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Getter for the number of type attribute sets that had to be collected, because they could not be taken from this cache.
+     *
+     * @return number of cache misses
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Remove all cached type attributes. The hit/miss counters remain unchanged.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Look-up a copy of the cached attributes for the given type and allowed schema types.
+     *
+     * @param type targeted type
+     * @param allowedSchemaTypes declared schema types determining which attributes are meaningful to be included
+     * @return copy of the cached attributes (or null if there are none)
+     */
+    ObjectNode getCopy(ResolvedType type, Set<String> allowedSchemaTypes) {
+        ObjectNode attributes = this.entries.get(new AttributesKey(type, allowedSchemaTypes));
+        if (attributes == null) {
+            this.missCount.incrementAndGet();
+            return null;
+        }
+        this.hitCount.incrementAndGet();
+        return attributes.deepCopy();
+    }
+
+    /**
+     * Remember a copy of the given attributes for the given type and allowed schema types.
+     *
+     * @param type targeted type
+     * @param allowedSchemaTypes declared schema types determining which attributes are meaningful to be included
+     * @param attributes collected attributes (not containing any references to other definitions)
+     */
+    void putCopy(ResolvedType type, Set<String> allowedSchemaTypes, ObjectNode attributes) {
+        this.entries.putIfAbsent(new AttributesKey(type, Collections.unmodifiableSet(new HashSet<>(allowedSchemaTypes))), attributes.deepCopy());
+    }
+
+    /**
+     * Identifier of a single entry, consisting of the targeted type and the allowed schema types.
+     */
+    private static final class AttributesKey {
+
+        private final ResolvedType type;
+        private final Set<String> allowedSchemaTypes;
+
+        /**
+         * Constructor.
+         *
+         * @param type targeted type
+         * @param allowedSchemaTypes declared schema types determining which attributes are meaningful to be included (must not be modified)
+         */
+        AttributesKey(ResolvedType type, Set<String> allowedSchemaTypes) {
+            this.type = type;
+            this.allowedSchemaTypes = allowedSchemaTypes;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.type.hashCode() * 31 + this.allowedSchemaTypes.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof AttributesKey)) {
+                return false;
+            }
+            AttributesKey otherKey = (AttributesKey) other;
+            return this.type.equals(otherKey.type) && this.allowedSchemaTypes.equals(otherKey.allowedSchemaTypes);
+        }
+    }
+}
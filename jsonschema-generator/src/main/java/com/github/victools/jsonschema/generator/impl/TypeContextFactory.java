@@ -57,4 +57,16 @@ public class TypeContextFactory {
     public static TypeContext createTypeContext(AnnotationConfiguration annotationConfig) {
         return new TypeContext(annotationConfig);
     }
+
+    /**
+     * Create the a {@link TypeContext} with the given {@link AnnotationConfiguration} and a specific size of its cache of resolved fields/methods.
+     *
+     * @param annotationConfig configuration determining which annotations to include during type resolution/introspection
+     * @param membersCacheSize maximum number of types for which to remember the collected fields and methods (zero to disable this cache)
+     * @return created {@link TypeContext} instance
+     * @see TypeContext#resolveWithMembers(com.fasterxml.classmate.ResolvedType)
+     */
+    public static TypeContext createTypeContext(AnnotationConfiguration annotationConfig, int membersCacheSize) {
+        return new TypeContext(annotationConfig, membersCacheSize);
+    }
 }
@@ -44,6 +44,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -233,10 +234,14 @@ public class SimpleTypeModule implements Module {
 
     /**
      * Implementation of the {@link CustomDefinitionProviderV2} interface for applying fixed schema definitions for simple java types.
+     * <br>
+     * As the same few fixed schema definitions are being applied for a large number of fields/methods, each of them is only created once. Every
+     * invocation returns a (cheap) copy of it though, that may be modified freely.
      */
     private class SimpleTypeDefinitionProvider implements CustomDefinitionProviderV2 {
 
         private final ObjectMapper objectMapper;
+        private final Map<SchemaKeyword, ObjectNode> internedSchemas = new ConcurrentHashMap<>();
 
         /**
          * Constructor setting the object mapper to use for creating a custom schema definition for later use.
@@ -256,13 +261,26 @@ public class SimpleTypeModule implements Module {
             if (jsonSchemaTypeValue == null) {
                 return null;
             }
-            // create fixed JSON schema definition, containing only the corresponding "type" attribute
+            ObjectNode internedSchema = this.internedSchemas.computeIfAbsent(jsonSchemaTypeValue,
+                    typeValue -> this.createCustomSchema(typeValue, context));
+            // hand out a separate copy each time, as the generator or other modules may modify it
+            // set true as second parameter to indicate simple types to be always in-lined (i.e. not put into definitions)
+            return new CustomDefinition(internedSchema.deepCopy(), true);
+        }
+
+        /**
+         * Create the fixed JSON schema definition, containing only the corresponding "type" attribute.
+         *
+         * @param jsonSchemaTypeValue "type" attribute value to set or {@link SchemaKeyword#TAG_TYPE_NULL} to indicate empty schema being desired
+         * @param context generation context (for looking up the keywords, which are the same for all schema versions)
+         * @return schema node to be remembered (and never be handed out directly)
+         */
+        private ObjectNode createCustomSchema(SchemaKeyword jsonSchemaTypeValue, SchemaGenerationContext context) {
             ObjectNode customSchema = this.objectMapper.createObjectNode();
             if (jsonSchemaTypeValue != SchemaKeyword.TAG_TYPE_NULL) {
                 customSchema.put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(jsonSchemaTypeValue));
             }
-            // set true as second parameter to indicate simple types to be always in-lined (i.e. not put into definitions)
-            return new CustomDefinition(customSchema, true);
+            return customSchema;
         }
     }
 }
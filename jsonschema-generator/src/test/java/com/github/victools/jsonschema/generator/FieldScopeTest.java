@@ -20,6 +20,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.Collections;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Assert;
@@ -96,6 +98,44 @@ public class FieldScopeTest extends AbstractTypeAwareTest {
         }
     }
 
+    @Test
+    @Parameters({
+        "fieldWithoutGetter, false",
+        "fieldWithPrivateGetter, true",
+        "fieldWithPublicGetter, false",
+        "fieldWithPublicBooleanGetter, true"
+    })
+    public void testGetAnnotationConsideringFieldAndGetter_withOverriddenName(String fieldName, boolean annotationExpectedToBeFound) {
+        FieldScope field = this.getTestClassField(fieldName);
+        FieldScope renamedField = field.withOverriddenName("renamed")
+                .withOverriddenType(this.getContext().getTypeContext().resolve(String.class));
+        TestAnnotation annotation = renamedField.getAnnotationConsideringFieldAndGetter(TestAnnotation.class);
+
+        if (annotationExpectedToBeFound) {
+            Assert.assertNotNull(annotation);
+        } else {
+            Assert.assertNull(annotation);
+        }
+        // the original scope shares the already collected annotations with its copies
+        Assert.assertSame(annotation, field.getAnnotationConsideringFieldAndGetter(TestAnnotation.class));
+    }
+
+    @Test
+    @Parameters({
+        "fieldWithoutGetter, false",
+        "fieldWithPrivateGetter, true",
+        "fieldWithPublicGetter, false",
+        "fieldWithPublicBooleanGetter, true"
+    })
+    public void testHasAnyAnnotationConsideringFieldAndGetter(String fieldName, boolean annotationExpectedToBeFound) {
+        FieldScope field = this.getTestClassField(fieldName);
+
+        Assert.assertEquals(annotationExpectedToBeFound,
+                field.hasAnyAnnotationConsideringFieldAndGetter(Arrays.asList(Deprecated.class, TestAnnotation.class)));
+        Assert.assertFalse(field.hasAnyAnnotationConsideringFieldAndGetter(Collections.singleton(Deprecated.class)));
+        Assert.assertFalse(field.hasAnyAnnotationConsideringFieldAndGetter(Collections.emptySet()));
+    }
+
     private static class TestClass {
 
         private String fieldWithoutGetter;
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link LazySchema} class.
+ */
+public class LazySchemaTest {
+
+    private SchemaGeneratorConfigBuilder configBuilder;
+    private List<Class<?>> populatedTypes;
+
+    @Before
+    public void setUp() {
+        this.populatedTypes = new ArrayList<>();
+        this.configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+        this.configBuilder.forTypesInGeneral()
+                .withTraversalProgressListener((type, populatedCount, pendingCount) -> this.populatedTypes.add(type.getErasedType()));
+    }
+
+    @Test
+    public void testGetRootSchema() {
+        LazySchema lazySchema = new SchemaGenerator(this.configBuilder.build()).generateSchemaLazily(TestCatalogue.class);
+        ObjectNode rootSchema = lazySchema.getRootSchema();
+
+        Assert.assertEquals(Arrays.asList(TestCatalogue.class), this.populatedTypes);
+        Assert.assertEquals(0, lazySchema.getMaterialisedDefinitionCount());
+        Assert.assertEquals(Arrays.asList("TestProduct", "TestCategory"), new ArrayList<>(lazySchema.getKnownDefinitionNames()));
+        Assert.assertEquals("{\"$schema\":\"https://json-schema.org/draft/2019-09/schema\",\"type\":\"object\",\"properties\":{"
+                + "\"featured\":{\"$ref\":\"#/$defs/TestProduct\"},"
+                + "\"root\":{\"$ref\":\"#/$defs/TestCategory\"}}}", rootSchema.toString());
+        Assert.assertSame(rootSchema, lazySchema.getRootSchema());
+        Assert.assertSame(rootSchema, lazySchema.resolveReference("#"));
+    }
+
+    @Test
+    public void testResolveReference() {
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.build());
+        JsonNode eagerSchema = generator.generateSchema(TestCatalogue.class);
+        this.populatedTypes.clear();
+
+        LazySchema lazySchema = generator.generateSchemaLazily(TestCatalogue.class);
+        ObjectNode rootSchema = lazySchema.getRootSchema();
+        ObjectNode productDefinition = lazySchema.resolveReference(rootSchema.get("properties").get("featured").get("$ref").textValue());
+        Assert.assertEquals(Arrays.asList(TestCatalogue.class, TestProduct.class), this.populatedTypes);
+        Assert.assertEquals(1, lazySchema.getMaterialisedDefinitionCount());
+        Assert.assertEquals(eagerSchema.get("$defs").get("TestProduct"), productDefinition);
+        Assert.assertSame(productDefinition, lazySchema.getDefinition("TestProduct"));
+
+        ObjectNode categoryDefinition = lazySchema.getDefinition("TestCategory");
+        Assert.assertEquals(eagerSchema.get("$defs").get("TestCategory"), categoryDefinition);
+        Assert.assertEquals(Arrays.asList(TestCatalogue.class, TestProduct.class, TestCategory.class), this.populatedTypes);
+        Assert.assertEquals(2, lazySchema.getMaterialisedDefinitionCount());
+
+        ObjectNode mainSchemaWithoutDefinitions = eagerSchema.deepCopy();
+        mainSchemaWithoutDefinitions.remove("$defs");
+        Assert.assertEquals(mainSchemaWithoutDefinitions, rootSchema);
+    }
+
+    @Test
+    public void testResolveReference_unknown() {
+        LazySchema lazySchema = new SchemaGenerator(this.configBuilder.build()).generateSchemaLazily(TestCatalogue.class);
+        Assert.assertNull(lazySchema.resolveReference("#/$defs/TestProduct"));
+        Assert.assertNull(lazySchema.resolveReference("#/definitions/TestProduct"));
+        Assert.assertNull(lazySchema.getDefinition("TestUnknown"));
+        // the referenced definitions are only known once the main schema has been accessed
+        lazySchema.getRootSchema();
+        Assert.assertNotNull(lazySchema.resolveReference("#/$defs/TestProduct"));
+    }
+
+    private static class TestCatalogue {
+
+        public TestProduct featured;
+        public TestCategory root;
+    }
+
+    private static class TestCategory {
+
+        public String name;
+        public List<TestCategory> children;
+        public List<TestProduct> products;
+        public TestCatalogue catalogue;
+    }
+
+    private static class TestProduct {
+
+        public String name;
+        public TestCategory category;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import junitparams.naming.TestCaseName;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+/**
+ * Test for {@link SchemaGenerator} class, generating schemas within the limits of a {@link SchemaGenerationBudget}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class SchemaGeneratorBudgetTest {
+
+    private static final String DEGRADED_RESULT = "{\"$schema\":\"https://json-schema.org/draft/2019-09/schema\","
+            + "\"$defs\":{\"TestLevel2\":{\"type\":\"object\",\"properties\":{\"level3\":{}}}},"
+            + "\"type\":\"object\",\"properties\":{\"level2\":{\"$ref\":\"#/$defs/TestLevel2\"},\"name\":{\"type\":\"string\"}}}";
+
+    private static SchemaGenerator createGenerator(boolean iterative) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+        if (iterative) {
+            configBuilder.with(Option.ITERATIVE_TYPE_TRAVERSAL);
+        }
+        return new SchemaGenerator(configBuilder.build());
+    }
+
+    Object parametersForTraversalModes() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_withinBudget(boolean iterative) {
+        SchemaGenerator generator = createGenerator(iterative);
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumDefinitionCount(3)
+                .withMaximumDepth(3)
+                .withTimeout(1, TimeUnit.MINUTES);
+        Assert.assertEquals(generator.generateSchema(TestLevel1.class), generator.generateSchema(budget, TestLevel1.class));
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_definitionCountExceeded(boolean iterative) {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumDefinitionCount(2);
+        try {
+            createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+            Assert.fail("expected SchemaGenerationBudgetExceededException");
+        } catch (SchemaGenerationBudgetExceededException ex) {
+            Assert.assertEquals(SchemaGenerationBudget.Limit.DEFINITION_COUNT, ex.getExceededLimit());
+            Assert.assertSame(TestLevel3.class, ex.getType().getErasedType());
+            Assert.assertTrue(ex.getMessage(), ex.getMessage().contains(TestLevel3.class.getName()));
+        }
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_definitionCountExceededDegrading(boolean iterative) throws Exception {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumDefinitionCount(2)
+                .withExceedingStrategy(SchemaGenerationBudget.ExceedingStrategy.DEGRADE);
+        JsonNode result = createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+        JSONAssert.assertEquals('\n' + result.toString() + '\n', DEGRADED_RESULT, result.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_depthExceededDegrading(boolean iterative) throws Exception {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumDepth(2)
+                .withExceedingStrategy(SchemaGenerationBudget.ExceedingStrategy.DEGRADE);
+        JsonNode result = createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+        JSONAssert.assertEquals('\n' + result.toString() + '\n', DEGRADED_RESULT, result.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_nodeCountExceeded(boolean iterative) {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumNodeCount(1);
+        try {
+            createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+            Assert.fail("expected SchemaGenerationBudgetExceededException");
+        } catch (SchemaGenerationBudgetExceededException ex) {
+            Assert.assertEquals(SchemaGenerationBudget.Limit.NODE_COUNT, ex.getExceededLimit());
+        }
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_timeExceeded(boolean iterative) {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withTimeout(0, TimeUnit.MILLISECONDS);
+        try {
+            createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+            Assert.fail("expected SchemaGenerationBudgetExceededException");
+        } catch (SchemaGenerationBudgetExceededException ex) {
+            Assert.assertEquals(SchemaGenerationBudget.Limit.TIME, ex.getExceededLimit());
+            Assert.assertSame(TestLevel1.class, ex.getType().getErasedType());
+        }
+    }
+
+    @Test
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_timeExceededDegrading(boolean iterative) throws Exception {
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withTimeout(0, TimeUnit.MILLISECONDS)
+                .withExceedingStrategy(SchemaGenerationBudget.ExceedingStrategy.DEGRADE);
+        JsonNode result = createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+        JSONAssert.assertEquals('\n' + result.toString() + '\n', "{\"$schema\":\"https://json-schema.org/draft/2019-09/schema\"}",
+                result.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test(expected = CancellationException.class)
+    @Parameters(method = "parametersForTraversalModes")
+    @TestCaseName(value = "{method}(iterative: {0}) [{index}]")
+    public void testGenerateSchema_cancelled(boolean iterative) {
+        AtomicInteger checkCount = new AtomicInteger(0);
+        // the cancellation is requested right after the generation started
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withCancellationCheck(() -> checkCount.incrementAndGet() > 1)
+                .withExceedingStrategy(SchemaGenerationBudget.ExceedingStrategy.DEGRADE);
+        createGenerator(iterative).generateSchema(budget, TestLevel1.class);
+    }
+
+    @Test
+    public void testGenerateSchema_degradedResultNotCached() throws Exception {
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS)
+                .build();
+        SchemaGenerator generator = new SchemaGenerator(config, TypeContextFactory.createDefaultTypeContext(), 10);
+        SchemaGenerationBudget budget = new SchemaGenerationBudget()
+                .withMaximumDepth(2)
+                .withExceedingStrategy(SchemaGenerationBudget.ExceedingStrategy.DEGRADE);
+        generator.generateSchema(budget, TestLevel1.class);
+        Assert.assertEquals(0, generator.getDefinitionCache().size());
+
+        // the complete schema can be generated and cached afterwards
+        JsonNode result = generator.generateSchema(TestLevel1.class);
+        Assert.assertEquals(2, result.get("$defs").size());
+        Assert.assertEquals(3, generator.getDefinitionCache().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithMaximumDefinitionCount_invalid() {
+        new SchemaGenerationBudget().withMaximumDefinitionCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithTimeout_negative() {
+        new SchemaGenerationBudget().withTimeout(-1, TimeUnit.SECONDS);
+    }
+
+    private static class TestLevel1 {
+
+        public String name;
+        public TestLevel2 level2;
+    }
+
+    private static class TestLevel2 {
+
+        public TestLevel3 level3;
+    }
+
+    private static class TestLevel3 {
+
+        public int value;
+    }
+}
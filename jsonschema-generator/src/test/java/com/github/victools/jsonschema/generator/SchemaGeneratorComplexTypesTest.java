@@ -16,9 +16,15 @@
 
 package com.github.victools.jsonschema.generator;
 
+import com.fasterxml.classmate.AnnotationConfiguration;
+import com.fasterxml.classmate.AnnotationInclusion;
+import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.impl.DefinitionCache;
+import com.github.victools.jsonschema.generator.impl.RequestCoalescer;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
@@ -26,6 +32,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +41,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import junitparams.naming.TestCaseName;
@@ -158,6 +172,262 @@ public class SchemaGeneratorComplexTypesTest {
                 loadResource(caseTitle + ".json"), result.toString(), JSONCompareMode.STRICT);
     }
 
+    @Test
+    @Parameters(method = "parametersForTestGenerateSchema")
+    @TestCaseName(value = "{method}({0}) [{index}]")
+    public void testGenerateSchema_withDefinitionCache(String caseTitle, OptionPreset preset, Class<?> targetType, Module testModule)
+            throws Exception {
+        final SchemaVersion schemaVersion = SchemaVersion.DRAFT_7;
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), schemaVersion, preset);
+        configBuilder.with(testModule);
+        SchemaGenerator generator = new SchemaGenerator(configBuilder.build(), TypeContextFactory.createDefaultTypeContext(), 100);
+        // populate the cache with definitions that are partially shared with the targeted type
+        generator.generateSchema(TestClass3.class);
+        generator.generateSchema(TestClass1.class);
+
+        for (int run = 0; run < 2; run++) {
+            JsonNode result = generator.generateSchema(targetType);
+            JSONAssert.assertEquals('\n' + result.toString() + '\n',
+                    loadResource(caseTitle + ".json"), result.toString(), JSONCompareMode.STRICT);
+        }
+        Assert.assertTrue(generator.getDefinitionCache().getHitCount() > 0);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestGenerateSchema")
+    @TestCaseName(value = "{method}({0}) [{index}]")
+    public void testGenerateSchema_concurrently(String caseTitle, OptionPreset preset, Class<?> targetType, Module testModule)
+            throws Exception {
+        final SchemaVersion schemaVersion = SchemaVersion.DRAFT_7;
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), schemaVersion, preset);
+        configBuilder.with(testModule);
+        SchemaGeneratorConfig config = configBuilder.build();
+        // expected results from a single-threaded generation
+        List<Class<?>> types = Arrays.asList(targetType, TestClass1.class, TestClass3.class);
+        List<JsonNode> expectedResults = new ArrayList<>();
+        SchemaGenerator singleThreadedGenerator = new SchemaGenerator(config);
+        types.forEach(type -> expectedResults.add(singleThreadedGenerator.generateSchema(type)));
+
+        // small members and definition caches in order to also cause concurrent evictions
+        AnnotationConfiguration annotationConfig = new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED);
+        SchemaGenerator sharedGenerator = new SchemaGenerator(config, TypeContextFactory.createTypeContext(annotationConfig, 2),
+                new DefinitionCache(10), new RequestCoalescer(10, TimeUnit.SECONDS));
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<Void>> runs = new ArrayList<>();
+            for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+                int offset = threadIndex;
+                runs.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int run = 0; run < 20; run++) {
+                        int typeIndex = (offset + run) % types.size();
+                        Assert.assertEquals(expectedResults.get(typeIndex), sharedGenerator.generateSchema(types.get(typeIndex)));
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (Future<Void> run : runs) {
+                run.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        JSONAssert.assertEquals(loadResource(caseTitle + ".json"), expectedResults.get(0).toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestGenerateSchema")
+    @TestCaseName(value = "{method}({0}) [{index}]")
+    public void testGenerateSchema_iterativeTraversal(String caseTitle, OptionPreset preset, Class<?> targetType, Module testModule) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, preset);
+        configBuilder.with(testModule);
+        String expectedResult = new SchemaGenerator(configBuilder.build()).generateSchema(targetType).toString();
+
+        configBuilder.with(Option.ITERATIVE_TYPE_TRAVERSAL);
+        SchemaGenerator generator = new SchemaGenerator(configBuilder.build());
+        // compare the serialized schemas, in order to also ensure the same order of definitions
+        Assert.assertEquals(expectedResult, generator.generateSchema(targetType).toString());
+
+        SchemaGenerator generatorWithCache = new SchemaGenerator(configBuilder.build(), TypeContextFactory.createDefaultTypeContext(), 100);
+        // populate the cache with definitions that are partially shared with the targeted type
+        generatorWithCache.generateSchema(TestClass3.class);
+        generatorWithCache.generateSchema(TestClass1.class);
+        Assert.assertEquals(expectedResult, generatorWithCache.generateSchema(targetType).toString());
+    }
+
+    @Test
+    public void testGenerateSchema_iterativeTraversalOfDeepTypeGraph() throws Exception {
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        ResolvedType deeplyNestedType = typeContext.resolve(String.class);
+        for (int level = 0; level < 500; level++) {
+            deeplyNestedType = typeContext.resolve(TestChainLink.class, deeplyNestedType);
+        }
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON);
+        SchemaGenerator recursiveGenerator = new SchemaGenerator(configBuilder.build(), typeContext);
+        String expectedResult = generateSchemaWithStackSize(recursiveGenerator, deeplyNestedType, 16 * 1024 * 1024).toString();
+
+        List<Integer> populatedCounts = new ArrayList<>();
+        List<Integer> pendingCounts = new ArrayList<>();
+        configBuilder.with(Option.ITERATIVE_TYPE_TRAVERSAL)
+                .forTypesInGeneral()
+                .withTraversalProgressListener((type, populatedCount, pendingCount) -> {
+                    populatedCounts.add(populatedCount);
+                    pendingCounts.add(pendingCount);
+                });
+        // the recursive traversal requires a considerably larger stack for this
+        JsonNode result = generateSchemaWithStackSize(new SchemaGenerator(configBuilder.build(), typeContext), deeplyNestedType, 512 * 1024);
+        Assert.assertEquals(expectedResult, result.toString());
+        Assert.assertEquals(500, populatedCounts.size());
+        Assert.assertEquals(Integer.valueOf(500), populatedCounts.get(499));
+        Assert.assertEquals(Integer.valueOf(0), pendingCounts.get(499));
+    }
+
+    @Test
+    public void testGenerateSchema_iterativeTraversalOfDeepInlineNesting() throws Exception {
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        ResolvedType nestedArrays = typeContext.resolve(String.class);
+        ResolvedType nestedInlineLinks = typeContext.resolve(String.class);
+        for (int level = 0; level < 30; level++) {
+            nestedArrays = typeContext.resolve(List.class, nestedArrays);
+            nestedInlineLinks = typeContext.resolve(TestChainLink.class, nestedInlineLinks);
+        }
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral().withCustomDefinitionProvider(new CustomDefinitionProviderV2() {
+            @Override
+            public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+                if (javaType.getErasedType() != TestChainLink.class) {
+                    return null;
+                }
+                // each chain link is an in-line custom definition, that in turn contains the next chain link's in-line custom definition
+                return new CustomDefinition(context.createStandardDefinition(javaType, this), CustomDefinition.DefinitionType.INLINE,
+                        CustomDefinition.AttributeInclusion.NO);
+            }
+        });
+        SchemaGenerator recursiveGenerator = new SchemaGenerator(configBuilder.build(), typeContext);
+        SchemaGenerator iterativeGenerator = new SchemaGenerator(configBuilder.with(Option.ITERATIVE_TYPE_TRAVERSAL).build(), typeContext);
+
+        // in-line sub-schemas are not being queued, i.e. the iterative traversal produces the same nesting as the recursive one
+        JsonNode nestedArraysResult = iterativeGenerator.generateSchema(nestedArrays);
+        Assert.assertEquals(recursiveGenerator.generateSchema(nestedArrays).toString(), nestedArraysResult.toString());
+        Assert.assertFalse(nestedArraysResult.has(SchemaKeyword.TAG_DEFINITIONS.forVersion(SchemaVersion.DRAFT_2019_09)));
+        JsonNode innermostItems = nestedArraysResult;
+        for (int level = 0; level < 30; level++) {
+            Assert.assertEquals("array", innermostItems.get("type").textValue());
+            innermostItems = innermostItems.get("items");
+        }
+        Assert.assertEquals("{\"type\":\"string\"}", innermostItems.toString());
+
+        JsonNode nestedInlineLinksResult = iterativeGenerator.generateSchema(nestedInlineLinks);
+        Assert.assertEquals(recursiveGenerator.generateSchema(nestedInlineLinks).toString(), nestedInlineLinksResult.toString());
+        Assert.assertFalse(nestedInlineLinksResult.has(SchemaKeyword.TAG_DEFINITIONS.forVersion(SchemaVersion.DRAFT_2019_09)));
+        JsonNode innermostLink = nestedInlineLinksResult;
+        for (int level = 0; level < 30; level++) {
+            Assert.assertEquals("{\"type\":\"string\"}", innermostLink.get("properties").get("name").toString());
+            innermostLink = innermostLink.get("properties").get("next");
+        }
+        Assert.assertEquals("{\"type\":\"string\"}", innermostLink.toString());
+    }
+
+    /**
+     * Generate a schema on a separate thread with the given stack size.
+     *
+     * @param generator generator to use
+     * @param targetType type to generate the schema for
+     * @param stackSize stack size of the thread generating the schema
+     * @return generated schema
+     * @throws Exception when the generation failed
+     */
+    private static JsonNode generateSchemaWithStackSize(SchemaGenerator generator, Type targetType, long stackSize) throws Exception {
+        AtomicReference<Object> result = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(generator.generateSchema(targetType));
+            } catch (Throwable ex) {
+                result.set(ex);
+            }
+        }, "schema-generation", stackSize);
+        thread.start();
+        thread.join();
+        if (result.get() instanceof Throwable) {
+            throw new AssertionError("schema generation failed", (Throwable) result.get());
+        }
+        return (JsonNode) result.get();
+    }
+
+    @Test
+    public void testGenerateSchema_withDefinitionDeduplication() throws Exception {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON);
+        JsonNode resultWithDuplicates = new SchemaGenerator(configBuilder.build()).generateSchema(TestClass5.class);
+        JsonNode result = new SchemaGenerator(configBuilder.with(Option.DEFINITION_DEDUPLICATION_AT_THE_END).build())
+                .generateSchema(TestClass5.class);
+        Assert.assertEquals(4, resultWithDuplicates.get("$defs").size());
+        // TestVector is identical to TestPoint, which in turn renders TestLine identical to TestArrow
+        JSONAssert.assertEquals('\n' + result.toString() + '\n', "{\"$schema\":\"https://json-schema.org/draft/2019-09/schema\",\"$defs\":{"
+                + "\"TestArrow\":{\"type\":\"object\",\"properties\":{\"from\":{\"$ref\":\"#/$defs/TestPoint\"},\"to\":{\"$ref\":\"#/$defs/TestPoint\"}}},"
+                + "\"TestPoint\":{\"type\":\"object\",\"properties\":{\"x\":{\"type\":\"number\"},\"y\":{\"type\":\"number\"}}}},"
+                + "\"type\":\"object\",\"properties\":{\"arrow1\":{\"$ref\":\"#/$defs/TestArrow\"},\"arrow2\":{\"$ref\":\"#/$defs/TestArrow\"},"
+                + "\"line1\":{\"$ref\":\"#/$defs/TestArrow\"},\"line2\":{\"$ref\":\"#/$defs/TestArrow\"}}}",
+                result.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestGenerateSchema")
+    @TestCaseName(value = "{method}({0}) [{index}]")
+    public void testGenerateSchemas(String caseTitle, OptionPreset preset, Class<?> targetType, Module testModule) throws Exception {
+        final SchemaVersion schemaVersion = SchemaVersion.DRAFT_7;
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), schemaVersion, preset);
+        configBuilder.with(testModule);
+        SchemaGenerator generator = new SchemaGenerator(configBuilder.build(), TypeContextFactory.createDefaultTypeContext(), 100);
+        List<Class<?>> types = Arrays.asList(TestClass1.class, targetType, TestClass3.class, targetType);
+
+        List<JsonNode> result = generator.generateSchemas(types);
+        Assert.assertEquals(types.size(), result.size());
+        JSONAssert.assertEquals('\n' + result.get(1).toString() + '\n',
+                loadResource(caseTitle + ".json"), result.get(1).toString(), JSONCompareMode.STRICT);
+        Assert.assertEquals(result.get(1), result.get(3));
+        SchemaGenerator sequentialGenerator = new SchemaGenerator(configBuilder.build());
+        Assert.assertEquals(sequentialGenerator.generateSchema(TestClass1.class), result.get(0));
+        Assert.assertEquals(sequentialGenerator.generateSchema(TestClass3.class), result.get(2));
+    }
+
+    @Test
+    public void testGenerateSchemas_withExecutor() {
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON).build();
+        SchemaGenerator generator = new SchemaGenerator(config);
+        AtomicInteger executedTaskCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<JsonNode> result = generator.generateSchemas(Arrays.asList(TestClass1.class, TestClass3.class), task -> {
+                executedTaskCount.incrementAndGet();
+                executor.execute(task);
+            });
+            Assert.assertEquals(2, executedTaskCount.get());
+            Assert.assertEquals(Arrays.asList(generator.generateSchema(TestClass1.class), generator.generateSchema(TestClass3.class)), result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGenerateSchemas_withFailure() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral()
+                .withCustomDefinitionProvider((javaType, context) -> {
+                    if (javaType.getErasedType() == TestClass3.class) {
+                        throw new IllegalStateException("test failure");
+                    }
+                    return null;
+                });
+        new SchemaGenerator(configBuilder.build()).generateSchemas(Arrays.asList(TestClass1.class, TestClass3.class));
+    }
+
     private static String loadResource(String resourcePath) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
         try (InputStream inputStream = SchemaGeneratorComplexTypesTest.class
@@ -236,6 +506,44 @@ public class SchemaGeneratorComplexTypesTest {
         }
     }
 
+    private static class TestClass5 {
+
+        public TestLine line1;
+        public TestLine line2;
+        public TestArrow arrow1;
+        public TestArrow arrow2;
+    }
+
+    private static class TestLine {
+
+        public TestPoint from;
+        public TestPoint to;
+    }
+
+    private static class TestArrow {
+
+        public TestVector from;
+        public TestVector to;
+    }
+
+    private static class TestPoint {
+
+        public double x;
+        public double y;
+    }
+
+    private static class TestVector {
+
+        public double x;
+        public double y;
+    }
+
+    private static class TestChainLink<T> {
+
+        public T next;
+        public String name;
+    }
+
     private static enum TestEnum {
         VALUE1, VALUE2, VALUE3;
 
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Test for the {@link SchemaGeneratorConfigBuilder} class.
@@ -59,4 +60,24 @@ public class SchemaGeneratorConfigBuilderTest {
     public void testForMethods() {
         Assert.assertNotNull(this.builder.forMethods());
     }
+
+    @Test
+    public void testBuild_unaffectedBySubsequentChanges() {
+        FieldScope field = Mockito.mock(FieldScope.class);
+        this.builder.forFields().withTitleResolver(member -> "first");
+        SchemaGeneratorConfig config = this.builder.build();
+
+        this.builder.forFields()
+                .withTitleResolver(member -> "second")
+                .withDescriptionResolver(member -> "description")
+                .withRequiredCheck(member -> true);
+        Assert.assertEquals("first", config.resolveTitle(field));
+        Assert.assertNull(config.resolveDescription(field));
+        Assert.assertFalse(config.isRequired(field));
+
+        SchemaGeneratorConfig secondConfig = this.builder.build();
+        Assert.assertEquals("first", secondConfig.resolveTitle(field));
+        Assert.assertEquals("description", secondConfig.resolveDescription(field));
+        Assert.assertTrue(secondConfig.isRequired(field));
+    }
 }
@@ -17,10 +17,13 @@
 package com.github.victools.jsonschema.generator;
 
 import com.fasterxml.classmate.ResolvedType;
+import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.junit.Assert;
 import org.junit.Before;
@@ -108,6 +111,73 @@ public class SchemaGeneratorConfigPartTest {
         Assert.assertFalse(this.instance.isNullable(this.field3));
     }
 
+    @Test
+    public void testAnnotationDependentResolversAndChecks() {
+        Mockito.when(this.field1.hasAnyAnnotationConsideringFieldAndGetter(Mockito.any())).thenReturn(true);
+        AtomicInteger invocationCount = new AtomicInteger();
+        ConfigFunction<FieldScope, String> titleResolver = AnnotationDependent.resolver(member -> {
+            invocationCount.incrementAndGet();
+            return "title";
+        }, Deprecated.class);
+        this.instance.withTitleResolver(titleResolver)
+                .withIgnoreCheck(AnnotationDependent.check(member -> true, Deprecated.class))
+                .withNullableCheck(AnnotationDependent.resolver(member -> true, Deprecated.class));
+
+        Assert.assertEquals("title", this.instance.resolveTitle(this.field1));
+        Assert.assertTrue(this.instance.shouldIgnore(this.field1));
+        Assert.assertTrue(this.instance.isNullable(this.field1));
+        Assert.assertEquals(1, invocationCount.get());
+
+        // without any of the relevant annotations being present, the resolvers and checks are not being invoked
+        Assert.assertNull(this.instance.resolveTitle(this.field2));
+        Assert.assertFalse(this.instance.shouldIgnore(this.field2));
+        Assert.assertNull(this.instance.isNullable(this.field2));
+        Assert.assertEquals(1, invocationCount.get());
+        Mockito.verify(this.field2, Mockito.times(3)).hasAnyAnnotationConsideringFieldAndGetter(Collections.singleton(Deprecated.class));
+    }
+
+    @Test
+    public void testAnnotationDependentResolver_forTypesInGeneral() {
+        SchemaGeneratorGeneralConfigPart typesInGeneralConfigPart = new SchemaGeneratorGeneralConfigPart()
+                .withTitleResolver(new AnnotationDependentTitleResolver());
+
+        // resolvers for types in general are always being invoked, even if the given scope is a member without the relevant annotations
+        Assert.assertEquals("title", typesInGeneralConfigPart.resolveTitle(this.field1));
+        Assert.assertEquals("title", new SchemaGeneratorGeneralConfigPart(typesInGeneralConfigPart).resolveTitle(this.field1));
+        Mockito.verify(this.field1, Mockito.never()).hasAnyAnnotationConsideringFieldAndGetter(Mockito.any());
+    }
+
+    @Test
+    public void testFrozenCopy() {
+        Mockito.when(this.field1.hasAnyAnnotationConsideringFieldAndGetter(Mockito.any())).thenReturn(true);
+        this.instance.withTitleResolver(AnnotationDependent.resolver(member -> "title", Deprecated.class))
+                .withDescriptionResolver(member -> member == this.field2 ? "description" : null)
+                .withRequiredCheck(member -> member == this.field1);
+        SchemaGeneratorConfigPart<FieldScope> frozenCopy = new SchemaGeneratorConfigPart<>(this.instance);
+        this.instance.withDefaultResolver(member -> "default");
+
+        Assert.assertEquals("title", frozenCopy.resolveTitle(this.field1));
+        Assert.assertNull(frozenCopy.resolveTitle(this.field2));
+        Assert.assertNull(frozenCopy.resolveDescription(this.field1));
+        Assert.assertEquals("description", frozenCopy.resolveDescription(this.field2));
+        Assert.assertTrue(frozenCopy.isRequired(this.field1));
+        Assert.assertFalse(frozenCopy.isRequired(this.field2));
+        Assert.assertNull(frozenCopy.resolveDefault(this.field1));
+        Assert.assertNull(frozenCopy.isNullable(this.field1));
+        // empty tables are being shared
+        Assert.assertSame(frozenCopy.getCustomDefinitionProviders(), frozenCopy.getInstanceAttributeOverrides());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenCopy_noFurtherRegistration() {
+        new SchemaGeneratorConfigPart<>(this.instance).withTitleResolver(member -> "title");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAnnotationDependentResolver_withoutAnnotationTypes() {
+        AnnotationDependent.resolver(member -> "title");
+    }
+
     @Test
     @SuppressWarnings("deprecation")
     public void testTargetTypeOverride() {
@@ -272,4 +342,17 @@ public class SchemaGeneratorConfigPartTest {
         Assert.assertEquals(value2, resolveValue.apply(this.field2));
         Assert.assertNull(resolveValue.apply(this.field3));
     }
+
+    private static class AnnotationDependentTitleResolver implements ConfigFunction<TypeScope, String>, AnnotationDependent {
+
+        @Override
+        public String apply(TypeScope scope) {
+            return "title";
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getRelevantAnnotationTypes() {
+            return Collections.singleton(Deprecated.class);
+        }
+    }
 }
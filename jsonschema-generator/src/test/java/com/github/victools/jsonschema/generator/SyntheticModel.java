@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Synthetic class graph created by the {@link SyntheticModelGenerator}.
+ */
+public class SyntheticModel {
+
+    private final Class<?> mainType;
+    private final int classCount;
+    private final Map<Class<?>, List<Class<?>>> subtypes;
+
+    /**
+     * Constructor.
+     *
+     * @param mainType type referencing all types in the first layer
+     * @param classCount total number of generated classes
+     * @param subtypes generated subtypes by their base type
+     */
+    SyntheticModel(Class<?> mainType, int classCount, Map<Class<?>, List<Class<?>>> subtypes) {
+        this.mainType = mainType;
+        this.classCount = classCount;
+        this.subtypes = subtypes;
+    }
+
+    /**
+     * Getter for the type to generate the schema for, which references all types in the first layer.
+     *
+     * @return main type
+     */
+    public Class<?> getMainType() {
+        return this.mainType;
+    }
+
+    /**
+     * Getter for the total number of generated classes, including the main type, all subtypes and the generic wrapper type (if any).
+     *
+     * @return number of generated classes
+     */
+    public int getClassCount() {
+        return this.classCount;
+    }
+
+    /**
+     * Getter for the generated subtypes of the given type.
+     *
+     * @param baseType generated base type
+     * @return generated subtypes (may be empty)
+     */
+    public List<Class<?>> getSubtypes(Class<?> baseType) {
+        return this.subtypes.getOrDefault(baseType, Collections.emptyList());
+    }
+
+    /**
+     * Create a subtype resolver listing the generated subtypes of each generated base type.
+     *
+     * @return subtype resolver to register via {@link SchemaGeneratorGeneralConfigPart#withSubtypeResolver(SubtypeResolver)}
+     */
+    public SubtypeResolver getSubtypeResolver() {
+        return (declaredType, context) -> {
+            List<Class<?>> typeSubtypes = this.getSubtypes(declaredType.getErasedType());
+            if (typeSubtypes.isEmpty()) {
+                return null;
+            }
+            return typeSubtypes.stream()
+                    .map(subtype -> context.getTypeContext().resolveSubtype(declaredType, subtype))
+                    .collect(Collectors.toList());
+        };
+    }
+}
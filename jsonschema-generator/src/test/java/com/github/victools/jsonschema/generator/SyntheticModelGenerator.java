@@ -0,0 +1,371 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Test utility for creating synthetic class graphs of configurable size and shape, which are being compiled in-process via the JDK's
+ * {@code javax.tools} compiler and loaded through a dedicated class loader.
+ * <br>
+ * The generated types are arranged in layers: each type references {@code fanOut} types of the next layer (plus a parameterization of a generic
+ * wrapper type, if a generic arity is configured), the types in the last layer may reference the ones in the first layer again (cycles). Each type
+ * may have a number of subtypes, which are being reported through the {@link SyntheticModel#getSubtypeResolver()}.
+ */
+public class SyntheticModelGenerator {
+
+    /**
+     * Package of the generated types.
+     */
+    static final String PACKAGE_NAME = "synthetic";
+
+    private int typeCount = 100;
+    private int fanOut = 2;
+    private int depth = 5;
+    private int genericArity = 0;
+    private int subtypeCount = 0;
+    private boolean cycles = false;
+
+    /**
+     * Set the number of (base) types to generate, excluding their subtypes, the generic wrapper type and the main type.
+     *
+     * @param typeCount number of types (must be at least as high as the depth)
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withTypeCount(int typeCount) {
+        this.typeCount = typeCount;
+        return this;
+    }
+
+    /**
+     * Set the number of fields in each type referencing types in the next layer.
+     *
+     * @param fanOut number of references per type (must be greater than zero)
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withFanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * Set the number of layers, among which the generated types are being distributed evenly.
+     *
+     * @param depth number of layers (must be greater than zero)
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Set the number of type parameters of the generic wrapper type. If greater than zero, each type holds a parameterization of it, with the type
+     * arguments being taken from the next layer.
+     *
+     * @param genericArity number of type parameters (zero for no generic wrapper type)
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withGenericArity(int genericArity) {
+        this.genericArity = genericArity;
+        return this;
+    }
+
+    /**
+     * Set the number of subtypes to generate for each type.
+     *
+     * @param subtypeCount number of subtypes per type
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withSubtypeCount(int subtypeCount) {
+        this.subtypeCount = subtypeCount;
+        return this;
+    }
+
+    /**
+     * Set whether the types in the last layer should reference the types in the first layer again.
+     *
+     * @param cycles whether to introduce cyclic references
+     * @return this generator instance (for chaining)
+     */
+    public SyntheticModelGenerator withCycles(boolean cycles) {
+        this.cycles = cycles;
+        return this;
+    }
+
+    /**
+     * Generate the source code of all types according to the current settings, compile them and load the resulting classes.
+     *
+     * @return synthetic model
+     * @throws IllegalStateException if no system java compiler is available (i.e. when running on a JRE) or the compilation failed
+     */
+    public SyntheticModel generate() {
+        if (this.typeCount < this.depth || this.depth < 1 || this.fanOut < 1 || this.genericArity < 0 || this.subtypeCount < 0) {
+            throw new IllegalArgumentException("invalid synthetic model settings");
+        }
+        Map<String, String> sources = this.createSources();
+        Map<String, Class<?>> classes = compile(sources);
+        Map<Class<?>, List<Class<?>>> subtypes = new HashMap<>();
+        for (int index = 0; index < this.typeCount; index++) {
+            List<Class<?>> typeSubtypes = new ArrayList<>(this.subtypeCount);
+            for (int subIndex = 0; subIndex < this.subtypeCount; subIndex++) {
+                typeSubtypes.add(classes.get(getSubtypeName(index, subIndex)));
+            }
+            subtypes.put(classes.get(getTypeName(index)), typeSubtypes);
+        }
+        return new SyntheticModel(classes.get("Root"), classes.size(), subtypes);
+    }
+
+    /**
+     * Determine the simple name of a generated type.
+     *
+     * @param index overall index of the type
+     * @return simple class name
+     */
+    private static String getTypeName(int index) {
+        return "Type" + index;
+    }
+
+    /**
+     * Determine the simple name of a generated subtype.
+     *
+     * @param index overall index of the base type
+     * @param subIndex index of the subtype for its base type
+     * @return simple class name
+     */
+    private static String getSubtypeName(int index, int subIndex) {
+        return "Type" + index + "Sub" + subIndex;
+    }
+
+    /**
+     * Determine the overall index of the first type in the given layer.
+     *
+     * @param layer index of the layer
+     * @return overall type index
+     */
+    private int getLayerStart(int layer) {
+        return (int) ((long) this.typeCount * layer / this.depth);
+    }
+
+    /**
+     * Create the source code of all types.
+     *
+     * @return source code by simple class name
+     */
+    private Map<String, String> createSources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        if (this.genericArity > 0) {
+            StringBuilder wrapper = new StringBuilder("public class Wrapper<");
+            for (int parameter = 0; parameter < this.genericArity; parameter++) {
+                wrapper.append(parameter == 0 ? "T" : ", T").append(parameter);
+            }
+            wrapper.append("> {\n");
+            for (int parameter = 0; parameter < this.genericArity; parameter++) {
+                wrapper.append("    public T").append(parameter).append(" value").append(parameter).append(";\n");
+            }
+            sources.put("Wrapper", wrapper.append("    public int size;\n}\n").toString());
+        }
+        StringBuilder root = new StringBuilder("public class Root {\n");
+        for (int index = 0; index < this.getLayerStart(1); index++) {
+            root.append("    public ").append(getTypeName(index)).append(" field").append(index).append(";\n");
+        }
+        sources.put("Root", root.append("}\n").toString());
+        for (int layer = 0; layer < this.depth; layer++) {
+            int layerStart = this.getLayerStart(layer);
+            int layerEnd = this.getLayerStart(layer + 1);
+            for (int index = layerStart; index < layerEnd; index++) {
+                sources.put(getTypeName(index), this.createTypeSource(layer, index - layerStart, index));
+                for (int subIndex = 0; subIndex < this.subtypeCount; subIndex++) {
+                    sources.put(getSubtypeName(index, subIndex), "public class " + getSubtypeName(index, subIndex) + " extends " + getTypeName(index)
+                            + " {\n    public String detail" + subIndex + ";\n}\n");
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Create the source code of a single (base) type.
+     *
+     * @param layer index of the layer the type belongs to
+     * @param position index of the type within its layer
+     * @param index overall index of the type
+     * @return source code
+     */
+    private String createTypeSource(int layer, int position, int index) {
+        StringBuilder source = new StringBuilder("public class ").append(getTypeName(index)).append(" {\n")
+                .append("    public String name;\n")
+                .append("    public int number;\n");
+        boolean isLastLayer = layer == this.depth - 1;
+        int targetLayer = isLastLayer ? 0 : layer + 1;
+        int targetStart = this.getLayerStart(targetLayer);
+        int targetSize = this.getLayerStart(targetLayer + 1) - targetStart;
+        if (!isLastLayer) {
+            for (int reference = 0; reference < this.fanOut; reference++) {
+                int target = targetStart + (position * this.fanOut + reference) % targetSize;
+                source.append("    public ").append(getTypeName(target)).append(" reference").append(reference).append(";\n");
+            }
+            if (this.genericArity > 0) {
+                source.append("    public Wrapper<");
+                for (int parameter = 0; parameter < this.genericArity; parameter++) {
+                    source.append(parameter == 0 ? "" : ", ").append(getTypeName(targetStart + (position + parameter) % targetSize));
+                }
+                source.append("> wrapper;\n");
+            }
+        } else if (this.cycles) {
+            source.append("    public ").append(getTypeName(targetStart + position % targetSize)).append(" cycle;\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Compile the given source code in-process and load the resulting classes.
+     *
+     * @param sources source code by simple class name
+     * @return loaded classes by simple class name
+     * @throws IllegalStateException if no system java compiler is available (i.e. when running on a JRE) or the compilation failed
+     */
+    private static Map<String, Class<?>> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("no system java compiler available, probably running on a JRE instead of a JDK");
+        }
+        List<JavaFileObject> compilationUnits = sources.entrySet().stream()
+                .map(entry -> new SourceFile(entry.getKey(), "package " + PACKAGE_NAME + ";\n\n" + entry.getValue()))
+                .collect(Collectors.toList());
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        InMemoryFileManager fileManager = new InMemoryFileManager(standardFileManager);
+        boolean success = compiler.getTask(null, fileManager, diagnostics, Arrays.asList("-proc:none", "-g:none"), null, compilationUnits).call();
+        if (!success) {
+            throw new IllegalStateException("compilation of synthetic model failed: " + diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.joining("; ")));
+        }
+        ByteCodeClassLoader classLoader = new ByteCodeClassLoader(fileManager.byteCodes);
+        Map<String, Class<?>> classes = new LinkedHashMap<>();
+        for (String simpleName : sources.keySet()) {
+            try {
+                classes.put(simpleName, classLoader.loadClass(PACKAGE_NAME + "." + simpleName));
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalStateException("compiled synthetic type could not be loaded: " + simpleName, ex);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Source code being held in memory.
+     */
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String code;
+
+        /**
+         * Constructor.
+         *
+         * @param simpleName simple class name
+         * @param code full source code
+         */
+        SourceFile(String simpleName, String code) {
+            super(URI.create("string:///" + PACKAGE_NAME + "/" + simpleName + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.code;
+        }
+    }
+
+    /**
+     * File manager collecting the compiled byte code in memory.
+     */
+    private static class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final Map<String, ByteArrayOutputStream> byteCodes = new HashMap<>();
+
+        /**
+         * Constructor.
+         *
+         * @param fileManager standard file manager to delegate to (e.g. for looking-up the JDK classes)
+         */
+        InMemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            ByteArrayOutputStream byteCode = new ByteArrayOutputStream();
+            this.byteCodes.put(className, byteCode);
+            return new SimpleJavaFileObject(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return byteCode;
+                }
+            };
+        }
+    }
+
+    /**
+     * Class loader defining the compiled classes from their byte code held in memory.
+     */
+    private static class ByteCodeClassLoader extends ClassLoader {
+
+        private final Map<String, ByteArrayOutputStream> byteCodes;
+
+        /**
+         * Constructor.
+         *
+         * @param byteCodes compiled byte code by full class name
+         */
+        ByteCodeClassLoader(Map<String, ByteArrayOutputStream> byteCodes) {
+            super(SyntheticModelGenerator.class.getClassLoader());
+            this.byteCodes = byteCodes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            ByteArrayOutputStream byteCode = this.byteCodes.get(name);
+            if (byteCode == null) {
+                return super.findClass(name);
+            }
+            byte[] bytes = byteCode.toByteArray();
+            return this.defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test for the {@link SyntheticModelGenerator} class and the scaling of the schema generation for synthetic models of increasing size.
+ */
+public class SyntheticModelScalingTest {
+
+    private static final int[] TYPE_COUNTS = {200, 400, 800, 1600};
+    /**
+     * Maximum factor by which the allocated bytes per generated class may increase from the smallest to the largest synthetic model.
+     */
+    private static final double MAX_ALLOCATION_GROWTH = 1.5;
+
+    private static SyntheticModel[] models;
+
+    @BeforeClass
+    public static void setUpModels() {
+        Assume.assumeNotNull(javax.tools.ToolProvider.getSystemJavaCompiler());
+        models = new SyntheticModel[TYPE_COUNTS.length];
+        for (int index = 0; index < TYPE_COUNTS.length; index++) {
+            models[index] = new SyntheticModelGenerator()
+                    .withTypeCount(TYPE_COUNTS[index])
+                    .withFanOut(2)
+                    .withDepth(5)
+                    .withGenericArity(2)
+                    .withSubtypeCount(1)
+                    .withCycles(true)
+                    .generate();
+        }
+    }
+
+    private static SchemaGenerator createGenerator(SyntheticModel model) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09,
+                OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.ITERATIVE_TYPE_TRAVERSAL);
+        configBuilder.forTypesInGeneral().withSubtypeResolver(model.getSubtypeResolver());
+        return new SchemaGenerator(configBuilder.build());
+    }
+
+    @Test
+    public void testGenerate_simpleModel() {
+        SyntheticModel model = new SyntheticModelGenerator()
+                .withTypeCount(30)
+                .withFanOut(3)
+                .withDepth(3)
+                .generate();
+        Assert.assertEquals(31, model.getClassCount());
+        Assert.assertEquals("Root", model.getMainType().getSimpleName());
+        Assert.assertTrue(model.getSubtypes(model.getMainType()).isEmpty());
+
+        JsonNode result = createGenerator(model).generateSchema(model.getMainType());
+        Assert.assertEquals(10, result.get("properties").size());
+        // each of the 30 generated types is being referenced at least once
+        Assert.assertEquals(30, result.get("$defs").size());
+    }
+
+    @Test
+    public void testGenerate_subtypesAndGenerics() {
+        SyntheticModel model = models[0];
+        // 200 types, each with one subtype, plus the generic wrapper and the main type
+        Assert.assertEquals(402, model.getClassCount());
+        Class<?> firstType = model.getMainType().getFields()[0].getType();
+        Assert.assertEquals(1, model.getSubtypes(firstType).size());
+        Assert.assertSame(firstType, model.getSubtypes(firstType).get(0).getSuperclass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGenerate_invalidSettings() {
+        new SyntheticModelGenerator()
+                .withTypeCount(3)
+                .withDepth(4)
+                .generate();
+    }
+
+    @Test
+    public void testScaling_nearLinearAllocation() {
+        // the duration is too noisy for a unit test and is being covered by the SyntheticModelScalingBenchmark in the perf-gate profile instead
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+        // warm-up
+        for (SyntheticModel model : models) {
+            createGenerator(model).generateSchema(model.getMainType());
+        }
+        double[] bytesPerClass = new double[models.length];
+        for (int index = 0; index < models.length; index++) {
+            SyntheticModel model = models[index];
+            long minAllocation = Long.MAX_VALUE;
+            for (int run = 0; run < 3; run++) {
+                SchemaGenerator generator = createGenerator(model);
+                long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+                generator.generateSchema(model.getMainType());
+                minAllocation = Math.min(minAllocation, allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+            }
+            bytesPerClass[index] = (double) minAllocation / model.getClassCount();
+        }
+        double allocationGrowth = bytesPerClass[models.length - 1] / bytesPerClass[0];
+        Assert.assertTrue("allocation per class grew by factor " + allocationGrowth, allocationGrowth < MAX_ALLOCATION_GROWTH);
+    }
+}
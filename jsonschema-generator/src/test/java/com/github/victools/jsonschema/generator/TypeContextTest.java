@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.AnnotationConfiguration;
+import com.fasterxml.classmate.AnnotationInclusion;
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link TypeContext} class.
+ */
+public class TypeContextTest {
+
+    private static TypeContext createTypeContext(int membersCacheSize) {
+        AnnotationConfiguration annotationConfig = new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED);
+        return new TypeContext(annotationConfig, membersCacheSize);
+    }
+
+    @Test
+    public void testResolveWithMembers_cached() {
+        TypeContext typeContext = createTypeContext(TypeContext.DEFAULT_MEMBERS_CACHE_SIZE);
+        ResolvedType type = typeContext.resolve(TestClass.class);
+        ResolvedTypeWithMembers result = typeContext.resolveWithMembers(type);
+
+        Assert.assertEquals(2, result.getMemberFields().length);
+        Assert.assertSame(result, typeContext.resolveWithMembers(type));
+        Assert.assertSame(result, typeContext.resolveWithMembers(typeContext.resolve(TestClass.class)));
+    }
+
+    @Test
+    public void testResolveWithMembers_cacheCleared() {
+        TypeContext typeContext = createTypeContext(TypeContext.DEFAULT_MEMBERS_CACHE_SIZE);
+        ResolvedType type = typeContext.resolve(TestClass.class);
+        ResolvedTypeWithMembers result = typeContext.resolveWithMembers(type);
+        typeContext.clearMembersCache();
+
+        Assert.assertNotSame(result, typeContext.resolveWithMembers(type));
+    }
+
+    @Test
+    public void testResolveWithMembers_leastRecentlyUsedEvicted() {
+        TypeContext typeContext = createTypeContext(1);
+        ResolvedType type = typeContext.resolve(TestClass.class);
+        ResolvedTypeWithMembers result = typeContext.resolveWithMembers(type);
+        typeContext.resolveWithMembers(typeContext.resolve(String.class));
+
+        Assert.assertEquals(1, typeContext.getMembersCacheSize());
+        Assert.assertNotSame(result, typeContext.resolveWithMembers(type));
+    }
+
+    @Test
+    public void testResolveWithMembers_cacheDisabled() {
+        TypeContext typeContext = createTypeContext(0);
+        ResolvedType type = typeContext.resolve(TestClass.class);
+
+        Assert.assertNotSame(typeContext.resolveWithMembers(type), typeContext.resolveWithMembers(type));
+    }
+
+    @Test
+    public void testGetGetterFieldIndex() {
+        TypeContext typeContext = createTypeContext(TypeContext.DEFAULT_MEMBERS_CACHE_SIZE);
+        ResolvedTypeWithMembers typeWithMembers = typeContext.resolveWithMembers(typeContext.resolve(TestClass.class));
+        GetterFieldIndex index = typeContext.getGetterFieldIndex(typeWithMembers);
+
+        Assert.assertSame(index, typeContext.getGetterFieldIndex(typeWithMembers));
+        Assert.assertEquals("getText", index.findGetter("text").getName());
+        Assert.assertNull(index.findGetter("number"));
+        Assert.assertEquals("text", index.findGetterField("getText").getName());
+        Assert.assertNull(index.findGetterField("toString"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_negativeCacheSize() {
+        createTypeContext(-1);
+    }
+
+    private static class TestClass {
+
+        private String text;
+        private int number;
+
+        public String getText() {
+            return this.text;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link DefinitionCache} class.
+ */
+public class DefinitionCacheTest {
+
+    private SchemaGeneratorConfig config;
+
+    @Before
+    public void setUp() {
+        this.config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS)
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_invalidSize() {
+        new DefinitionCache(0);
+    }
+
+    @Test
+    public void testHitAndMissCounts() {
+        SchemaGenerator generator = new SchemaGenerator(this.config, TypeContextFactory.createDefaultTypeContext(), 10);
+        DefinitionCache cache = generator.getDefinitionCache();
+
+        JsonNode firstResult = generator.generateSchema(TestOrder.class);
+        // TestOrder, TestAddress, TestCountry
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(3, cache.getMissCount());
+        Assert.assertEquals(3, cache.size());
+
+        JsonNode secondResult = generator.generateSchema(TestCustomer.class);
+        // TestAddress and TestCountry are taken from the cache, only TestCustomer is being generated
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(4, cache.size());
+
+        Assert.assertEquals(firstResult, generator.generateSchema(TestOrder.class));
+        Assert.assertEquals(secondResult, generator.generateSchema(TestCustomer.class));
+        Assert.assertEquals(8, cache.getHitCount());
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+
+        SchemaGenerator generatorWithoutCache = new SchemaGenerator(this.config);
+        Assert.assertNull(generatorWithoutCache.getDefinitionCache());
+        Assert.assertEquals(generatorWithoutCache.generateSchema(TestOrder.class), firstResult);
+        Assert.assertEquals(generatorWithoutCache.generateSchema(TestCustomer.class), secondResult);
+    }
+
+    @Test
+    public void testEviction() {
+        SchemaGenerator generator = new SchemaGenerator(this.config, TypeContextFactory.createDefaultTypeContext(), 2);
+        DefinitionCache cache = generator.getDefinitionCache();
+
+        JsonNode result = generator.generateSchema(TestOrder.class);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+
+        // the least recently used definition (TestOrder) has been evicted, TestAddress and TestCountry can still be taken from the cache
+        Assert.assertEquals(result, generator.generateSchema(TestOrder.class));
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testClear() {
+        SchemaGenerator generator = new SchemaGenerator(this.config, TypeContextFactory.createDefaultTypeContext(), 10);
+        DefinitionCache cache = generator.getDefinitionCache();
+
+        JsonNode result = generator.generateSchema(TestOrder.class);
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+
+        Assert.assertEquals(result, generator.generateSchema(TestOrder.class));
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(6, cache.getMissCount());
+    }
+
+    private static class TestOrder {
+
+        public TestAddress billingAddress;
+        public TestAddress shippingAddress;
+        public List<TestAddress> alternativeAddresses;
+    }
+
+    private static class TestCustomer {
+
+        public String name;
+        public TestAddress address;
+    }
+
+    private static class TestAddress {
+
+        public String street;
+        public TestCountry country;
+    }
+
+    private static class TestCountry {
+
+        public String isoCode;
+    }
+}
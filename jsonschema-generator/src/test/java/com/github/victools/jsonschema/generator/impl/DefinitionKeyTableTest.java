@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Test for the {@link DefinitionKeyTable} class.
+ */
+public class DefinitionKeyTableTest {
+
+    private static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+
+    @Test
+    public void testInternAndFind() {
+        DefinitionKeyTable table = new DefinitionKeyTable();
+        ResolvedType stringType = TYPE_RESOLVER.resolve(String.class);
+        CustomDefinitionProviderV2 provider = (javaType, context) -> null;
+
+        Assert.assertEquals(-1, table.find(stringType, null));
+        int id = table.intern(stringType, null);
+        Assert.assertEquals(0, id);
+        Assert.assertEquals(id, table.intern(TYPE_RESOLVER.resolve(String.class), null));
+        Assert.assertEquals(id, table.find(new DefinitionKey(stringType, null)));
+        Assert.assertEquals(new DefinitionKey(stringType, null), table.getKey(id));
+
+        Assert.assertEquals(-1, table.find(stringType, provider));
+        Assert.assertEquals(1, table.intern(new DefinitionKey(stringType, provider)));
+        Assert.assertEquals(1, table.find(stringType, provider));
+        Assert.assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testInternAndFind_parameterizedTypes() {
+        DefinitionKeyTable table = new DefinitionKeyTable();
+        int listOfStringsId = table.intern(TYPE_RESOLVER.resolve(List.class, String.class), null);
+        int listOfIntegersId = table.intern(TYPE_RESOLVER.resolve(List.class, Integer.class), null);
+
+        Assert.assertNotEquals(listOfStringsId, listOfIntegersId);
+        Assert.assertEquals(listOfStringsId, table.find(TYPE_RESOLVER.resolve(List.class, String.class), null));
+        Assert.assertEquals(listOfIntegersId, table.find(TYPE_RESOLVER.resolve(List.class, Integer.class), null));
+        Assert.assertEquals(-1, table.find(TYPE_RESOLVER.resolve(List.class, Long.class), null));
+    }
+
+    @Test
+    public void testIntern_growing() {
+        DefinitionKeyTable table = new DefinitionKeyTable();
+        List<ResolvedType> types = new ArrayList<>();
+        for (Class<?> containerType : new Class<?>[]{List.class, Set.class, Collection.class}) {
+            for (Class<?> itemType : new Class<?>[]{String.class, Integer.class, Long.class, Double.class, Float.class, Short.class, Object.class}) {
+                types.add(TYPE_RESOLVER.resolve(containerType, itemType));
+            }
+        }
+        for (ResolvedType type : types) {
+            Assert.assertEquals(table.size(), table.intern(type, null));
+        }
+        for (ResolvedType type : types) {
+            Assert.assertEquals(types.indexOf(type), table.intern(type, null));
+        }
+        Assert.assertEquals(21, table.size());
+        for (int id = 0; id < table.size(); id++) {
+            Assert.assertEquals(id, table.find(table.getKey(id)));
+        }
+    }
+
+    @Test
+    public void testFind_withoutAllocation() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+        DefinitionKeyTable table = new DefinitionKeyTable();
+        ResolvedType[] types = {
+            TYPE_RESOLVER.resolve(String.class),
+            TYPE_RESOLVER.resolve(List.class, String.class),
+            TYPE_RESOLVER.resolve(Map.class, String.class, Integer.class)
+        };
+        for (ResolvedType type : types) {
+            table.intern(type, null);
+        }
+        long threadId = Thread.currentThread().getId();
+        // warm-up, including the allocation measurement itself
+        this.findRepeatedly(table, types, 1000);
+        allocationBean.getThreadAllocatedBytes(threadId);
+
+        long allocatedBytesBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        int foundCount = this.findRepeatedly(table, types, 10_000);
+        long allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        Assert.assertEquals(3 * 10_000, foundCount);
+        // allow for a few bytes to be allocated by the measurement, but not a single key per look-up
+        Assert.assertTrue("allocated bytes: " + allocatedBytes, allocatedBytes < 1000);
+    }
+
+    private int findRepeatedly(DefinitionKeyTable table, ResolvedType[] types, int repetitions) {
+        int foundCount = 0;
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            for (ResolvedType type : types) {
+                if (table.find(type, null) != -1) {
+                    foundCount++;
+                }
+            }
+        }
+        return foundCount;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.AnnotationConfiguration;
+import com.fasterxml.classmate.AnnotationInclusion;
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link DefinitionNamingService} class.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class DefinitionNamingServiceTest {
+
+    private TypeContext typeContext;
+    private AtomicInteger nameLookUpCount;
+    private DefinitionNamingService namingService;
+
+    @Before
+    public void setUp() {
+        this.nameLookUpCount = new AtomicInteger();
+        this.typeContext = new TypeContext(new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED)) {
+            @Override
+            public String getSchemaDefinitionName(ResolvedType type) {
+                DefinitionNamingServiceTest.this.nameLookUpCount.incrementAndGet();
+                return super.getSchemaDefinitionName(type);
+            }
+        };
+        this.namingService = new DefinitionNamingService(this.typeContext);
+    }
+
+    private DefinitionKey createKey(Class<?> erasedType, Class<?>... typeParameters) {
+        return new DefinitionKey(this.typeContext.resolve(erasedType, typeParameters), null);
+    }
+
+    public Object[] parametersForTestToUriCompatibleName() {
+        return new Object[][]{
+            {"String"},
+            {"String[]"},
+            {"String [ ] [ ]"},
+            {"Map<String, List<Integer[]>>"},
+            {"Map<  String ,Integer >[]"},
+            {"Odd[ x ]"},
+            {"Odd["},
+            {""}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testToUriCompatibleName(String typeDescription) {
+        String expectedName = typeDescription
+                .replaceAll("[ ]+", "")
+                .replaceAll("\\[\\]", "*")
+                .replaceAll("<", "(")
+                .replaceAll(">", ")");
+        Assert.assertEquals(expectedName, DefinitionNamingService.toUriCompatibleName(typeDescription));
+    }
+
+    @Test
+    public void testGetBaseName_cached() {
+        ResolvedType type = this.typeContext.resolve(Map.class, String.class, Integer[].class);
+        Assert.assertEquals("Map(String,Integer*)", this.namingService.getBaseName(type));
+        Assert.assertEquals("Map(String,Integer*)", this.namingService.getBaseName(this.typeContext.resolve(Map.class, String.class, Integer[].class)));
+
+        Assert.assertEquals(1, this.nameLookUpCount.get());
+        Assert.assertEquals(1, this.namingService.size());
+    }
+
+    @Test
+    public void testGetDefinitionNames() {
+        DefinitionKey mainKey = this.createKey(TestType.class);
+        DefinitionKey listKey = this.createKey(List.class, String.class);
+        DefinitionKey stringKey = this.createKey(String.class);
+        DefinitionKey collidingKey1 = this.createKey(Nested.TestType.class);
+        DefinitionKey collidingKey2 = this.createKey(Other.TestType.class);
+        DefinitionKey mainCollidingKey = this.createKey(Other.String.class);
+        Map<DefinitionKey, String> result = this.namingService.getDefinitionNames(mainKey,
+                Arrays.asList(mainKey, listKey, stringKey, collidingKey1, collidingKey2, mainCollidingKey));
+
+        Map<DefinitionKey, String> expectedResult = new LinkedHashMap<>();
+        expectedResult.put(listKey, "List(String)");
+        // only two definitions with the same name, but none of them is the main schema
+        expectedResult.put(stringKey, "String-1");
+        expectedResult.put(mainCollidingKey, "String-2");
+        // three definitions with the same name, of which one is the main schema: counter in the order the keys were given
+        expectedResult.put(mainKey, "TestType-1");
+        expectedResult.put(collidingKey1, "TestType-2");
+        expectedResult.put(collidingKey2, "TestType-3");
+        Assert.assertEquals(expectedResult, result);
+        Assert.assertEquals(Arrays.asList(expectedResult.keySet().toArray()), Arrays.asList(result.keySet().toArray()));
+    }
+
+    @Test
+    public void testGetDefinitionNames_mainSchemaWithSameName() {
+        DefinitionKey mainKey = this.createKey(TestType.class);
+        DefinitionKey collidingKey = this.createKey(Nested.TestType.class);
+        Map<DefinitionKey, String> result = this.namingService.getDefinitionNames(mainKey, Arrays.asList(mainKey, collidingKey));
+
+        Assert.assertEquals("TestType", result.get(mainKey));
+        Assert.assertEquals("TestType", result.get(collidingKey));
+    }
+
+    private static class TestType {
+    }
+
+    private static class Nested {
+
+        private static class TestType {
+        }
+    }
+
+    private static class Other {
+
+        private static class TestType {
+        }
+
+        private static class String {
+        }
+    }
+}
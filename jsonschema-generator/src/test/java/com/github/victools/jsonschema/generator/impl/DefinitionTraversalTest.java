@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.TypeResolver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link DefinitionTraversal} class.
+ */
+public class DefinitionTraversalTest {
+
+    private static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+
+    private static DefinitionKey key(Class<?> type) {
+        return new DefinitionKey(TYPE_RESOLVER.resolve(type), null);
+    }
+
+    @Test
+    public void testSchedule_recursive() {
+        DefinitionTraversal traversal = new DefinitionTraversal(false, Collections.emptyList());
+        List<String> populated = new ArrayList<>();
+        traversal.schedule(key(String.class), () -> {
+            traversal.schedule(key(Integer.class), () -> populated.add("Integer"));
+            populated.add("String");
+        });
+        Assert.assertEquals(Arrays.asList("Integer", "String"), populated);
+    }
+
+    @Test
+    public void testSchedule_iterative() {
+        List<Integer> progress = new ArrayList<>();
+        DefinitionTraversal traversal = new DefinitionTraversal(true, Collections.singletonList((type, populatedCount, pendingCount) -> {
+            progress.add(populatedCount);
+            progress.add(pendingCount);
+        }));
+        List<String> populated = new ArrayList<>();
+        traversal.schedule(key(String.class), () -> {
+            traversal.schedule(key(Integer.class), () -> populated.add("Integer"));
+            populated.add("String");
+        });
+        Assert.assertTrue(populated.isEmpty());
+
+        traversal.populatePendingDefinitions();
+        Assert.assertEquals(Arrays.asList("String", "Integer"), populated);
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 0), progress);
+    }
+
+    @Test
+    public void testSortInTraversalOrder() {
+        DefinitionTraversal traversal = new DefinitionTraversal(true, Collections.emptyList());
+        // Object -> String, Integer; String -> Long, Object; Integer -> Long
+        traversal.switchCurrentDefinition(key(Object.class));
+        traversal.recordReference(key(String.class));
+        traversal.recordReference(key(Integer.class));
+        traversal.switchCurrentDefinition(key(String.class));
+        traversal.recordReference(key(Long.class));
+        traversal.recordReference(key(Object.class));
+        traversal.switchCurrentDefinition(key(Integer.class));
+        traversal.recordReference(key(Long.class));
+
+        Set<DefinitionKey> definedKeys = new LinkedHashSet<>(Arrays.asList(key(Boolean.class), key(Object.class), key(Integer.class),
+                key(String.class), key(Long.class)));
+        Set<DefinitionKey> result = traversal.sortInTraversalOrder(key(Object.class), definedKeys);
+        Assert.assertEquals(Arrays.asList(key(Object.class), key(String.class), key(Long.class), key(Integer.class), key(Boolean.class)),
+                new ArrayList<>(result));
+    }
+}
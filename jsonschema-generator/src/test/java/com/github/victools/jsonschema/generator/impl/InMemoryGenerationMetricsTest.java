@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.GenerationMetricsListener;
+import com.github.victools.jsonschema.generator.GenerationPhase;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link InMemoryGenerationMetrics} class.
+ */
+public class InMemoryGenerationMetricsTest {
+
+    private SchemaGeneratorConfigBuilder configBuilder;
+
+    @Before
+    public void setUp() {
+        this.configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.DEFINITION_DEDUPLICATION_AT_THE_END);
+    }
+
+    @Test
+    public void testOnPhaseCompleted_allPhasesReported() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        this.configBuilder.forTypesInGeneral().withGenerationMetricsListener(metrics);
+        new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            Assert.assertTrue(phase.name(), metrics.getOccurrences(phase) > 0);
+            Assert.assertTrue(phase.name(), metrics.getMaximumDuration(phase, TimeUnit.NANOSECONDS) >= 0);
+            Assert.assertTrue(phase.name(), metrics.getTotalDuration(phase, TimeUnit.NANOSECONDS)
+                    >= metrics.getMaximumDuration(phase, TimeUnit.NANOSECONDS));
+        }
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.TYPE_RESOLUTION));
+        Assert.assertEquals(1, metrics.getTotalCount(GenerationPhase.TYPE_RESOLUTION));
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.REFERENCE_RESOLUTION));
+        // fields of TestOrder and TestItem
+        Assert.assertTrue(metrics.getTotalCount(GenerationPhase.MEMBER_COLLECTION) >= 5);
+        // main schema, its three properties and the array's items as well as TestItem in the "$defs" and its two properties
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.SCHEMA_PART_FINALISATION));
+        Assert.assertEquals(8, metrics.getTotalCount(GenerationPhase.SCHEMA_PART_FINALISATION));
+        // each clean-up step is being reported once, but there is nothing to clean-up
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.ALLOF_CLEANUP));
+        Assert.assertEquals(0, metrics.getTotalCount(GenerationPhase.ALLOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.ANYOF_CLEANUP));
+        Assert.assertEquals(0, metrics.getTotalCount(GenerationPhase.ANYOF_CLEANUP));
+        Assert.assertTrue(metrics.getTotalDuration(GenerationPhase.SCHEMA_PART_FINALISATION, TimeUnit.NANOSECONDS)
+                >= metrics.getTotalDuration(GenerationPhase.ALLOF_CLEANUP, TimeUnit.NANOSECONDS)
+                + metrics.getTotalDuration(GenerationPhase.ANYOF_CLEANUP, TimeUnit.NANOSECONDS));
+        // only TestItem is in the "$defs"
+        Assert.assertEquals(1, metrics.getTotalCount(GenerationPhase.DEFINITION_DEDUPLICATION));
+    }
+
+    @Test
+    public void testOnPhaseCompleted_cleanUpStepsReportedSeparately() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        this.configBuilder.forTypesInGeneral().withGenerationMetricsListener(metrics);
+        this.configBuilder.forFields().withInstanceAttributeOverride((fieldSchema, field) -> {
+            if ("reference".equals(field.getName())) {
+                // an "allOf" that can be merged and an "anyOf" with a nested wrapper that can be reduced
+                fieldSchema.withArray("allOf").addObject().put("description", "order reference");
+                fieldSchema.withArray("anyOf").addObject().withArray("anyOf").addObject().put("minLength", 1);
+            }
+        });
+        JsonNode result = new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+
+        Assert.assertEquals("{\"type\":\"string\",\"anyOf\":[{\"minLength\":1}],\"description\":\"order reference\"}",
+                result.get("properties").get("reference").toString());
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.ALLOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getTotalCount(GenerationPhase.ALLOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.ANYOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getTotalCount(GenerationPhase.ANYOF_CLEANUP));
+    }
+
+    @Test
+    public void testOnPhaseCompleted_allOfCleanUpNotReportedWhenDisabled() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        this.configBuilder.without(Option.ALLOF_CLEANUP_AT_THE_END).forTypesInGeneral().withGenerationMetricsListener(metrics);
+        new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+
+        Assert.assertEquals(0, metrics.getOccurrences(GenerationPhase.ALLOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.ANYOF_CLEANUP));
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.SCHEMA_PART_FINALISATION));
+    }
+
+    @Test
+    public void testOnPhaseCompleted_sameResultWithoutListener() {
+        JsonNode expectedResult = new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+        this.configBuilder.forTypesInGeneral().withGenerationMetricsListener(new InMemoryGenerationMetrics());
+        JsonNode result = new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+
+        Assert.assertEquals(expectedResult.toString(), result.toString());
+    }
+
+    @Test
+    public void testGetGenerationMetricsListener_noListener() {
+        SchemaGeneratorConfig config = this.configBuilder.build();
+
+        Assert.assertSame(GenerationMetricsListener.NO_OP, config.getGenerationMetricsListener());
+        Assert.assertFalse(new GenerationMetricsRecorder(config.getGenerationMetricsListener()).isEnabled());
+        Assert.assertEquals(0L, new GenerationMetricsRecorder(null).start());
+    }
+
+    @Test
+    public void testGetGenerationMetricsListener_multipleListeners() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        AtomicInteger typeResolutionCount = new AtomicInteger();
+        this.configBuilder.forTypesInGeneral()
+                .withGenerationMetricsListener(metrics)
+                .withGenerationMetricsListener((phase, durationNanos, count) -> {
+                    if (phase == GenerationPhase.TYPE_RESOLUTION) {
+                        typeResolutionCount.incrementAndGet();
+                    }
+                });
+        SchemaGeneratorConfig config = this.configBuilder.build();
+        new SchemaGenerator(config).generateSchema(TestOrder.class);
+
+        Assert.assertEquals(1, typeResolutionCount.get());
+        Assert.assertEquals(1, metrics.getOccurrences(GenerationPhase.TYPE_RESOLUTION));
+        // the listeners are only being combined once
+        Assert.assertSame(config.getGenerationMetricsListener(), config.getGenerationMetricsListener());
+    }
+
+    @Test
+    public void testReset() {
+        InMemoryGenerationMetrics metrics = new InMemoryGenerationMetrics();
+        metrics.onPhaseCompleted(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.MILLISECONDS.toNanos(3), 2);
+        metrics.onPhaseCompleted(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.MILLISECONDS.toNanos(5), 1);
+
+        Assert.assertEquals(2, metrics.getOccurrences(GenerationPhase.ATTRIBUTE_COLLECTION));
+        Assert.assertEquals(8, metrics.getTotalDuration(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(5, metrics.getMaximumDuration(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(3, metrics.getTotalCount(GenerationPhase.ATTRIBUTE_COLLECTION));
+        Assert.assertEquals(0, metrics.getOccurrences(GenerationPhase.MEMBER_COLLECTION));
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getOccurrences(GenerationPhase.ATTRIBUTE_COLLECTION));
+        Assert.assertEquals(0, metrics.getTotalDuration(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.NANOSECONDS));
+        Assert.assertEquals(0, metrics.getMaximumDuration(GenerationPhase.ATTRIBUTE_COLLECTION, TimeUnit.NANOSECONDS));
+        Assert.assertEquals(0, metrics.getTotalCount(GenerationPhase.ATTRIBUTE_COLLECTION));
+    }
+
+    private static class TestOrder {
+
+        public String reference;
+        public List<TestItem> items;
+        public TestItem mainItem;
+    }
+
+    private static class TestItem {
+
+        public String name;
+        public int quantity;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link RequestCoalescer} class.
+ */
+public class RequestCoalescerTest {
+
+    private ResolvedType type;
+    private ExecutorService executor;
+    private AtomicInteger generationCount;
+
+    @Before
+    public void setUp() {
+        this.type = new TypeResolver().resolve(String.class);
+        this.executor = Executors.newCachedThreadPool();
+        this.generationCount = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    private JsonNode generate(CountDownLatch startedSignal, CountDownLatch releaseSignal) {
+        this.generationCount.incrementAndGet();
+        startedSignal.countDown();
+        try {
+            releaseSignal.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return JsonNodeFactory.instance.objectNode().put("type", "string");
+    }
+
+    private static void awaitWaitingThreads(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_negativeTimeout() {
+        new RequestCoalescer(-1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_negativeStatisticsSize() {
+        new RequestCoalescer(1, TimeUnit.SECONDS, -1);
+    }
+
+    @Test
+    public void testGenerate_statisticsBounded() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.SECONDS, 2);
+        TypeResolver typeResolver = new TypeResolver();
+        ResolvedType integerType = typeResolver.resolve(Integer.class);
+        ResolvedType booleanType = typeResolver.resolve(Boolean.class);
+        CountDownLatch noWait = new CountDownLatch(0);
+        coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), noWait));
+        coalescer.generate(integerType, () -> this.generate(new CountDownLatch(1), noWait));
+        // accessing the first type again, to evict the second one instead
+        coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), noWait));
+        coalescer.generate(booleanType, () -> this.generate(new CountDownLatch(1), noWait));
+
+        Assert.assertEquals(2, coalescer.getStatistics().size());
+        Assert.assertEquals(2, coalescer.getStatistics(this.type).getGenerationCount());
+        Assert.assertNull(coalescer.getStatistics(integerType));
+        Assert.assertEquals(1, coalescer.getStatistics(booleanType).getGenerationCount());
+        Assert.assertEquals(4, coalescer.getTotalStatistics().getGenerationCount());
+        Assert.assertEquals(0, coalescer.getTotalStatistics().getCoalescedCount());
+    }
+
+    @Test
+    public void testGenerate_onlyTotalStatistics() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.SECONDS, 0);
+        coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), new CountDownLatch(0)));
+
+        Assert.assertTrue(coalescer.getStatistics().isEmpty());
+        Assert.assertNull(coalescer.getStatistics(this.type));
+        Assert.assertEquals(1, coalescer.getTotalStatistics().getGenerationCount());
+    }
+
+    @Test
+    public void testGenerate_sequential() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.SECONDS);
+        CountDownLatch noWait = new CountDownLatch(0);
+        JsonNode first = coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), noWait));
+        JsonNode second = coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), noWait));
+
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, coalescer.getStatistics(this.type).getGenerationCount());
+        Assert.assertEquals(0, coalescer.getStatistics(this.type).getCoalescedCount());
+        Assert.assertEquals(0, coalescer.getStatistics(this.type).getTimeoutCount());
+    }
+
+    @Test
+    public void testGenerate_concurrent() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(10, TimeUnit.SECONDS);
+        CountDownLatch startedSignal = new CountDownLatch(1);
+        CountDownLatch releaseSignal = new CountDownLatch(1);
+        Future<JsonNode> leaderResult = this.executor.submit(() -> coalescer.generate(this.type, () -> this.generate(startedSignal, releaseSignal)));
+        Assert.assertTrue(startedSignal.await(10, TimeUnit.SECONDS));
+
+        int waiterCount = 3;
+        List<Thread> waitingThreads = new ArrayList<>();
+        List<JsonNode> waiterResults = new ArrayList<>();
+        for (int index = 0; index < waiterCount; index++) {
+            Thread waitingThread = new Thread(() -> {
+                JsonNode result = coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), releaseSignal));
+                synchronized (waiterResults) {
+                    waiterResults.add(result);
+                }
+            });
+            waitingThread.start();
+            waitingThreads.add(waitingThread);
+        }
+        awaitWaitingThreads(waitingThreads);
+        releaseSignal.countDown();
+        for (Thread waitingThread : waitingThreads) {
+            waitingThread.join(10000);
+        }
+
+        JsonNode result = leaderResult.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(waiterCount, waiterResults.size());
+        for (JsonNode waiterResult : waiterResults) {
+            Assert.assertEquals(result, waiterResult);
+            Assert.assertNotSame(result, waiterResult);
+        }
+        // each caller received its own instance, that can be modified independently
+        ((ObjectNode) result).put("title", "modified");
+        Assert.assertFalse(waiterResults.get(0).has("title"));
+
+        Assert.assertEquals(1, this.generationCount.get());
+        RequestCoalescer.Statistics statistics = coalescer.getStatistics(this.type);
+        Assert.assertEquals(1, statistics.getGenerationCount());
+        Assert.assertEquals(waiterCount, statistics.getCoalescedCount());
+        Assert.assertEquals(0, statistics.getTimeoutCount());
+        Assert.assertEquals(waiterCount, coalescer.getTotalStatistics().getCoalescedCount());
+    }
+
+    @Test
+    public void testGenerate_timeout() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(0, TimeUnit.MILLISECONDS);
+        CountDownLatch startedSignal = new CountDownLatch(1);
+        CountDownLatch releaseSignal = new CountDownLatch(1);
+        Future<JsonNode> leaderResult = this.executor.submit(() -> coalescer.generate(this.type, () -> this.generate(startedSignal, releaseSignal)));
+        Assert.assertTrue(startedSignal.await(10, TimeUnit.SECONDS));
+
+        JsonNode ownResult = coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), new CountDownLatch(0)));
+        releaseSignal.countDown();
+
+        Assert.assertEquals(leaderResult.get(10, TimeUnit.SECONDS), ownResult);
+        Assert.assertEquals(2, this.generationCount.get());
+        Assert.assertEquals(2, coalescer.getStatistics(this.type).getGenerationCount());
+        Assert.assertEquals(0, coalescer.getStatistics(this.type).getCoalescedCount());
+        Assert.assertEquals(1, coalescer.getStatistics(this.type).getTimeoutCount());
+    }
+
+    @Test
+    public void testGenerate_failure() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.SECONDS);
+        IllegalStateException failure = new IllegalStateException("test failure");
+        try {
+            coalescer.generate(this.type, () -> {
+                throw failure;
+            });
+            Assert.fail("expected exception was not thrown");
+        } catch (IllegalStateException ex) {
+            Assert.assertSame(failure, ex);
+        }
+        // the failed generation is not being remembered
+        Assert.assertNotNull(coalescer.generate(this.type, () -> this.generate(new CountDownLatch(1), new CountDownLatch(0))));
+        Assert.assertEquals(2, coalescer.getStatistics(this.type).getGenerationCount());
+        Assert.assertEquals(1, coalescer.getStatistics().size());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+/**
+ * Test for the {@link SchemaCleanUpUtils} class.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class SchemaCleanUpUtilsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SchemaCleanUpUtils createCleanUpUtils(SchemaVersion schemaVersion, boolean withAllOfCleanUp) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(this.objectMapper, schemaVersion, OptionPreset.PLAIN_JSON);
+        if (withAllOfCleanUp) {
+            configBuilder.with(Option.ALLOF_CLEANUP_AT_THE_END);
+        } else {
+            configBuilder.without(Option.ALLOF_CLEANUP_AT_THE_END);
+        }
+        return new SchemaCleanUpUtils(configBuilder.build());
+    }
+
+    private ObjectNode parse(String json) throws Exception {
+        return (ObjectNode) this.objectMapper.readTree(json.replace('\'', '"'));
+    }
+
+    Object parametersForTestFinaliseSchemaParts() {
+        return new Object[][]{
+            {"allOf merged", SchemaVersion.DRAFT_7, true,
+                "{'allOf':[{'type':'object'},{'title':'x'}]}",
+                "{'type':'object','title':'x'}"},
+            {"allOf kept if clean-up disabled", SchemaVersion.DRAFT_7, false,
+                "{'allOf':[{'type':'object'},{'title':'x'}]}",
+                "{'allOf':[{'type':'object'},{'title':'x'}]}"},
+            {"allOf kept on duplicate field", SchemaVersion.DRAFT_7, true,
+                "{'title':'y','allOf':[{'type':'object'},{'title':'x'}]}",
+                "{'title':'y','allOf':[{'type':'object'},{'title':'x'}]}"},
+            {"allOf kept with $ref in Draft 7", SchemaVersion.DRAFT_7, true,
+                "{'allOf':[{'$ref':'#'},{'title':'x'}]}",
+                "{'allOf':[{'$ref':'#'},{'title':'x'}]}"},
+            {"allOf merged with $ref in Draft 2019-09", SchemaVersion.DRAFT_2019_09, true,
+                "{'allOf':[{'$ref':'#'},{'title':'x'}]}",
+                "{'$ref':'#','title':'x'}"},
+            {"nested allOf merged", SchemaVersion.DRAFT_7, true,
+                "{'properties':{'a':{'allOf':[{'allOf':[{'type':'string'},{'format':'date'}]},{'title':'x'}]}}}",
+                "{'properties':{'a':{'type':'string','format':'date','title':'x'}}}"},
+            {"nested anyOf reduced", SchemaVersion.DRAFT_7, false,
+                "{'anyOf':[{'anyOf':[{'anyOf':[{'type':'null'},{'type':'string'}]},{'type':'integer'}]},{'type':'boolean'}]}",
+                "{'anyOf':[{'type':'null'},{'type':'string'},{'type':'integer'},{'type':'boolean'}]}"},
+            {"anyOf reduced after allOf merged", SchemaVersion.DRAFT_7, true,
+                "{'items':{'anyOf':[{'allOf':[{'anyOf':[{'type':'null'},{'type':'string'}]}]},{'type':'integer'}]}}",
+                "{'items':{'anyOf':[{'type':'null'},{'type':'string'},{'type':'integer'}]}}"},
+            {"definitions cleaned-up", SchemaVersion.DRAFT_2019_09, true,
+                "{'$defs':{'A':{'allOf':[{'type':'object'},{'title':'x'}]}},'$ref':'#/$defs/A'}",
+                "{'$defs':{'A':{'type':'object','title':'x'}},'$ref':'#/$defs/A'}"}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testFinaliseSchemaParts(String testCaseName, SchemaVersion schemaVersion, boolean withAllOfCleanUp, String input,
+            String expectedResult) throws Exception {
+        ObjectNode schema = this.parse(input);
+        this.createCleanUpUtils(schemaVersion, withAllOfCleanUp).finaliseSchemaParts(schema);
+        JSONAssert.assertEquals(testCaseName, this.parse(expectedResult).toString(), schema.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    public void testFinaliseSchemaParts_sharedNodes() throws Exception {
+        ObjectNode sharedNode = this.parse("{'anyOf':[{'anyOf':[{'type':'null'},{'type':'string'}]},{'type':'integer'}]}");
+        ObjectNode schema = this.objectMapper.createObjectNode();
+        schema.putObject("properties")
+                .set("a", sharedNode);
+        ((ObjectNode) schema.get("properties")).putObject("b").putArray("allOf").add(sharedNode).addObject().put("title", "x");
+        this.createCleanUpUtils(SchemaVersion.DRAFT_7, true).finaliseSchemaParts(schema);
+
+        ObjectNode expectedNode = this.parse("{'anyOf':[{'type':'null'},{'type':'string'},{'type':'integer'}]}");
+        Assert.assertEquals(expectedNode, schema.get("properties").get("a"));
+        Assert.assertSame(sharedNode.get("anyOf"), schema.get("properties").get("b").get("anyOf"));
+        Assert.assertEquals("x", schema.get("properties").get("b").get("title").asText());
+    }
+
+    @Test
+    public void testDeduplicateDefinitions() throws Exception {
+        ObjectNode schema = this.parse("{'definitions':{"
+                + "'A':{'type':'object','properties':{'x':{'$ref':'#/definitions/C'}}},"
+                + "'B':{'properties':{'x':{'$ref':'#/definitions/D'}},'type':'object'},"
+                + "'C':{'type':'string'},"
+                + "'D':{'type':'string'},"
+                + "'E':{'type':'string','title':'e'}},"
+                + "'properties':{'a':{'$ref':'#/definitions/A'},'b':{'items':{'$ref':'#/definitions/B'}},'d':{'$ref':'#/definitions/D'},"
+                + "'e':{'$ref':'#/definitions/E'}}}");
+        this.createCleanUpUtils(SchemaVersion.DRAFT_7, true).deduplicateDefinitions(schema);
+
+        ObjectNode expectedSchema = this.parse("{'definitions':{"
+                + "'A':{'type':'object','properties':{'x':{'$ref':'#/definitions/C'}}},"
+                + "'C':{'type':'string'},"
+                + "'E':{'type':'string','title':'e'}},"
+                + "'properties':{'a':{'$ref':'#/definitions/A'},'b':{'items':{'$ref':'#/definitions/A'}},'d':{'$ref':'#/definitions/C'},"
+                + "'e':{'$ref':'#/definitions/E'}}}");
+        JSONAssert.assertEquals(expectedSchema.toString(), schema.toString(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    public void testDeduplicateDefinitions_withoutDuplicates() throws Exception {
+        String input = "{'$defs':{'A':{'type':'string'},'B':{'type':'integer'}},'items':[{'$ref':'#/$defs/A'},{'$ref':'#/$defs/B'}]}";
+        ObjectNode schema = this.parse(input);
+        this.createCleanUpUtils(SchemaVersion.DRAFT_2019_09, true).deduplicateDefinitions(schema);
+
+        Assert.assertEquals(this.parse(input), schema);
+    }
+}
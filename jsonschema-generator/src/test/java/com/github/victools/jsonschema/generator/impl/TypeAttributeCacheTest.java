@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the {@link TypeAttributeCache} class.
+ */
+public class TypeAttributeCacheTest {
+
+    private Map<Class<?>, AtomicInteger> descriptionLookUps;
+    private SchemaGeneratorConfigBuilder configBuilder;
+
+    @Before
+    public void setUp() {
+        this.descriptionLookUps = new ConcurrentHashMap<>();
+        this.configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON);
+        this.configBuilder.forTypesInGeneral()
+                .withCustomDefinitionProvider((javaType, context) -> {
+                    if (javaType.getErasedType() != TestStatus.class) {
+                        return null;
+                    }
+                    ObjectNode enumDefinition = context.getGeneratorConfig().createObjectNode().put("type", "string");
+                    enumDefinition.putArray("enum").add("OPEN").add("CLOSED");
+                    return new CustomDefinition(enumDefinition, CustomDefinition.INLINE_DEFINITION, CustomDefinition.INCLUDING_ATTRIBUTES);
+                })
+                .withDescriptionResolver(scope -> {
+                    this.descriptionLookUps.computeIfAbsent(scope.getType().getErasedType(), type -> new AtomicInteger()).incrementAndGet();
+                    return scope.getType().isInstanceOf(Enum.class) ? "one of the known states" : null;
+                })
+                .withAdditionalPropertiesResolver(scope -> scope.getType().getErasedType() == TestMoney.class ? TestNote.class : null);
+    }
+
+    private int getDescriptionLookUpCount(Class<?> type) {
+        AtomicInteger count = this.descriptionLookUps.get(type);
+        return count == null ? 0 : count.get();
+    }
+
+    @Test
+    public void testGenerateSchema_sameResult() {
+        JsonNode expectedResult = new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.with(Option.CACHED_TYPE_ATTRIBUTES).build());
+
+        Assert.assertEquals(expectedResult.toString(), generator.generateSchema(TestOrder.class).toString());
+        Assert.assertEquals(expectedResult.toString(), generator.generateSchema(TestOrder.class).toString());
+    }
+
+    @Test
+    public void testGenerateSchema_attributesCollectedOnce() {
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.with(Option.CACHED_TYPE_ATTRIBUTES).build());
+        TypeAttributeCache cache = generator.getTypeAttributeCache();
+        generator.generateSchema(TestStatus.class);
+        generator.generateSchema(TestStatus.class);
+
+        Assert.assertEquals(1, this.getDescriptionLookUpCount(TestStatus.class));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testGenerateSchema_memberAttributesNotCached() {
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.with(Option.CACHED_TYPE_ATTRIBUTES).build());
+        generator.generateSchema(TestOrder.class);
+        generator.generateSchema(TestOrder.class);
+
+        // the main type's attributes are collected once
+        Assert.assertEquals(1, this.getDescriptionLookUpCount(TestOrder.class));
+        // the inline custom definition's attributes are collected for each of the three properties referring to it, in each generation
+        Assert.assertEquals(6, this.getDescriptionLookUpCount(TestStatus.class));
+    }
+
+    @Test
+    public void testGenerateSchema_memberSpecificAttributes() {
+        this.configBuilder.forTypesInGeneral()
+                .withTitleResolver(scope -> scope instanceof FieldScope ? ((FieldScope) scope).getName() : null);
+        JsonNode expectedResult = new SchemaGenerator(this.configBuilder.build()).generateSchema(TestOrder.class);
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.with(Option.CACHED_TYPE_ATTRIBUTES).build());
+        JsonNode result = generator.generateSchema(TestOrder.class);
+
+        Assert.assertEquals(expectedResult.toString(), result.toString());
+        JsonNode properties = result.get("properties");
+        Assert.assertEquals("status", properties.get("status").get("title").asText());
+        Assert.assertEquals("previousStatus", properties.get("previousStatus").get("title").asText());
+    }
+
+    @Test
+    public void testGenerateSchema_newCacheForNewConfig() {
+        SchemaGenerator generator = new SchemaGenerator(this.configBuilder.with(Option.CACHED_TYPE_ATTRIBUTES).build());
+        Assert.assertFalse(generator.generateSchema(TestStatus.class).has("title"));
+
+        // a built configuration cannot be changed anymore, i.e. an additional resolver requires a new configuration and generator
+        this.configBuilder.forTypesInGeneral()
+                .withTitleResolver(scope -> scope.getType().getErasedType().getSimpleName());
+        SchemaGenerator otherGenerator = new SchemaGenerator(this.configBuilder.build());
+
+        Assert.assertNotSame(generator.getTypeAttributeCache(), otherGenerator.getTypeAttributeCache());
+        Assert.assertFalse(generator.generateSchema(TestStatus.class).has("title"));
+        Assert.assertEquals("TestStatus", otherGenerator.generateSchema(TestStatus.class).get("title").asText());
+    }
+
+    private static class TestOrder {
+
+        public TestStatus status;
+        public TestStatus previousStatus;
+        public List<TestStatus> history;
+        public TestMoney total;
+        public TestMoney discount;
+    }
+
+    private enum TestStatus {
+        OPEN, CLOSED;
+    }
+
+    private static class TestMoney {
+
+        public BigDecimal amount;
+        public String currency;
+    }
+
+    private static class TestNote {
+
+        public String text;
+    }
+}
@@ -16,16 +16,26 @@
 
 package com.github.victools.jsonschema.generator.impl.module;
 
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.CustomDefinition;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.MethodScope;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -72,4 +82,50 @@ public class SimpleTypeModuleTest {
 
         Mockito.verifyNoMoreInteractions(this.builder);
     }
+
+    @Test
+    public void testCustomDefinitionProvider_sameDefinitions() {
+        Mockito.when(this.builder.getObjectMapper()).thenReturn(new ObjectMapper());
+        SimpleTypeModule.forPrimitiveTypes().applyToConfigBuilder(this.builder);
+        ArgumentCaptor<CustomDefinitionProviderV2> captor = ArgumentCaptor.forClass(CustomDefinitionProviderV2.class);
+        Mockito.verify(this.builder).with(captor.capture());
+        CustomDefinitionProviderV2 provider = captor.getValue();
+
+        SchemaGenerationContext context = Mockito.mock(SchemaGenerationContext.class);
+        Mockito.when(context.getKeyword(Mockito.any()))
+                .thenAnswer(invocation -> ((SchemaKeyword) invocation.getArgument(0)).forVersion(SchemaVersion.DRAFT_7));
+        TypeResolver typeResolver = new TypeResolver();
+        CustomDefinition stringDefinition = provider.provideCustomSchemaDefinition(typeResolver.resolve(String.class), context);
+        CustomDefinition charDefinition = provider.provideCustomSchemaDefinition(typeResolver.resolve(char.class), context);
+        CustomDefinition integerDefinition = provider.provideCustomSchemaDefinition(typeResolver.resolve(Integer.class), context);
+
+        Assert.assertEquals("{\"type\":\"string\"}", stringDefinition.getValue().toString());
+        Assert.assertTrue(stringDefinition.isMeantToBeInline());
+        Assert.assertEquals(stringDefinition.getValue(), charDefinition.getValue());
+        Assert.assertEquals("{\"type\":\"integer\"}", integerDefinition.getValue().toString());
+        CustomDefinition intDefinition = provider.provideCustomSchemaDefinition(typeResolver.resolve(int.class), context);
+        Assert.assertEquals(integerDefinition.getValue(), intDefinition.getValue());
+        Assert.assertNull(provider.provideCustomSchemaDefinition(typeResolver.resolve(SimpleTypeModuleTest.class), context));
+    }
+
+    @Test
+    public void testCustomDefinitionProvider_modifiableDefinition() {
+        Mockito.when(this.builder.getObjectMapper()).thenReturn(new ObjectMapper());
+        SimpleTypeModule.forPrimitiveTypes().applyToConfigBuilder(this.builder);
+        ArgumentCaptor<CustomDefinitionProviderV2> captor = ArgumentCaptor.forClass(CustomDefinitionProviderV2.class);
+        Mockito.verify(this.builder).with(captor.capture());
+        CustomDefinitionProviderV2 provider = captor.getValue();
+        SchemaGenerationContext context = Mockito.mock(SchemaGenerationContext.class);
+        Mockito.when(context.getKeyword(Mockito.any()))
+                .thenAnswer(invocation -> ((SchemaKeyword) invocation.getArgument(0)).forVersion(SchemaVersion.DRAFT_7));
+        ResolvedType stringType = new TypeResolver().resolve(String.class);
+
+        ObjectNode firstNode = provider.provideCustomSchemaDefinition(stringType, context).getValue();
+        firstNode.put("title", "modified");
+        Assert.assertEquals("{\"type\":\"string\",\"title\":\"modified\"}", firstNode.toString());
+
+        ObjectNode secondNode = provider.provideCustomSchemaDefinition(stringType, context).getValue();
+        Assert.assertNotSame(firstNode, secondNode);
+        Assert.assertEquals("{\"type\":\"string\"}", secondNode.toString());
+    }
 }
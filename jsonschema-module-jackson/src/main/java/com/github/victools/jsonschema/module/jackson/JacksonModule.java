@@ -21,21 +21,27 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.AnnotationDependent;
+import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Module;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
 import com.github.victools.jsonschema.generator.TypeScope;
+import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Module for setting up schema generation aspects based on {@code jackson-annotations}:
@@ -50,7 +56,7 @@ public class JacksonModule implements Module {
 
     private final Set<JacksonOption> options;
     private ObjectMapper objectMapper;
-    private final Map<Class<?>, BeanDescription> beanDescriptions = new HashMap<>();
+    private final Map<Class<?>, BeanDescription> beanDescriptions = new ConcurrentHashMap<>();
 
     /**
      * Constructor, without any additional options.
@@ -74,8 +80,8 @@ public class JacksonModule implements Module {
     public void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder) {
         this.objectMapper = builder.getObjectMapper();
         SchemaGeneratorConfigPart<FieldScope> fieldConfigPart = builder.forFields();
-        fieldConfigPart.withDescriptionResolver(this::resolveDescription)
-                .withPropertyNameOverrideResolver(this::getPropertyNameOverride)
+        fieldConfigPart.withDescriptionResolver(this.annotationDependentResolver(this::resolveDescription, JsonPropertyDescription.class))
+                .withPropertyNameOverrideResolver(this.annotationDependentResolver(this::getPropertyNameOverride, JsonProperty.class))
                 .withIgnoreCheck(this::shouldIgnoreField);
         SchemaGeneratorGeneralConfigPart generalConfigPart = builder.forTypesInGeneral();
         generalConfigPart.withDescriptionResolver(this::resolveDescriptionForType);
@@ -90,17 +96,37 @@ public class JacksonModule implements Module {
             SchemaGeneratorConfigPart<MethodScope> methodConfigPart = builder.forMethods();
             if (lookUpSubtypes) {
                 generalConfigPart.withSubtypeResolver(subtypeResolver);
-                fieldConfigPart.withTargetTypeOverridesResolver(subtypeResolver::findTargetTypeOverrides);
-                methodConfigPart.withTargetTypeOverridesResolver(subtypeResolver::findTargetTypeOverrides);
+                fieldConfigPart.withTargetTypeOverridesResolver(AnnotationDependent.resolver(subtypeResolver::findTargetTypeOverrides,
+                        JsonSubTypes.class));
+                methodConfigPart.withTargetTypeOverridesResolver(AnnotationDependent.resolver(subtypeResolver::findTargetTypeOverrides,
+                        JsonSubTypes.class));
             }
             if (includeTypeInfoTransform) {
                 generalConfigPart.withCustomDefinitionProvider(subtypeResolver);
-                fieldConfigPart.withCustomDefinitionProvider(subtypeResolver::provideCustomPropertySchemaDefinition);
-                methodConfigPart.withCustomDefinitionProvider(subtypeResolver::provideCustomPropertySchemaDefinition);
+                fieldConfigPart.withCustomDefinitionProvider(AnnotationDependent.customDefinitionProvider(
+                        subtypeResolver::provideCustomPropertySchemaDefinition, JsonTypeInfo.class));
+                methodConfigPart.withCustomDefinitionProvider(AnnotationDependent.customDefinitionProvider(
+                        subtypeResolver::provideCustomPropertySchemaDefinition, JsonTypeInfo.class));
             }
         }
     }
 
+    /**
+     * Wrap the given field resolver as {@link AnnotationDependent}, unless this module is being extended: a subclass overriding e.g.
+     * {@link #resolveDescription(FieldScope)} may look at other annotations, which should not result in its resolver being skipped.
+     *
+     * @param <M> type of targeted member
+     * @param <R> type of resolved value
+     * @param resolver resolver to register
+     * @param annotationTypes annotation types the resolver is depending on
+     * @return resolver to register (either wrapped as {@link AnnotationDependent} or the given one)
+     */
+    @SafeVarargs
+    private final <M extends MemberScope<?, ?>, R> ConfigFunction<M, R> annotationDependentResolver(ConfigFunction<M, R> resolver,
+            Class<? extends Annotation>... annotationTypes) {
+        return this.getClass() == JacksonModule.class ? AnnotationDependent.resolver(resolver, annotationTypes) : resolver;
+    }
+
     /**
      * Determine the given type's associated "description" in the following order of priority.
      * <ol>
@@ -172,7 +198,7 @@ public class JacksonModule implements Module {
      * @return introspection result of given type's erased class
      */
     protected final BeanDescription getBeanDescriptionForClass(ResolvedType targetType) {
-        // use a map to cater for some caching (and thereby performance improvement)
+        // use a (concurrent) map to cater for some caching (and thereby performance improvement), even when generating multiple schemas in parallel
         return this.beanDescriptions.computeIfAbsent(targetType.getErasedType(),
                 type -> this.objectMapper.getSerializationConfig().introspect(this.objectMapper.getTypeFactory().constructType(type)));
     }
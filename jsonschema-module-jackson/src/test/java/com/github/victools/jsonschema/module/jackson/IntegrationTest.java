@@ -30,7 +30,13 @@ import com.github.victools.jsonschema.generator.SchemaVersion;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
@@ -59,6 +65,35 @@ public class IntegrationTest {
                 loadResource("integration-test-result.json"), rawJsonSchema, JSONCompareMode.STRICT);
     }
 
+    /**
+     * Test a single module instance being used by multiple threads at the same time.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testIntegration_concurrently() throws Exception {
+        JacksonModule module = new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE);
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+        SchemaGenerator generator = new SchemaGenerator(config);
+        String expectedResult = loadResource("integration-test-result.json");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JsonNode>> results = new ArrayList<>();
+            for (int run = 0; run < 20; run++) {
+                results.add(executor.submit(() -> generator.generateSchema(TestClass.class)));
+            }
+            for (Future<JsonNode> result : results) {
+                String rawJsonSchema = result.get(30, TimeUnit.SECONDS).toString();
+                JSONAssert.assertEquals('\n' + rawJsonSchema + '\n', expectedResult, rawJsonSchema, JSONCompareMode.STRICT);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static String loadResource(String resourcePath) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
         try (InputStream inputStream = IntegrationTest.class
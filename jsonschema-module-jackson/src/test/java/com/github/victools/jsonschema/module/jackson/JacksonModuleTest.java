@@ -19,6 +19,7 @@ package com.github.victools.jsonschema.module.jackson;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.github.victools.jsonschema.generator.AnnotationDependent;
 import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.MethodScope;
@@ -192,6 +193,32 @@ public class JacksonModuleTest {
         Assert.assertEquals(expectedDescription, description);
     }
 
+    @Test
+    public void testDescriptionResolverSkippedWithoutAnnotation() {
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withDescriptionResolver(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof AnnotationDependent);
+        Assert.assertNull(this.fieldConfigPart.resolveDescription(new TestType(TestClassForDescription.class).getMemberField("unannotatedField")));
+    }
+
+    @Test
+    public void testDescriptionResolverInSubclass() {
+        new JacksonModule() {
+            @Override
+            protected String resolveDescription(FieldScope field) {
+                String description = super.resolveDescription(field);
+                return description == null ? field.getDeclaredName() + " without description" : description;
+            }
+        }.applyToConfigBuilder(this.configBuilder);
+
+        FieldScope field = new TestType(TestClassForDescription.class).getMemberField("unannotatedField");
+
+        // the overridden resolver does not only depend on the module's annotations, i.e. it must not be skipped
+        Assert.assertEquals("unannotatedField without description", this.fieldConfigPart.resolveDescription(field));
+    }
+
     Object parametersForTestDescriptionForTypeResolver() {
         return new Object[][]{
             {"unannotatedField", null},
@@ -16,6 +16,8 @@
 
 package com.github.victools.jsonschema.module.javax.validation;
 
+import com.github.victools.jsonschema.generator.AnnotationDependent;
+import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
@@ -29,6 +31,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Email;
@@ -97,13 +100,13 @@ public class JavaxValidationModule implements Module {
         SchemaGeneratorConfigPart<FieldScope> fieldConfigPart = builder.forFields();
         this.applyToConfigPart(fieldConfigPart);
         if (this.options.contains(JavaxValidationOption.NOT_NULLABLE_FIELD_IS_REQUIRED)) {
-            fieldConfigPart.withRequiredCheck(this::isRequired);
+            fieldConfigPart.withRequiredCheck(this.annotationDependentCheck(this::isRequired, NotNull.class, NotBlank.class, NotEmpty.class));
         }
 
         SchemaGeneratorConfigPart<MethodScope> methodConfigPart = builder.forMethods();
         this.applyToConfigPart(methodConfigPart);
         if (this.options.contains(JavaxValidationOption.NOT_NULLABLE_METHOD_IS_REQUIRED)) {
-            methodConfigPart.withRequiredCheck(this::isRequired);
+            methodConfigPart.withRequiredCheck(this.annotationDependentCheck(this::isRequired, NotNull.class, NotBlank.class, NotEmpty.class));
         }
     }
 
@@ -113,22 +116,59 @@ public class JavaxValidationModule implements Module {
      * @param configPart config builder part to add configurations to
      */
     private void applyToConfigPart(SchemaGeneratorConfigPart<?> configPart) {
-        configPart.withNullableCheck(this::isNullable);
-        configPart.withArrayMinItemsResolver(this::resolveArrayMinItems);
-        configPart.withArrayMaxItemsResolver(this::resolveArrayMaxItems);
-        configPart.withStringMinLengthResolver(this::resolveStringMinLength);
-        configPart.withStringMaxLengthResolver(this::resolveStringMaxLength);
-        configPart.withStringFormatResolver(this::resolveStringFormat);
-        configPart.withNumberInclusiveMinimumResolver(this::resolveNumberInclusiveMinimum);
-        configPart.withNumberExclusiveMinimumResolver(this::resolveNumberExclusiveMinimum);
-        configPart.withNumberInclusiveMaximumResolver(this::resolveNumberInclusiveMaximum);
-        configPart.withNumberExclusiveMaximumResolver(this::resolveNumberExclusiveMaximum);
+        configPart.withNullableCheck(this.annotationDependentResolver(this::isNullable, NotNull.class, NotBlank.class, NotEmpty.class, Null.class));
+        configPart.withArrayMinItemsResolver(this.annotationDependentResolver(this::resolveArrayMinItems, Size.class, NotEmpty.class));
+        configPart.withArrayMaxItemsResolver(this.annotationDependentResolver(this::resolveArrayMaxItems, Size.class));
+        configPart.withStringMinLengthResolver(this.annotationDependentResolver(this::resolveStringMinLength,
+                Size.class, NotEmpty.class, NotBlank.class));
+        configPart.withStringMaxLengthResolver(this.annotationDependentResolver(this::resolveStringMaxLength, Size.class));
+        configPart.withStringFormatResolver(this.annotationDependentResolver(this::resolveStringFormat, Email.class));
+        configPart.withNumberInclusiveMinimumResolver(this.annotationDependentResolver(this::resolveNumberInclusiveMinimum,
+                Min.class, DecimalMin.class, PositiveOrZero.class));
+        configPart.withNumberExclusiveMinimumResolver(this.annotationDependentResolver(this::resolveNumberExclusiveMinimum,
+                DecimalMin.class, Positive.class));
+        configPart.withNumberInclusiveMaximumResolver(this.annotationDependentResolver(this::resolveNumberInclusiveMaximum,
+                Max.class, DecimalMax.class, NegativeOrZero.class));
+        configPart.withNumberExclusiveMaximumResolver(this.annotationDependentResolver(this::resolveNumberExclusiveMaximum,
+                DecimalMax.class, Negative.class));
 
         if (this.options.contains(JavaxValidationOption.INCLUDE_PATTERN_EXPRESSIONS)) {
-            configPart.withStringPatternResolver(this::resolveStringPattern);
+            configPart.withStringPatternResolver(this.annotationDependentResolver(this::resolveStringPattern, Pattern.class, Email.class));
         }
     }
 
+    /**
+     * Declare the given resolver as only being applicable to members carrying any of the given annotations, allowing it to be skipped for all
+     * other members. This is not done for a subclass, which may override the resolver or {@link #getAnnotationFromFieldOrGetter} in order to
+     * consider other annotations as well.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param <R> type of resolved value
+     * @param resolver resolver to register
+     * @param annotationTypes annotation types the resolver is depending on
+     * @return resolver to register (either wrapped as {@link AnnotationDependent} or the given one)
+     */
+    @SafeVarargs
+    private final <M extends MemberScope<?, ?>, R> ConfigFunction<M, R> annotationDependentResolver(ConfigFunction<M, R> resolver,
+            Class<? extends Annotation>... annotationTypes) {
+        return this.getClass() == JavaxValidationModule.class ? AnnotationDependent.resolver(resolver, annotationTypes) : resolver;
+    }
+
+    /**
+     * Declare the given check as only being applicable to members carrying any of the given annotations (unless in a subclass).
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param check check to register
+     * @param annotationTypes annotation types the check is depending on
+     * @return check to register (either wrapped as {@link AnnotationDependent} or the given one)
+     * @see #annotationDependentResolver(ConfigFunction, Class[])
+     */
+    @SafeVarargs
+    private final <M extends MemberScope<?, ?>> Predicate<M> annotationDependentCheck(Predicate<M> check,
+            Class<? extends Annotation>... annotationTypes) {
+        return this.getClass() == JavaxValidationModule.class ? AnnotationDependent.check(check, annotationTypes) : check;
+    }
+
     /**
      * Retrieves the annotation instance of the given type, either from the field it self or (if not present) from its getter.
      *
@@ -16,15 +16,20 @@
 
 package com.github.victools.jsonschema.module.javax.validation;
 
+import com.github.victools.jsonschema.generator.AnnotationDependent;
 import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
+import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Email;
@@ -381,6 +386,41 @@ public class JavaxValidationModuleTest {
         Assert.assertEquals(expectedMaxLength, maxLength);
     }
 
+    @Test
+    public void testStringLengthResolversSkippedWithoutAnnotation() {
+        new JavaxValidationModule(JavaxValidationOption.NOT_NULLABLE_FIELD_IS_REQUIRED).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, Integer>> maxLengthCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withStringMaxLengthResolver(maxLengthCaptor.capture());
+        Assert.assertTrue(maxLengthCaptor.getValue() instanceof AnnotationDependent);
+        ArgumentCaptor<Predicate<FieldScope>> requiredCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withRequiredCheck(requiredCaptor.capture());
+        Assert.assertTrue(requiredCaptor.getValue() instanceof AnnotationDependent);
+    }
+
+    @Test
+    public void testStringLengthResolversInSubclass() throws Exception {
+        new JavaxValidationModule(JavaxValidationOption.NOT_NULLABLE_FIELD_IS_REQUIRED) {
+            @Override
+            protected <A extends Annotation> A getAnnotationFromFieldOrGetter(MemberScope<?, ?> member, Class<A> annotationClass,
+                    Function<A, Class<?>[]> validationGroupsLookup) {
+                // treat another field's annotations as if they were present on an un-annotated one
+                MemberScope<?, ?> annotatedMember = member.getAnnotation(Size.class) == null
+                        ? new TestType(TestClassForStringProperties.class).getMemberField("nonEmptyMaxSizeHundredString")
+                        : member;
+                return super.getAnnotationFromFieldOrGetter(annotatedMember, annotationClass, validationGroupsLookup);
+            }
+        }.applyToConfigBuilder(this.configBuilder);
+
+        TestType testType = new TestType(TestClassForStringProperties.class);
+        FieldScope field = testType.getMemberField("unannotatedString");
+
+        // the subclass may consider other annotations, i.e. its resolvers/checks must not be skipped
+        Assert.assertEquals(Integer.valueOf(1), this.fieldConfigPart.resolveStringMinLength(field));
+        Assert.assertEquals(Integer.valueOf(100), this.fieldConfigPart.resolveStringMaxLength(field));
+        Assert.assertTrue(this.fieldConfigPart.isRequired(field));
+    }
+
     Object parametersForTestStringFormatAndPatternResolvers() {
         JavaxValidationOption[] onlyPatternOption = new JavaxValidationOption[]{
             JavaxValidationOption.INCLUDE_PATTERN_EXPRESSIONS
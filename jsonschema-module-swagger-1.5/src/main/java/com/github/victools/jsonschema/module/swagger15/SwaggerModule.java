@@ -16,19 +16,24 @@
 
 package com.github.victools.jsonschema.module.swagger15;
 
+import com.github.victools.jsonschema.generator.AnnotationDependent;
+import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.MemberScope;
+import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Module;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.TypeScope;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -61,7 +66,7 @@ public class SwaggerModule implements Module {
         this.applyToConfigPart(fieldConfigPart);
         if (this.options.contains(SwaggerOption.ENABLE_PROPERTY_NAME_OVERRIDES)) {
             fieldConfigPart
-                    .withPropertyNameOverrideResolver(this::resolvePropertyNameOverride);
+                    .withPropertyNameOverrideResolver(this.annotationDependentResolver(this::resolvePropertyNameOverride, ApiModelProperty.class));
         }
         this.applyToConfigPart(builder.forMethods());
 
@@ -82,14 +87,45 @@ public class SwaggerModule implements Module {
      */
     private void applyToConfigPart(SchemaGeneratorConfigPart<?> configPart) {
         if (this.options.contains(SwaggerOption.IGNORING_HIDDEN_PROPERTIES)) {
-            configPart.withIgnoreCheck(this::shouldIgnore);
+            configPart.withIgnoreCheck(this.annotationDependentCheck(this::shouldIgnore, ApiModelProperty.class));
         }
-        configPart.withDescriptionResolver(this::resolveDescription);
-        configPart.withNumberExclusiveMinimumResolver(this::resolveNumberExclusiveMinimum);
-        configPart.withNumberInclusiveMinimumResolver(this::resolveNumberInclusiveMinimum);
-        configPart.withNumberExclusiveMaximumResolver(this::resolveNumberExclusiveMaximum);
-        configPart.withNumberInclusiveMaximumResolver(this::resolveNumberInclusiveMaximum);
-        configPart.withEnumResolver(this::resolveAllowedValues);
+        configPart.withDescriptionResolver(this.annotationDependentResolver(this::resolveDescription, ApiModelProperty.class));
+        configPart.withNumberExclusiveMinimumResolver(this.annotationDependentResolver(this::resolveNumberExclusiveMinimum, ApiModelProperty.class));
+        configPart.withNumberInclusiveMinimumResolver(this.annotationDependentResolver(this::resolveNumberInclusiveMinimum, ApiModelProperty.class));
+        configPart.withNumberExclusiveMaximumResolver(this.annotationDependentResolver(this::resolveNumberExclusiveMaximum, ApiModelProperty.class));
+        configPart.withNumberInclusiveMaximumResolver(this.annotationDependentResolver(this::resolveNumberInclusiveMaximum, ApiModelProperty.class));
+        configPart.withEnumResolver(this.annotationDependentResolver(this::resolveAllowedValues, ApiModelProperty.class));
+    }
+
+    /**
+     * Only let the given resolver be skipped for members without an {@link ApiModelProperty} annotation, if it cannot have been overridden.
+     * A subclass' resolver may also consider other annotations.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param <R> type of resolved value
+     * @param resolver resolver to register
+     * @param annotationTypes annotation types the resolver is depending on
+     * @return resolver to register (either wrapped as {@link AnnotationDependent} or the given one)
+     */
+    @SafeVarargs
+    private final <M extends MemberScope<?, ?>, R> ConfigFunction<M, R> annotationDependentResolver(ConfigFunction<M, R> resolver,
+            Class<? extends Annotation>... annotationTypes) {
+        return this.getClass() == SwaggerModule.class ? AnnotationDependent.resolver(resolver, annotationTypes) : resolver;
+    }
+
+    /**
+     * Only let the given check be skipped for members without an {@link ApiModelProperty} annotation, if it cannot have been overridden.
+     * A subclass' check may also consider other annotations.
+     *
+     * @param <M> type of targeted member (i.e. {@link FieldScope} or {@link MethodScope})
+     * @param check check to register
+     * @param annotationTypes annotation types the check is depending on
+     * @return check to register (either wrapped as {@link AnnotationDependent} or the given one)
+     */
+    @SafeVarargs
+    private final <M extends MemberScope<?, ?>> Predicate<M> annotationDependentCheck(Predicate<M> check,
+            Class<? extends Annotation>... annotationTypes) {
+        return this.getClass() == SwaggerModule.class ? AnnotationDependent.check(check, annotationTypes) : check;
     }
 
     /**
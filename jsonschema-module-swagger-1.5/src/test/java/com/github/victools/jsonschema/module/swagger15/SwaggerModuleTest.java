@@ -16,8 +16,10 @@
 
 package com.github.victools.jsonschema.module.swagger15;
 
+import com.github.victools.jsonschema.generator.AnnotationDependent;
 import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
@@ -274,6 +276,34 @@ public class SwaggerModuleTest {
         Assert.assertEquals(expectedTypeDescription, typeDescription);
     }
 
+    @Test
+    public void testDescriptionResolverSkippedWithoutAnnotation() {
+        new SwaggerModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withDescriptionResolver(captor.capture());
+        Assert.assertTrue(captor.getValue() instanceof AnnotationDependent);
+    }
+
+    @Test
+    public void testDescriptionResolverInSubclass() {
+        new SwaggerModule() {
+            @Override
+            protected String resolveDescription(MemberScope<?, ?> member) {
+                return "overridden " + member.getName();
+            }
+        }.applyToConfigBuilder(this.configBuilder);
+
+        TestType testType = new TestType(TestClassForDescription.class);
+        FieldScope field = testType.getMemberField("unannotatedField");
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withDescriptionResolver(captor.capture());
+        Assert.assertFalse(captor.getValue() instanceof AnnotationDependent);
+        // the overridden resolver may not depend on the module's annotations, i.e. it must not be skipped
+        Assert.assertEquals("overridden unannotatedField", this.fieldConfigPart.resolveDescription(field));
+    }
+
     Object parametersForTestDescriptionResolverWithNoApiModelDescription() {
         return new Object[][]{
             {"unannotatedField", null},